@@ -0,0 +1,95 @@
+package com.kjh.spacebook.common.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 작업 종류별 @Async 스레드 풀. 큐 크기를 제한하고, 큐가 차면 풀마다 정한 방식으로 거절한다.
+// 큐 길이 · 활성 스레드 수(executor.queued, executor.active)는 actuator가 빈 이름으로 등록하고,
+// 여기서는 대기 · 실행 시간(executor.idle, executor)과 거절 횟수(executor.rejected)를 더한다.
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+    public static final String LLM_EXECUTOR = "llmExecutor";
+    public static final String MAINTENANCE_EXECUTOR = "maintenanceExecutor";
+
+    private final AsyncProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // 외부 AI 호출이 밀리면 요청 스레드까지 묶이지 않도록 바로 거절한다.
+    @Bean(LLM_EXECUTOR)
+    public ThreadPoolTaskExecutor llmExecutor() {
+        return createExecutor(LLM_EXECUTOR, properties.llm(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 대기 전환처럼 잃으면 안 되는 후처리는 큐가 차면 호출 스레드에서 처리한다.
+    @Bean(MAINTENANCE_EXECUTOR)
+    public ThreadPoolTaskExecutor maintenanceExecutor() {
+        return createExecutor(MAINTENANCE_EXECUTOR, properties.maintenance(), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return maintenanceExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("비동기 작업 실패: {}.{}",
+                method.getDeclaringClass().getSimpleName(), method.getName(), e);
+    }
+
+    ThreadPoolTaskExecutor createExecutor(String name, AsyncProperties.Pool pool, RejectedExecutionHandler rejectionPolicy) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name.replace("Executor", "") + "-");
+        executor.setCorePoolSize(pool.coreSize());
+        executor.setMaxPoolSize(pool.maxSize());
+        executor.setQueueCapacity(pool.queueCapacity());
+        executor.setRejectedExecutionHandler(counted(name, rejectionPolicy));
+        executor.setTaskDecorator(timed(name));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationMillis(pool.awaitTermination().toMillis());
+        return executor;
+    }
+
+    private TaskDecorator timed(String name) {
+        Timer idle = Timer.builder("executor.idle").tag("name", name).register(meterRegistry);
+        Timer execution = Timer.builder("executor").tag("name", name).register(meterRegistry);
+
+        return task -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                idle.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    execution.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
+
+    private RejectedExecutionHandler counted(String name, RejectedExecutionHandler rejectionPolicy) {
+        Counter rejected = Counter.builder("executor.rejected").tag("name", name).register(meterRegistry);
+
+        return (task, executor) -> {
+            rejected.increment();
+            rejectionPolicy.rejectedExecution(task, executor);
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.kjh.spacebook.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "async")
+public record AsyncProperties(
+        @Valid @NotNull Pool llm,
+        @Valid @NotNull Pool maintenance
+) {
+
+    public record Pool(
+            @Positive int coreSize,
+            @Positive int maxSize,
+            @PositiveOrZero int queueCapacity,
+            // 종료 시 실행 중이거나 큐에 남은 작업을 기다리는 최대 시간
+            @NotNull Duration awaitTermination
+    ) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.kjh.spacebook.common.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+// 공간 · 사용자 엔티티의 Hibernate 2차 캐시 영역. id 조회와 지연 로딩을 DB 대신 프로세스 내 캐시에서 처리한다.
+// 엔티티를 통한 변경(수정, 소프트 삭제, 상태 변경)은 READ_WRITE 전략으로 커밋 시점에 캐시에 반영된다.
+// 인스턴스 간 공유는 하지 않으므로 다른 인스턴스의 변경은 영역별 TTL 안에서만 늦게 보일 수 있다.
+@Configuration
+@RequiredArgsConstructor
+public class SecondLevelCacheConfig {
+    public static final String SPACE_REGION = "space";
+    public static final String USER_REGION = "user";
+
+    private final SecondLevelCacheProperties properties;
+
+    // 캐시 매니저는 세션 팩토리가 종료될 때 Hibernate가 닫으므로 컨텍스트마다 새로 만든다.
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, createCacheManager());
+    }
+
+    CacheManager createCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("spacebook-second-level-cache-" + UUID.randomUUID()),
+                provider.getDefaultClassLoader()
+        );
+        cacheManager.createCache(SPACE_REGION, configuration(properties.space()));
+        cacheManager.createCache(USER_REGION, configuration(properties.user()));
+        return cacheManager;
+    }
+
+    private CaffeineConfiguration<Object, Object> configuration(SecondLevelCacheProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.maxSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(region.timeToLive().toNanos()));
+        return configuration;
+    }
+}
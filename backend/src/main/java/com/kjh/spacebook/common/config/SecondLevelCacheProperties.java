@@ -0,0 +1,24 @@
+package com.kjh.spacebook.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "second-level-cache")
+public record SecondLevelCacheProperties(
+        @Valid @NotNull Region space,
+        @Valid @NotNull Region user
+) {
+
+    public record Region(
+            @Positive long maxSize,
+            // Hibernate를 거치지 않은 변경(직접 SQL 등)이 캐시에 남아 있을 수 있는 최대 시간
+            @NotNull Duration timeToLive
+    ) {
+    }
+}
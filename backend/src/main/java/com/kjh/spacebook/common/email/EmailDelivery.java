@@ -0,0 +1,9 @@
+package com.kjh.spacebook.common.email;
+
+// 수신자별 발송 결과. error가 없으면 SendGrid가 접수한 것이다.
+public record EmailDelivery(EmailRecipient recipient, String error) {
+
+    public boolean isSent() {
+        return error == null;
+    }
+}
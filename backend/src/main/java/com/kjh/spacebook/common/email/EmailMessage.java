@@ -0,0 +1,4 @@
+package com.kjh.spacebook.common.email;
+
+public record EmailMessage(String subject, String body) {
+}
@@ -0,0 +1,96 @@
+package com.kjh.spacebook.common.email;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 발송할 메일. 예약 변경과 같은 트랜잭션에서 쌓이고, 본문은 발송 시점에 예약 정보로 만든다.
+@Entity
+@Table(
+        name = "email_outbox",
+        indexes = @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailOutbox {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private EmailType type;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(name = "reservation_id")
+    private Long reservationId;
+
+    @Column(name = "series_id")
+    private Long seriesId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EmailOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    private EmailOutbox(EmailType type, String recipient, Long reservationId, Long seriesId) {
+        this.type = type;
+        this.recipient = recipient;
+        this.reservationId = reservationId;
+        this.seriesId = seriesId;
+        this.status = EmailOutboxStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    public static EmailOutbox of(EmailType type, String recipient, Long reservationId, Long seriesId) {
+        return new EmailOutbox(type, recipient, reservationId, seriesId);
+    }
+
+    // 발송하는 동안 다른 디스패처가 가져가지 않도록 표시한다. 결과를 남기지 못하고 leaseUntil이 지나면 다시 발송 대상이 된다.
+    public void markSending(LocalDateTime leaseUntil) {
+        this.status = EmailOutboxStatus.SENDING;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markSent(LocalDateTime now) {
+        this.status = EmailOutboxStatus.SENT;
+        this.attempts++;
+        this.sentAt = now;
+    }
+
+    // 최대 시도 횟수를 넘기면 더 이상 재시도하지 않는다.
+    public void markFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH
+                ? error
+                : error.substring(0, MAX_ERROR_LENGTH);
+        if (attempts >= maxAttempts) {
+            this.status = EmailOutboxStatus.FAILED;
+            return;
+        }
+        this.status = EmailOutboxStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
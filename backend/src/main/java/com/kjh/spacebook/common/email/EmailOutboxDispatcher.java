@@ -0,0 +1,115 @@
+package com.kjh.spacebook.common.email;
+
+import com.kjh.spacebook.common.service.EmailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// email_outbox를 주기적으로 읽어 메일을 발송한다. 폴링 간격 동안 쌓인 메일이 한 번에 묶여 나간다. 실패한 메일은 지수 백오프로 재시도한다.
+// 행 잠금은 SENDING으로 가져가는 짧은 트랜잭션 동안만 잡고, SendGrid 호출은 트랜잭션 밖에서 한 뒤 결과를 다시 짧은 트랜잭션으로 남긴다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailOutboxDispatcher {
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final SendGridClient sendGridClient;
+    private final TransactionTemplate transactionTemplate;
+    private final EmailOutboxProperties properties;
+
+    // 스케줄러 스레드에서 직접 실행하므로 fixedDelay에 따라 이전 폴링이 끝난 뒤에만 다음 폴링이 시작된다.
+    @Scheduled(fixedDelayString = "${sendgrid.outbox.poll-interval}")
+    public void dispatch() {
+        int dispatched;
+        do {
+            dispatched = dispatchBatch();
+        } while (dispatched == properties.batchSize());
+    }
+
+    // 한 번에 가져간 메일을 종류별로 묶어 종류마다 SendGrid 요청 하나로 보낸다.
+    int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        Claimed claimed = transactionTemplate.execute(status -> claim(now));
+        if (claimed == null || claimed.size() == 0) {
+            return 0;
+        }
+
+        List<EmailDelivery> deliveries = new ArrayList<>(claimed.failures());
+        claimed.recipients().forEach((type, group) ->
+                deliveries.addAll(sendGridClient.send(emailService.template(type), group)));
+
+        transactionTemplate.executeWithoutResult(status -> saveResults(deliveries, now));
+        return claimed.size();
+    }
+
+    // 발송할 메일을 SENDING으로 바꾸고, 본문에 들어갈 예약 정보도 이 트랜잭션에서 읽어 둔다.
+    private Claimed claim(LocalDateTime now) {
+        List<EmailOutbox> batch = emailOutboxRepository.findDispatchable(now, properties.batchSize());
+
+        Map<EmailType, List<EmailRecipient>> recipients = new EnumMap<>(EmailType.class);
+        List<EmailDelivery> failures = new ArrayList<>();
+        for (EmailOutbox outbox : batch) {
+            outbox.markSending(now.plus(properties.lease()));
+            try {
+                EmailRecipient recipient = new EmailRecipient(
+                        outbox.getId(), outbox.getRecipient(), emailService.substitutions(outbox));
+                recipients.computeIfAbsent(outbox.getType(), type -> new ArrayList<>()).add(recipient);
+            } catch (RuntimeException e) {
+                failures.add(new EmailDelivery(
+                        new EmailRecipient(outbox.getId(), outbox.getRecipient(), Map.of()), e.getMessage()));
+            }
+        }
+        return new Claimed(batch.size(), recipients, failures);
+    }
+
+    // lease가 지나 다른 디스패처가 결과를 먼저 남긴 메일은 건드리지 않는다.
+    private void saveResults(List<EmailDelivery> deliveries, LocalDateTime now) {
+        Map<Long, EmailOutbox> outboxes = emailOutboxRepository.findAllById(deliveries.stream()
+                        .map(delivery -> delivery.recipient().outboxId())
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(EmailOutbox::getId, Function.identity()));
+
+        for (EmailDelivery delivery : deliveries) {
+            EmailOutbox outbox = outboxes.get(delivery.recipient().outboxId());
+            if (outbox == null || outbox.getStatus() != EmailOutboxStatus.SENDING) {
+                continue;
+            }
+            if (delivery.isSent()) {
+                outbox.markSent(now);
+            } else {
+                fail(outbox, delivery.error(), now);
+            }
+        }
+    }
+
+    private void fail(EmailOutbox outbox, String error, LocalDateTime now) {
+        outbox.markFailed(error, now.plus(backoff(outbox.getAttempts())), properties.maxAttempts());
+        log.warn("이메일 발송 실패: id={}, attempts={}, status={}, error={}",
+                outbox.getId(), outbox.getAttempts(), outbox.getStatus(), error);
+    }
+
+    // initialBackoff * 2^attempts, 최대 maxBackoff
+    Duration backoff(int attempts) {
+        Duration backoff = properties.initialBackoff().multipliedBy(1L << Math.min(attempts, 20));
+        return backoff.compareTo(properties.maxBackoff()) > 0 ? properties.maxBackoff() : backoff;
+    }
+
+    private record Claimed(
+            int size,
+            Map<EmailType, List<EmailRecipient>> recipients,
+            List<EmailDelivery> failures
+    ) {
+    }
+}
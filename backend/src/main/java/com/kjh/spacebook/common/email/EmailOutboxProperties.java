@@ -0,0 +1,21 @@
+package com.kjh.spacebook.common.email;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "sendgrid.outbox")
+public record EmailOutboxProperties(
+        @NotNull Duration pollInterval,
+        @Positive int batchSize,
+        @Positive int maxAttempts,
+        @NotNull Duration initialBackoff,
+        @NotNull Duration maxBackoff,
+        // 가져간 메일을 발송 결과 없이 붙잡아 둘 수 있는 시간. 지나면 다른 디스패처가 다시 가져간다.
+        @NotNull Duration lease
+) {
+}
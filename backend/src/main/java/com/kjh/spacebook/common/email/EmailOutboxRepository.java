@@ -0,0 +1,25 @@
+package com.kjh.spacebook.common.email;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // 다른 인스턴스가 잡은 행은 건너뛰므로 여러 디스패처가 같은 메일을 중복 발송하지 않는다.
+    // SENDING은 lease(next_attempt_at)가 지난 것, 즉 발송 결과를 남기지 못한 것만 다시 가져간다.
+    @Query(value = "SELECT * FROM email_outbox " +
+            "WHERE status IN ('PENDING', 'SENDING') " +
+            "AND next_attempt_at <= :now " +
+            "ORDER BY id " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<EmailOutbox> findDispatchable(
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit
+    );
+}
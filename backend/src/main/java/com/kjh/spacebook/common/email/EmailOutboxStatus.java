@@ -0,0 +1,8 @@
+package com.kjh.spacebook.common.email;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.kjh.spacebook.common.email;
+
+import java.util.Map;
+
+// 같은 템플릿으로 묶어 보내는 메일의 수신자 한 명. substitutions로 템플릿의 태그를 채운다.
+public record EmailRecipient(Long outboxId, String email, Map<String, String> substitutions) {
+}
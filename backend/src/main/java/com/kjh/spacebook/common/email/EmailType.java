@@ -0,0 +1,9 @@
+package com.kjh.spacebook.common.email;
+
+public enum EmailType {
+    RESERVATION_CONFIRM,
+    RESERVATION_CANCEL,
+    WAITLIST_PROMOTED,
+    RESERVATION_SERIES_CONFIRM,
+    RESERVATION_SERIES_CANCEL
+}
@@ -0,0 +1,96 @@
+package com.kjh.spacebook.common.email;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 같은 템플릿의 메일을 /v3/mail/send 한 번에 여러 personalizations로 묶어 보낸다.
+@Slf4j
+@Component
+public class SendGridClient {
+    private final RestTemplate restTemplate;
+    private final SendGridProperties properties;
+
+    public SendGridClient(RestTemplateBuilder restTemplateBuilder, SendGridProperties properties) {
+        this.restTemplate = restTemplateBuilder
+                .connectTimeout(properties.connectTimeout())
+                .readTimeout(properties.readTimeout())
+                .build();
+        this.properties = properties;
+    }
+
+    public List<EmailDelivery> send(EmailMessage template, List<EmailRecipient> recipients) {
+        List<EmailDelivery> deliveries = new ArrayList<>(recipients.size());
+        for (int from = 0; from < recipients.size(); from += properties.maxPersonalizations()) {
+            List<EmailRecipient> chunk = recipients.subList(
+                    from, Math.min(from + properties.maxPersonalizations(), recipients.size()));
+            deliveries.addAll(sendChunk(template, chunk));
+        }
+        return deliveries;
+    }
+
+    private List<EmailDelivery> sendChunk(EmailMessage template, List<EmailRecipient> chunk) {
+        String error;
+        try {
+            post(template, chunk);
+            log.info("이메일 발송 완료: {}건", chunk.size());
+            error = null;
+        } catch (HttpClientErrorException.BadRequest e) {
+            // 잘못된 수신자 하나 때문에 요청 전체가 거절되므로, 한 명씩 다시 보내 실패한 수신자만 가려낸다.
+            if (chunk.size() > 1) {
+                log.warn("묶음 발송 거절, 수신자별로 재발송: {}건", chunk.size());
+                return chunk.stream()
+                        .flatMap(recipient -> sendChunk(template, List.of(recipient)).stream())
+                        .toList();
+            }
+            error = e.getMessage();
+        } catch (RestClientException e) {
+            error = e.getMessage();
+        }
+
+        String result = error;
+        return chunk.stream()
+                .map(recipient -> new EmailDelivery(recipient, result))
+                .toList();
+    }
+
+    private void post(EmailMessage template, List<EmailRecipient> chunk) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(properties.apiKey());
+
+        // custom_args의 outbox_id로 이벤트 웹훅의 결과를 outbox 행과 연결할 수 있다.
+        List<Map<String, Object>> personalizations = chunk.stream()
+                .map(recipient -> Map.<String, Object>of(
+                        "to", List.of(Map.of("email", recipient.email())),
+                        "substitutions", recipient.substitutions(),
+                        "custom_args", Map.of("outbox_id", String.valueOf(recipient.outboxId()))
+                ))
+                .toList();
+
+        Map<String, Object> requestBody = Map.of(
+                "personalizations", personalizations,
+                "from", Map.of(
+                        "email", properties.fromEmail(),
+                        "name", "SpaceBook"
+                ),
+                "subject", template.subject(),
+                "content", List.of(Map.of(
+                        "type", "text/plain",
+                        "value", template.body()
+                ))
+        );
+
+        restTemplate.postForEntity(properties.url(), new HttpEntity<>(requestBody, headers), String.class);
+    }
+}
@@ -0,0 +1,23 @@
+package com.kjh.spacebook.common.email;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "sendgrid")
+public record SendGridProperties(
+        @NotBlank String apiKey,
+        @NotBlank String fromEmail,
+        @NotBlank String url,
+        // SendGrid는 요청 하나에 personalizations를 최대 1000개까지 허용한다.
+        @Positive @Max(1000) int maxPersonalizations,
+        @NotNull Duration connectTimeout,
+        @NotNull Duration readTimeout
+) {
+}
@@ -0,0 +1,14 @@
+package com.kjh.spacebook.common.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum CommonErrorCode implements ErrorCode {
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 커서입니다. 처음부터 다시 조회해주세요.");
+
+    private final HttpStatus status;
+    private final String message;
+}
@@ -0,0 +1,42 @@
+package com.kjh.spacebook.common.response;
+
+import com.kjh.spacebook.common.exception.BusinessException;
+import com.kjh.spacebook.common.exception.CommonErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 키셋 페이지네이션 위치. 마지막으로 받은 행의 정렬 키와 id를 담고, 클라이언트에는 불투명한 문자열로 준다.
+// 정렬은 (key DESC, id DESC)이고 다음 페이지는 이 위치보다 뒤의 행부터 읽는다.
+public record Cursor(
+        LocalDateTime key,
+        Long id
+) {
+    private static final String SEPARATOR = "|";
+
+    // 첫 페이지. 모든 행보다 앞선 위치로 두어 쿼리에 NULL 분기가 필요 없게 한다.
+    private static final Cursor FIRST = new Cursor(LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE);
+
+    public static Cursor decode(String value) {
+        if (value == null || value.isEmpty()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            return new Cursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException(CommonErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((key + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,26 @@
+package com.kjh.spacebook.common.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Schema(description = "커서 기반 목록 응답")
+public record CursorResponse<T>(
+        @Schema(description = "목록") List<T> content,
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNi0wMy0wMVQxMDowMHw0Mg") String nextCursor,
+        @Schema(description = "다음 페이지 존재 여부", example = "true") boolean hasNext
+) {
+    // size + 1개를 조회해 넘치는 행이 있으면 다음 페이지가 있는 것으로 본다. (COUNT 쿼리 없음)
+    public static <T> CursorResponse<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorResponse<>(rows, null, false);
+        }
+        List<T> content = rows.subList(0, size);
+        return new CursorResponse<>(content, cursorOf.apply(content.get(size - 1)).encode(), true);
+    }
+
+    public <R> CursorResponse<R> map(Function<T, R> mapper) {
+        return new CursorResponse<>(content.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,8 @@
+package com.kjh.spacebook.common.response;
+
+// 응답 본문과, 본문을 읽기 전에 확인한 버전(ETag 값)
+public record Versioned<T>(
+        String version,
+        T body
+) {
+}
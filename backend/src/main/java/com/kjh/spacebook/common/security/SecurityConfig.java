@@ -8,6 +8,7 @@ import com.kjh.spacebook.domain.auth.exception.AuthErrorCode;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 
 import org.springframework.http.HttpStatus;
@@ -53,8 +54,10 @@ public class SecurityConfig {
                                 "/webjars/**")
                         .permitAll()
                         .requestMatchers("/api/v1/auth/signup", "/api/v1/auth/login", "/api/v1/auth/reissue").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/v1/spaces", "/api/v1/spaces/{spaceId}", "/api/v1/spaces/{spaceId}/reserved-times").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/spaces", "/api/v1/spaces/scroll", "/api/v1/spaces/facets", "/api/v1/spaces/nearby", "/api/v1/spaces/{spaceId}", "/api/v1/spaces/{spaceId}/reserved-times", "/api/v1/spaces/{spaceId}/availability").permitAll()
+                        // 헬스 체크만 공개하고, 운영 지표는 관리자만 조회한다.
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/healthz").permitAll()
                         .anyRequest().authenticated())
@@ -92,6 +95,7 @@ public class SecurityConfig {
         config.addAllowedOriginPattern("*");
         config.addAllowedMethod("*");
         config.addAllowedHeader("*");
+        config.addExposedHeader(HttpHeaders.ETAG);
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
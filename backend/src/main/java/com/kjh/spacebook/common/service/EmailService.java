@@ -1,107 +1,157 @@
 package com.kjh.spacebook.common.service;
 
+import com.kjh.spacebook.common.email.EmailMessage;
+import com.kjh.spacebook.common.email.EmailOutbox;
+import com.kjh.spacebook.common.email.EmailOutboxRepository;
+import com.kjh.spacebook.common.email.EmailType;
 import com.kjh.spacebook.domain.reservation.entity.Reservation;
+import com.kjh.spacebook.domain.reservation.entity.ReservationSeries;
+import com.kjh.spacebook.domain.reservation.enums.ReservationStatus;
+import com.kjh.spacebook.domain.reservation.repository.ReservationRepository;
+import com.kjh.spacebook.domain.reservation.repository.ReservationSeriesRepository;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 import java.util.Map;
 
-@Slf4j
+// send* 메서드는 메일을 email_outbox에 쌓기만 한다. 호출한 트랜잭션이 커밋되어야 EmailOutboxDispatcher가 발송한다.
 @Service
 @RequiredArgsConstructor
 public class EmailService {
-    private final RestTemplate restTemplate;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationSeriesRepository reservationSeriesRepository;
 
-    @Value("${sendgrid.api-key}")
-    private String apiKey;
-
-    @Value("${sendgrid.from-email}")
-    private String fromEmail;
-
-    private static final String SENDGRID_API_URL = "https://api.sendgrid.com/v3/mail/send";
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
-    @Async
+    @Transactional(propagation = Propagation.MANDATORY)
     public void sendReservationConfirm(String toEmail, Reservation reservation) {
-        String subject = "[SpaceBook] 예약이 확정되었습니다.";
-        String body = String.format(
-                """
-                안녕하세요, SpaceBook입니다.
-
-                예약이 확정되었습니다.
-
-                ■ 공간: %s
-                ■ 일시: %s ~ %s
-                ■ 인원: %d명
-                ■ 총 금액: %,d원
-
-                감사합니다.""",
-                reservation.getSpace().getSpaceName(),
-                reservation.getStartTime().format(FORMATTER),
-                reservation.getEndTime().format(FORMATTER),
-                reservation.getPeopleCount(),
-                reservation.getTotalPrice()
-        );
-
-        send(toEmail, subject, body);
+        enqueue(EmailType.RESERVATION_CONFIRM, toEmail, reservation.getId(), null);
     }
 
-    @Async
+    @Transactional(propagation = Propagation.MANDATORY)
     public void sendReservationCancel(String toEmail, Reservation reservation) {
-        String subject = "[SpaceBook] 예약이 취소되었습니다.";
-        String body = String.format(
-                """
-                안녕하세요, SpaceBook입니다.
+        enqueue(EmailType.RESERVATION_CANCEL, toEmail, reservation.getId(), null);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendReservationSeriesCancel(String toEmail, ReservationSeries series) {
+        enqueue(EmailType.RESERVATION_SERIES_CANCEL, toEmail, null, series.getId());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(EmailType type, String toEmail, Long reservationId, Long seriesId) {
+        emailOutboxRepository.save(EmailOutbox.of(type, toEmail, reservationId, seriesId));
+    }
+
+    // 메일 종류별 템플릿. -태그-는 수신자별 substitutions로 SendGrid가 채운다.
+    public EmailMessage template(EmailType type) {
+        return switch (type) {
+            case RESERVATION_CONFIRM -> new EmailMessage(
+                    "[SpaceBook] 예약이 확정되었습니다.",
+                    """
+                    안녕하세요, SpaceBook입니다.
+
+                    예약이 확정되었습니다.
+
+                    ■ 공간: -space-
+                    ■ 일시: -startTime- ~ -endTime-
+                    ■ 인원: -peopleCount-명
+                    ■ 총 금액: -totalPrice-원
+
+                    감사합니다.""");
+            case RESERVATION_CANCEL -> new EmailMessage(
+                    "[SpaceBook] 예약이 취소되었습니다.",
+                    """
+                    안녕하세요, SpaceBook입니다.
+
+                    예약이 취소되었습니다.
+
+                    ■ 공간: -space-
+                    ■ 일시: -startTime- ~ -endTime-
 
-                예약이 취소되었습니다.
+                    감사합니다.""");
+            case WAITLIST_PROMOTED -> new EmailMessage(
+                    "[SpaceBook] 대기하신 시간대가 예약되었습니다.",
+                    """
+                    안녕하세요, SpaceBook입니다.
 
-                ■ 공간: %s
-                ■ 일시: %s ~ %s
+                    대기 신청하신 시간대에 자리가 생겨 예약이 확정되었습니다.
 
-                감사합니다.""",
-                reservation.getSpace().getSpaceName(),
-                reservation.getStartTime().format(FORMATTER),
-                reservation.getEndTime().format(FORMATTER)
+                    ■ 공간: -space-
+                    ■ 일시: -startTime- ~ -endTime-
+                    ■ 인원: -peopleCount-명
+                    ■ 총 금액: -totalPrice-원
+
+                    감사합니다.""");
+            case RESERVATION_SERIES_CONFIRM -> new EmailMessage(
+                    "[SpaceBook] 반복 예약이 확정되었습니다.",
+                    """
+                    안녕하세요, SpaceBook입니다.
+
+                    반복 예약이 확정되었습니다.
+
+                    ■ 공간: -space-
+                    ■ 첫 일정: -startTime- ~ -endTime-
+                    ■ 반복: -recurrence-, 총 -occurrenceCount-회
+
+                    감사합니다.""");
+            case RESERVATION_SERIES_CANCEL -> new EmailMessage(
+                    "[SpaceBook] 반복 예약이 취소되었습니다.",
+                    """
+                    안녕하세요, SpaceBook입니다.
+
+                    반복 예약이 취소되었습니다.
+
+                    ■ 공간: -space-
+                    ■ 반복: -recurrence-, 총 -occurrenceCount-회 중 -cancelledCount-회 취소
+
+                    감사합니다.""");
+        };
+    }
+
+    // 발송 시점의 예약 정보로 템플릿의 태그 값을 만든다. EmailOutboxDispatcher의 트랜잭션 안에서 호출된다.
+    public Map<String, String> substitutions(EmailOutbox outbox) {
+        return switch (outbox.getType()) {
+            case RESERVATION_CONFIRM, RESERVATION_CANCEL, WAITLIST_PROMOTED ->
+                    reservationSubstitutions(findReservation(outbox));
+            case RESERVATION_SERIES_CONFIRM, RESERVATION_SERIES_CANCEL ->
+                    seriesSubstitutions(findSeries(outbox));
+        };
+    }
+
+    private Map<String, String> reservationSubstitutions(Reservation reservation) {
+        return Map.of(
+                "-space-", reservation.getSpace().getSpaceName(),
+                "-startTime-", reservation.getStartTime().format(FORMATTER),
+                "-endTime-", reservation.getEndTime().format(FORMATTER),
+                "-peopleCount-", String.valueOf(reservation.getPeopleCount()),
+                "-totalPrice-", String.format("%,d", reservation.getTotalPrice())
         );
+    }
+
+    private Map<String, String> seriesSubstitutions(ReservationSeries series) {
+        return Map.of(
+                "-space-", series.getSpace().getSpaceName(),
+                "-startTime-", series.getFirstStartTime().format(FORMATTER),
+                "-endTime-", series.getFirstEndTime().format(FORMATTER),
+                "-recurrence-", series.getRecurrenceType().getLabel(),
+                "-occurrenceCount-", String.valueOf(series.getOccurrenceCount()),
+                "-cancelledCount-", String.valueOf(
+                        reservationRepository.countBySeriesAndStatus(series, ReservationStatus.CANCELLED))
+        );
+    }
 
-        send(toEmail, subject, body);
+    private Reservation findReservation(EmailOutbox outbox) {
+        return reservationRepository.findWithSpaceById(outbox.getReservationId())
+                .orElseThrow(() -> new IllegalStateException("예약을 찾을 수 없습니다: " + outbox.getReservationId()));
     }
 
-    private void send(String to, String subject, String body) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
-
-            Map<String, Object> requestBody = Map.of(
-                    "personalizations", List.of(Map.of(
-                            "to", List.of(Map.of("email", to))
-                    )),
-                    "from", Map.of(
-                            "email", fromEmail,
-                            "name", "SpaceBook"
-                    ),
-                    "subject", subject,
-                    "content", List.of(Map.of(
-                            "type", "text/plain",
-                            "value", body
-                    ))
-            );
-
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            restTemplate.postForEntity(SENDGRID_API_URL, request, String.class);
-            log.info("이메일 발송 완료: {}", to);
-        } catch (Exception e) {
-            log.error("이메일 발송 실패: {}", to, e);
-        }
+    private ReservationSeries findSeries(EmailOutbox outbox) {
+        return reservationSeriesRepository.findById(outbox.getSeriesId())
+                .orElseThrow(() -> new IllegalStateException("반복 예약을 찾을 수 없습니다: " + outbox.getSeriesId()));
     }
 }
@@ -9,7 +9,8 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public enum RecommendationErrorCode implements ErrorCode {
     AI_PARSE_FAILED(HttpStatus.BAD_REQUEST, "검색 조건을 추출할 수 없습니다. 다시 입력해주세요."),
-    AI_API_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "AI 서비스에 일시적인 문제가 발생했습니다.");
+    AI_API_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "AI 서비스에 일시적인 문제가 발생했습니다."),
+    AI_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "AI 요청이 많습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus status;
     private final String message;
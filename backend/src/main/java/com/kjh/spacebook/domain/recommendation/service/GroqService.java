@@ -2,6 +2,7 @@ package com.kjh.spacebook.domain.recommendation.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kjh.spacebook.common.config.AsyncConfig;
 import com.kjh.spacebook.common.exception.BusinessException;
 import com.kjh.spacebook.domain.recommendation.exception.RecommendationErrorCode;
 import com.kjh.spacebook.domain.space.enums.SpaceType;
@@ -11,11 +12,13 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -53,6 +56,12 @@ public class GroqService {
             사용자 입력: "%s"
             """;
 
+    // 동시에 나가는 AI 호출 수를 llm 풀 크기로 제한한다. 풀과 큐가 차면 TaskRejectedException이 난다.
+    @Async(AsyncConfig.LLM_EXECUTOR)
+    public CompletableFuture<SearchCondition> extractConditionAsync(String query) {
+        return CompletableFuture.completedFuture(extractCondition(query));
+    }
+
     public SearchCondition extractCondition(String query) {
         try {
             String prompt = String.format(PROMPT, query);
@@ -1,13 +1,17 @@
 package com.kjh.spacebook.domain.recommendation.service;
 
+import com.kjh.spacebook.common.exception.BusinessException;
+import com.kjh.spacebook.domain.recommendation.exception.RecommendationErrorCode;
 import com.kjh.spacebook.domain.space.dto.response.SpaceListResponse;
-import com.kjh.spacebook.domain.space.entity.Space;
 import com.kjh.spacebook.domain.space.repository.SpaceRepository;
+import com.kjh.spacebook.domain.space.service.SpaceLocationIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.concurrent.CompletionException;
 
 @Service
 @RequiredArgsConstructor
@@ -15,18 +19,40 @@ import java.util.List;
 public class RecommendationService {
     private final GroqService groqService;
     private final SpaceRepository spaceRepository;
+    private final SpaceLocationIndex spaceLocationIndex;
 
     public List<SpaceListResponse> recommend(String query) {
-        GroqService.SearchCondition condition = groqService.extractCondition(query);
+        GroqService.SearchCondition condition = extractCondition(query);
 
-        List<Space> spaces = spaceRepository.searchByConditions(
-                condition.location(),
-                condition.capacity(),
-                condition.spaceType()
-        );
+        return search(condition);
+    }
+
+    private List<SpaceListResponse> search(GroqService.SearchCondition condition) {
+        if (condition.location() == null || condition.location().isEmpty()) {
+            return spaceRepository.searchByConditions(null, condition.capacity(), condition.spaceType());
+        }
+
+        List<Long> spaceIds = spaceLocationIndex.search(condition.location());
+        if (spaceIds.isEmpty()) {
+            return List.of();
+        }
+        if (spaceIds.size() > SpaceLocationIndex.MAX_ID_CANDIDATES) {
+            return spaceRepository.searchByConditions(
+                    condition.location(), condition.capacity(), condition.spaceType());
+        }
+        return spaceRepository.searchByConditionsByIdIn(spaceIds, condition.capacity(), condition.spaceType());
+    }
 
-        return spaces.stream()
-                .map(SpaceListResponse::from)
-                .toList();
+    private GroqService.SearchCondition extractCondition(String query) {
+        try {
+            return groqService.extractConditionAsync(query).join();
+        } catch (TaskRejectedException e) {
+            throw new BusinessException(RecommendationErrorCode.AI_BUSY);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 }
@@ -0,0 +1,19 @@
+package com.kjh.spacebook.domain.reservation.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "booking.archive")
+public record ArchiveProperties(
+        // 종료 후 이 기간이 지난 예약을 보관 테이블로 옮긴다.
+        @NotNull Duration retention,
+        @Positive int batchSize,
+        @NotBlank String cron
+) {
+}
@@ -0,0 +1,82 @@
+package com.kjh.spacebook.domain.reservation.archive;
+
+import com.kjh.spacebook.common.config.AsyncConfig;
+import com.kjh.spacebook.domain.reservation.enums.ReservationStatus;
+import com.kjh.spacebook.domain.reservation.event.ReservationArchivedEvent;
+import com.kjh.spacebook.domain.reservation.repository.ArchivedReservationRepository;
+import com.kjh.spacebook.domain.reservation.repository.ReservationRepository;
+import com.kjh.spacebook.domain.reservation.repository.ReservationSlotRepository;
+import com.kjh.spacebook.domain.reservation.repository.WaitlistEntryRepository;
+import com.kjh.spacebook.domain.reservation.service.AvailabilityIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 종료 후 보관 기간이 지난 예약을 reservations_archive로 옮겨 예약 테이블과 인덱스를 작게 유지한다.
+// id 기준 키셋으로 묶음을 나누고, 묶음마다 별도 트랜잭션으로 복사 후 삭제한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationArchiver {
+    private final ReservationRepository reservationRepository;
+    private final ArchivedReservationRepository archivedReservationRepository;
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArchiveProperties properties;
+
+    @Async(AsyncConfig.MAINTENANCE_EXECUTOR)
+    @Scheduled(cron = "${booking.archive.cron}")
+    public void archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.retention());
+        long lastId = 0L;
+        int archived = 0;
+
+        while (true) {
+            List<Long> ids = reservationRepository.findArchivableIds(
+                    lastId,
+                    cutoff,
+                    ReservationStatus.HOLD,
+                    PageRequest.of(0, properties.batchSize())
+            );
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> archiveBatch(ids));
+            archived += ids.size();
+            lastId = ids.get(ids.size() - 1);
+
+            if (ids.size() < properties.batchSize()) {
+                break;
+            }
+        }
+
+        log.info("지난 예약 보관 완료: {}건 (기준 {})", archived, cutoff);
+    }
+
+    // 점유 중이던 예약은 커밋 후 해당 날짜의 예약 현황 버전(ETag)을 올리도록 이벤트를 남긴다.
+    void archiveBatch(List<Long> ids) {
+        reservationRepository.findAllById(ids).stream()
+                .filter(reservation -> AvailabilityIndex.OCCUPYING_STATUSES.contains(reservation.getStatus()))
+                .forEach(reservation -> eventPublisher.publishEvent(new ReservationArchivedEvent(
+                        reservation.getSpace().getId(),
+                        reservation.getStartTime(),
+                        reservation.getEndTime()
+                )));
+
+        archivedReservationRepository.copyFromReservations(ids, LocalDateTime.now());
+        reservationSlotRepository.deleteAllByReservationIdIn(ids);
+        waitlistEntryRepository.detachReservations(ids);
+        reservationRepository.deleteAllByIdIn(ids);
+    }
+}
@@ -1,15 +1,23 @@
 package com.kjh.spacebook.domain.reservation.controller;
 
 import com.kjh.spacebook.common.response.ApiResponse;
+import com.kjh.spacebook.common.response.CursorResponse;
+import com.kjh.spacebook.domain.reservation.dto.request.BulkReservationRequest;
 import com.kjh.spacebook.domain.reservation.dto.request.CreateReservationRequest;
+import com.kjh.spacebook.domain.reservation.dto.request.CreateReservationSeriesRequest;
+import com.kjh.spacebook.domain.reservation.dto.response.BulkReservationResponse;
 import com.kjh.spacebook.domain.reservation.dto.response.ReservationListResponse;
 import com.kjh.spacebook.domain.reservation.dto.response.ReservationResponse;
+import com.kjh.spacebook.domain.reservation.dto.response.ReservationSeriesResponse;
+import com.kjh.spacebook.domain.reservation.dto.response.WaitlistResponse;
 import com.kjh.spacebook.domain.reservation.service.ReservationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springdoc.core.annotations.ParameterObject;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -22,13 +30,17 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.validation.annotation.Validated;
 
 @Tag(name = "예약", description = "예약 생성, 내 예약 조회, 예약 취소")
 @RestController
 @RequestMapping("/api/v1/reservations")
 @RequiredArgsConstructor
+@Validated
 public class ReservationController {
     private final ReservationService reservationService;
 
@@ -36,12 +48,85 @@ public class ReservationController {
     @PostMapping
     public ResponseEntity<ApiResponse<ReservationResponse>> createReservation(
             @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+            @Parameter(description = "재시도 시 중복 예약을 막기 위한 요청 고유 키")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody CreateReservationRequest request
     ) {
-        ReservationResponse response = reservationService.createReservation(userId, request);
+        ReservationResponse response = reservationService.createReservation(userId, request, idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response));
     }
 
+    @Operation(summary = "임시 예약", description = "확정 전까지 시간대를 잠시 점유합니다. 만료 시간 안에 확정하지 않으면 자동 취소됩니다.")
+    @PostMapping("/holds")
+    public ResponseEntity<ApiResponse<ReservationResponse>> createHold(
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+            @Valid @RequestBody CreateReservationRequest request
+    ) {
+        ReservationResponse response = reservationService.createHold(userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "임시 예약 확정", description = "만료 전의 임시 예약을 확정합니다. 본인의 예약만 확정 가능합니다.")
+    @PatchMapping("/{reservationId}/confirm")
+    public ResponseEntity<ApiResponse<ReservationResponse>> confirmHold(
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+            @PathVariable("reservationId") Long reservationId
+    ) {
+        ReservationResponse response = reservationService.confirmHold(userId, reservationId);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "일괄 예약 생성", description = "여러 공간·시간대를 한 번에 예약합니다. 건별로 성공/실패 결과를 반환합니다.")
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<BulkReservationResponse>> createReservations(
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+            @Valid @RequestBody BulkReservationRequest request
+    ) {
+        BulkReservationResponse response = reservationService.createReservations(userId, request);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "반복 예약 생성", description = "매일 또는 매주 같은 시간대를 반복 예약합니다. 하나라도 겹치면 전체가 실패합니다.")
+    @PostMapping("/series")
+    public ResponseEntity<ApiResponse<ReservationSeriesResponse>> createReservationSeries(
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+            @Valid @RequestBody CreateReservationSeriesRequest request
+    ) {
+        ReservationSeriesResponse response = reservationService.createReservationSeries(userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "반복 예약 취소", description = "반복 예약 중 취소 기한이 지나지 않은 일정을 모두 취소합니다.")
+    @PatchMapping("/series/{seriesId}/cancel")
+    public ResponseEntity<ApiResponse<Void>> cancelReservationSeries(
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+            @PathVariable("seriesId") Long seriesId
+    ) {
+        int cancelledCount = reservationService.cancelReservationSeries(userId, seriesId);
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success(null, String.format("반복 예약 %d건이 취소되었습니다.", cancelledCount)));
+    }
+
+    @Operation(summary = "예약 대기 신청", description = "이미 예약된 시간대에 대기를 신청합니다. 취소가 생기면 선착순으로 자동 예약됩니다.")
+    @PostMapping("/waitlist")
+    public ResponseEntity<ApiResponse<WaitlistResponse>> joinWaitlist(
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+            @Valid @RequestBody CreateReservationRequest request
+    ) {
+        WaitlistResponse response = reservationService.joinWaitlist(userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "예약 대기 취소", description = "대기 중인 신청을 취소합니다. 본인의 신청만 취소 가능합니다.")
+    @PatchMapping("/waitlist/{waitlistId}/cancel")
+    public ResponseEntity<ApiResponse<Void>> cancelWaitlist(
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+            @PathVariable("waitlistId") Long waitlistId
+    ) {
+        reservationService.cancelWaitlist(userId, waitlistId);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(null, "예약 대기가 취소되었습니다."));
+    }
+
     @Operation(summary = "내 예약 목록 조회", description = "로그인한 사용자의 예약 목록을 조회합니다.")
     @GetMapping("/my")
     public ResponseEntity<ApiResponse<Page<ReservationListResponse>>> getMyReservations(
@@ -52,6 +137,20 @@ public class ReservationController {
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(responses));
     }
 
+    @Operation(summary = "내 예약 목록 스크롤 조회",
+            description = "로그인한 사용자의 예약 목록을 최신 일정 순으로 커서 기반 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 넘깁니다.")
+    @GetMapping("/my/scroll")
+    public ResponseEntity<ApiResponse<CursorResponse<ReservationListResponse>>> scrollMyReservations(
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "10")
+            @RequestParam(name = "size", defaultValue = "10") @Min(1) @Max(100) int size
+    ) {
+        CursorResponse<ReservationListResponse> responses = reservationService.scrollMyReservations(userId, cursor, size);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(responses));
+    }
+
     @Operation(summary = "예약 상세 조회", description = "예약의 상세 정보를 조회합니다. 본인의 예약만 조회 가능합니다.")
     @GetMapping("/{reservationId}")
     public ResponseEntity<ApiResponse<ReservationResponse>> getMyReservationDetail(
@@ -66,9 +165,11 @@ public class ReservationController {
     @PatchMapping("/{reservationId}/cancel")
     public ResponseEntity<ApiResponse<Void>> cancelReservation(
             @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+            @Parameter(description = "재시도 시 중복 취소를 막기 위한 요청 고유 키")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @PathVariable("reservationId") Long reservationId
     ) {
-        reservationService.cancelReservation(userId, reservationId);
+        reservationService.cancelReservation(userId, reservationId, idempotencyKey);
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(null, "예약이 취소되었습니다."));
     }
 }
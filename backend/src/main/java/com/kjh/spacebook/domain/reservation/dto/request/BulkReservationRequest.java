@@ -0,0 +1,15 @@
+package com.kjh.spacebook.domain.reservation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkReservationRequest(
+        @Schema(description = "예약 요청 목록 (최대 50건)")
+        @NotEmpty(message = "예약 요청은 1건 이상이어야 합니다.")
+        @Size(max = 50, message = "한 번에 최대 50건까지 예약할 수 있습니다.")
+        List<@Valid CreateReservationRequest> reservations
+) {}
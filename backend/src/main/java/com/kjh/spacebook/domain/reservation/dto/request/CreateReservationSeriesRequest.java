@@ -0,0 +1,46 @@
+package com.kjh.spacebook.domain.reservation.dto.request;
+
+import com.kjh.spacebook.domain.reservation.enums.RecurrenceType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.time.LocalDateTime;
+
+public record CreateReservationSeriesRequest(
+        @Schema(description = "공간 ID", example = "1")
+        @NotNull(message = "공간 ID는 필수입니다.")
+        Long spaceId,
+
+        @Schema(description = "첫 일정 시작 시간", example = "2026-03-03T10:00:00")
+        @NotNull(message = "예약 시작 시간은 필수입니다.")
+        LocalDateTime startTime,
+
+        @Schema(description = "첫 일정 종료 시간", example = "2026-03-03T12:00:00")
+        @NotNull(message = "예약 종료 시간은 필수입니다.")
+        LocalDateTime endTime,
+
+        @Schema(description = "반복 주기", example = "WEEKLY")
+        @NotNull(message = "반복 주기는 필수입니다.")
+        RecurrenceType recurrenceType,
+
+        @Schema(description = "반복 횟수 (첫 일정 포함)", example = "12")
+        @NotNull(message = "반복 횟수는 필수입니다.")
+        @Min(value = 2, message = "반복 횟수는 2회 이상이어야 합니다.")
+        @Max(value = 52, message = "반복 횟수는 52회를 넘을 수 없습니다.")
+        Integer occurrenceCount,
+
+        @Schema(description = "인원 수", example = "3")
+        @NotNull(message = "인원 수는 필수입니다.")
+        @Positive(message = "인원 수는 0보다 커야 합니다.")
+        Integer peopleCount,
+
+        @Schema(description = "예약 목적", example = "스터디 정기 모임")
+        String purpose
+) {
+    public CreateReservationRequest firstOccurrence() {
+        return new CreateReservationRequest(spaceId, startTime, endTime, peopleCount, purpose);
+    }
+}
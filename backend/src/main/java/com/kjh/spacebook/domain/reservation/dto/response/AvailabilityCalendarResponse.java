@@ -0,0 +1,15 @@
+package com.kjh.spacebook.domain.reservation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "기간별 예약 현황 응답")
+public record AvailabilityCalendarResponse(
+        @Schema(description = "시작 날짜", example = "2026-03-01") LocalDate from,
+        @Schema(description = "종료 날짜 (포함)", example = "2026-03-31") LocalDate to,
+        @Schema(description = "from부터 하루씩 예약된 시간대 마스크. 비트 i가 1이면 i시 ~ i+1시가 예약됨",
+                example = "[0, 3072, 16777215]")
+        int[] reservedMasks
+) {
+}
@@ -0,0 +1,21 @@
+package com.kjh.spacebook.domain.reservation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "일괄 예약 건별 결과")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkReservationItemResponse(
+        @Schema(description = "요청 목록에서의 순번 (0부터)", example = "0") int index,
+        @Schema(description = "예약 성공 여부", example = "true") boolean success,
+        @Schema(description = "생성된 예약 (성공 시)") ReservationResponse reservation,
+        @Schema(description = "실패 사유 (실패 시)", example = "해당 시간대에 이미 예약이 존재합니다.") String message
+) {
+    public static BulkReservationItemResponse success(int index, ReservationResponse reservation) {
+        return new BulkReservationItemResponse(index, true, reservation, null);
+    }
+
+    public static BulkReservationItemResponse failure(int index, String message) {
+        return new BulkReservationItemResponse(index, false, null, message);
+    }
+}
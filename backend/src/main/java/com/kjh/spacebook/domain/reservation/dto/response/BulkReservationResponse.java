@@ -0,0 +1,20 @@
+package com.kjh.spacebook.domain.reservation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "일괄 예약 응답")
+public record BulkReservationResponse(
+        @Schema(description = "성공 건수", example = "9") int successCount,
+        @Schema(description = "실패 건수", example = "1") int failureCount,
+        @Schema(description = "건별 결과 (요청 순서)") List<BulkReservationItemResponse> results
+) {
+    public static BulkReservationResponse of(List<BulkReservationItemResponse> results) {
+        int successCount = (int) results.stream()
+                .filter(BulkReservationItemResponse::success)
+                .count();
+
+        return new BulkReservationResponse(successCount, results.size() - successCount, results);
+    }
+}
@@ -2,6 +2,7 @@ package com.kjh.spacebook.domain.reservation.dto.response;
 
 import com.kjh.spacebook.domain.reservation.entity.Reservation;
 import com.kjh.spacebook.domain.reservation.enums.ReservationStatus;
+import com.kjh.spacebook.domain.reservation.repository.ReservationSummary;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
@@ -25,4 +26,15 @@ public record ReservationListResponse(
                 reservation.getStatus()
         );
     }
+
+    public static ReservationListResponse from(ReservationSummary summary) {
+        return new ReservationListResponse(
+                summary.getId(),
+                summary.getSpaceId(),
+                summary.getSpaceName(),
+                summary.getStartTime(),
+                summary.getEndTime(),
+                summary.getStatus()
+        );
+    }
 }
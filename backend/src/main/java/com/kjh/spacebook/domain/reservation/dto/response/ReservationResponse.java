@@ -1,5 +1,6 @@
 package com.kjh.spacebook.domain.reservation.dto.response;
 
+import com.kjh.spacebook.domain.reservation.entity.ArchivedReservation;
 import com.kjh.spacebook.domain.reservation.entity.Reservation;
 import com.kjh.spacebook.domain.reservation.enums.ReservationStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -18,7 +19,9 @@ public record ReservationResponse(
         @Schema(description = "총 가격 (원)", example = "30000") int totalPrice,
         @Schema(description = "예약 목적", example = "팀 프로젝트 회의") String purpose,
         @Schema(description = "예약 상태") ReservationStatus status,
-        @Schema(description = "생성일시") LocalDateTime createdAt
+        @Schema(description = "임시 점유 만료 시간 (HOLD 상태일 때만)") LocalDateTime holdExpiresAt,
+        @Schema(description = "생성일시") LocalDateTime createdAt,
+        @Schema(description = "보관된 지난 예약 여부 (조회만 가능)") boolean archived
 ) {
     public static ReservationResponse from(Reservation reservation) {
         return new ReservationResponse(
@@ -32,7 +35,27 @@ public record ReservationResponse(
                 reservation.getTotalPrice(),
                 reservation.getPurpose(),
                 reservation.getStatus(),
-                reservation.getCreatedAt()
+                reservation.getHoldExpiresAt(),
+                reservation.getCreatedAt(),
+                false
+        );
+    }
+
+    public static ReservationResponse from(ArchivedReservation reservation) {
+        return new ReservationResponse(
+                reservation.getId(),
+                reservation.getSpace().getId(),
+                reservation.getSpace().getSpaceName(),
+                reservation.getUser().getId(),
+                reservation.getStartTime(),
+                reservation.getEndTime(),
+                reservation.getPeopleCount(),
+                reservation.getTotalPrice(),
+                reservation.getPurpose(),
+                reservation.getStatus(),
+                null,
+                reservation.getCreatedAt(),
+                true
         );
     }
 }
@@ -0,0 +1,32 @@
+package com.kjh.spacebook.domain.reservation.dto.response;
+
+import com.kjh.spacebook.domain.reservation.entity.Reservation;
+import com.kjh.spacebook.domain.reservation.entity.ReservationSeries;
+import com.kjh.spacebook.domain.reservation.enums.RecurrenceType;
+import com.kjh.spacebook.domain.reservation.enums.ReservationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "반복 예약 응답")
+public record ReservationSeriesResponse(
+        @Schema(description = "반복 예약 ID", example = "1") Long id,
+        @Schema(description = "공간 ID", example = "1") Long spaceId,
+        @Schema(description = "공간 이름", example = "강남 스터디룸 A") String spaceName,
+        @Schema(description = "반복 주기") RecurrenceType recurrenceType,
+        @Schema(description = "반복 횟수", example = "12") int occurrenceCount,
+        @Schema(description = "반복 예약 상태") ReservationStatus status,
+        @Schema(description = "생성된 예약 목록") List<ReservationListResponse> reservations
+) {
+    public static ReservationSeriesResponse of(ReservationSeries series, List<Reservation> reservations) {
+        return new ReservationSeriesResponse(
+                series.getId(),
+                series.getSpace().getId(),
+                series.getSpace().getSpaceName(),
+                series.getRecurrenceType(),
+                series.getOccurrenceCount(),
+                series.getStatus(),
+                reservations.stream().map(ReservationListResponse::from).toList()
+        );
+    }
+}
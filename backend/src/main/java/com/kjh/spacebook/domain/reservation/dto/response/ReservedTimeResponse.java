@@ -3,6 +3,9 @@ package com.kjh.spacebook.domain.reservation.dto.response;
 import com.kjh.spacebook.domain.reservation.entity.Reservation;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Schema(description = "예약된 시간대 응답")
 public record ReservedTimeResponse(
         @Schema(description = "시작 시간 (시)", example = "10") int startHour,
@@ -14,4 +17,22 @@ public record ReservedTimeResponse(
                 reservation.getEndTime().getHour()
         );
     }
+
+    // 하루 24비트 마스크를 연속된 시간대 목록으로 변환
+    public static List<ReservedTimeResponse> listFrom(int reservedMask) {
+        List<ReservedTimeResponse> responses = new ArrayList<>();
+        int hour = 0;
+        while (hour < 24) {
+            if ((reservedMask & (1 << hour)) == 0) {
+                hour++;
+                continue;
+            }
+            int start = hour;
+            while (hour < 24 && (reservedMask & (1 << hour)) != 0) {
+                hour++;
+            }
+            responses.add(new ReservedTimeResponse(start, hour));
+        }
+        return responses;
+    }
 }
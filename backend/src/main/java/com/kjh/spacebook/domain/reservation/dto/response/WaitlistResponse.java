@@ -0,0 +1,32 @@
+package com.kjh.spacebook.domain.reservation.dto.response;
+
+import com.kjh.spacebook.domain.reservation.entity.WaitlistEntry;
+import com.kjh.spacebook.domain.reservation.enums.WaitlistStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "예약 대기 응답")
+public record WaitlistResponse(
+        @Schema(description = "예약 대기 ID", example = "1") Long id,
+        @Schema(description = "공간 ID", example = "1") Long spaceId,
+        @Schema(description = "공간 이름", example = "강남 스터디룸 A") String spaceName,
+        @Schema(description = "희망 시작 시간") LocalDateTime startTime,
+        @Schema(description = "희망 종료 시간") LocalDateTime endTime,
+        @Schema(description = "인원 수", example = "3") int peopleCount,
+        @Schema(description = "대기 상태") WaitlistStatus status,
+        @Schema(description = "신청일시") LocalDateTime createdAt
+) {
+    public static WaitlistResponse from(WaitlistEntry entry) {
+        return new WaitlistResponse(
+                entry.getId(),
+                entry.getSpace().getId(),
+                entry.getSpace().getSpaceName(),
+                entry.getStartTime(),
+                entry.getEndTime(),
+                entry.getPeopleCount(),
+                entry.getStatus(),
+                entry.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package com.kjh.spacebook.domain.reservation.entity;
+
+import com.kjh.spacebook.domain.reservation.enums.ReservationStatus;
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 종료 후 보관 기간이 지난 예약. ReservationArchiver가 reservations에서 id 그대로 옮겨 온다.
+@Entity
+@Table(
+        name = "reservations_archive",
+        indexes = @Index(name = "idx_reservations_archive_user_start", columnList = "user_id, start_time")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedReservation {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "space_id", nullable = false)
+    private Space space;
+
+    @Column(name = "series_id")
+    private Long seriesId;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+
+    @Column(name = "people_count", nullable = false)
+    private int peopleCount;
+
+    @Column(name = "total_price", nullable = false)
+    private int totalPrice;
+
+    @Column(length = 255)
+    private String purpose;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReservationStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
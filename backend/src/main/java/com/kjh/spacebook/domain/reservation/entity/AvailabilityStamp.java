@@ -0,0 +1,42 @@
+package com.kjh.spacebook.domain.reservation.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// 공간별 · 날짜별 예약 현황 버전. 모든 인스턴스가 같은 값을 보고 ETag와 인메모리 인덱스의 최신 여부를 판단한다.
+@Entity
+@Table(
+        name = "availability_stamps",
+        indexes = @Index(name = "idx_availability_stamps_date", columnList = "stamp_date, version")
+)
+@IdClass(AvailabilityStamp.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AvailabilityStamp {
+
+    @Id
+    @Column(name = "space_id")
+    private Long spaceId;
+
+    @Id
+    @Column(name = "stamp_date")
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private long version;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long spaceId;
+        private LocalDate date;
+    }
+}
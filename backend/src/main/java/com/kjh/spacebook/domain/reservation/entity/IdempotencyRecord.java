@@ -0,0 +1,69 @@
+package com.kjh.spacebook.domain.reservation.entity;
+
+import com.kjh.spacebook.domain.reservation.enums.IdempotentOperation;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Idempotency-Key 별 처리 결과. reservation_id가 비어 있으면 아직 처리 중인 요청이다.
+// request_hash는 키를 처음 쓴 요청 본문의 해시로, 같은 키의 다른 요청을 가려낸다.
+@Entity
+@Table(
+        name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_idempotency_keys_user_operation_key",
+                columnNames = {"user_id", "operation", "idempotency_key"}
+        ),
+        indexes = @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private IdempotentOperation operation;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", length = 64)
+    private String requestHash;
+
+    @Column(name = "reservation_id")
+    private Long reservationId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    private IdempotencyRecord(Long userId, IdempotentOperation operation, String idempotencyKey, String requestHash) {
+        this.userId = userId;
+        this.operation = operation;
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static IdempotencyRecord claim(
+            Long userId,
+            IdempotentOperation operation,
+            String idempotencyKey,
+            String requestHash
+    ) {
+        return new IdempotencyRecord(userId, operation, idempotencyKey, requestHash);
+    }
+
+    public boolean isCompleted() {
+        return reservationId != null;
+    }
+}
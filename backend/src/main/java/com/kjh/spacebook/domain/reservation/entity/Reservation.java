@@ -11,7 +11,14 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reservations")
+@Table(
+        name = "reservations",
+        indexes = {
+                @Index(name = "idx_reservations_space_status_time", columnList = "space_id, status, start_time, end_time"),
+                @Index(name = "idx_reservations_user_start", columnList = "user_id, start_time"),
+                @Index(name = "idx_reservations_status_end", columnList = "status, end_time")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Reservation {
@@ -28,6 +35,11 @@ public class Reservation {
     @JoinColumn(name = "space_id", nullable = false)
     private Space space;
 
+    // 반복 예약으로 생성된 경우의 상위 시리즈. 첫 일정 저장 시 함께 저장된다.
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
+    @JoinColumn(name = "series_id")
+    private ReservationSeries series;
+
     @Column(name = "start_time", nullable = false)
     private LocalDateTime startTime;
 
@@ -47,6 +59,10 @@ public class Reservation {
     @Column(nullable = false)
     private ReservationStatus status;
 
+    // 임시 점유(HOLD) 만료 시각. 확정되면 비운다.
+    @Column(name = "hold_expires_at")
+    private LocalDateTime holdExpiresAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -71,16 +87,21 @@ public class Reservation {
             LocalDateTime endTime,
             int peopleCount,
             int totalPrice,
-            String purpose
+            String purpose,
+            ReservationSeries series,
+            ReservationStatus status,
+            LocalDateTime holdExpiresAt
     ) {
         this.user = user;
         this.space = space;
+        this.series = series;
         this.startTime = startTime;
         this.endTime = endTime;
         this.peopleCount = peopleCount;
         this.totalPrice = totalPrice;
         this.purpose = purpose;
-        this.status = ReservationStatus.CONFIRMED;
+        this.status = status;
+        this.holdExpiresAt = holdExpiresAt;
     }
 
     public static Reservation of(
@@ -91,13 +112,58 @@ public class Reservation {
             int peopleCount,
             int totalPrice,
             String purpose
+    ) {
+        return of(user, space, startTime, endTime, peopleCount, totalPrice, purpose, null);
+    }
+
+    public static Reservation of(
+            User user,
+            Space space,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            int peopleCount,
+            int totalPrice,
+            String purpose,
+            ReservationSeries series
     ) {
         return new Reservation(
                 user, space, startTime, endTime,
-                peopleCount, totalPrice, purpose
+                peopleCount, totalPrice, purpose, series,
+                ReservationStatus.CONFIRMED, null
         );
     }
 
+    public static Reservation hold(
+            User user,
+            Space space,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            int peopleCount,
+            int totalPrice,
+            String purpose,
+            LocalDateTime holdExpiresAt
+    ) {
+        return new Reservation(
+                user, space, startTime, endTime,
+                peopleCount, totalPrice, purpose, null,
+                ReservationStatus.HOLD, holdExpiresAt
+        );
+    }
+
+    public boolean isHoldExpired(LocalDateTime now) {
+        return status == ReservationStatus.HOLD && !holdExpiresAt.isAfter(now);
+    }
+
+    // 만료 처리로 취소된 임시 예약인지 확인한다. 확정을 거친 예약은 만료 시각이 없다.
+    public boolean isExpiredHold(LocalDateTime now) {
+        return status == ReservationStatus.CANCELLED && holdExpiresAt != null && !holdExpiresAt.isAfter(now);
+    }
+
+    public void confirm() {
+        this.status = ReservationStatus.CONFIRMED;
+        this.holdExpiresAt = null;
+    }
+
     public void cancel() {
         this.status = ReservationStatus.CANCELLED;
     }
@@ -0,0 +1,100 @@
+package com.kjh.spacebook.domain.reservation.entity;
+
+import com.kjh.spacebook.domain.reservation.enums.RecurrenceType;
+import com.kjh.spacebook.domain.reservation.enums.ReservationStatus;
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "reservation_series")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationSeries {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "space_id", nullable = false)
+    private Space space;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "recurrence_type", nullable = false)
+    private RecurrenceType recurrenceType;
+
+    @Column(name = "first_start_time", nullable = false)
+    private LocalDateTime firstStartTime;
+
+    @Column(name = "first_end_time", nullable = false)
+    private LocalDateTime firstEndTime;
+
+    @Column(name = "occurrence_count", nullable = false)
+    private int occurrenceCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReservationStatus status;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    private ReservationSeries(
+            User user,
+            Space space,
+            RecurrenceType recurrenceType,
+            LocalDateTime firstStartTime,
+            LocalDateTime firstEndTime,
+            int occurrenceCount
+    ) {
+        this.user = user;
+        this.space = space;
+        this.recurrenceType = recurrenceType;
+        this.firstStartTime = firstStartTime;
+        this.firstEndTime = firstEndTime;
+        this.occurrenceCount = occurrenceCount;
+        this.status = ReservationStatus.CONFIRMED;
+    }
+
+    public static ReservationSeries of(
+            User user,
+            Space space,
+            RecurrenceType recurrenceType,
+            LocalDateTime firstStartTime,
+            LocalDateTime firstEndTime,
+            int occurrenceCount
+    ) {
+        return new ReservationSeries(
+                user, space, recurrenceType,
+                firstStartTime, firstEndTime, occurrenceCount
+        );
+    }
+
+    public void cancel() {
+        this.status = ReservationStatus.CANCELLED;
+    }
+}
@@ -0,0 +1,56 @@
+package com.kjh.spacebook.domain.reservation.entity;
+
+import com.kjh.spacebook.domain.space.entity.Space;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 예약이 점유한 1시간 단위 슬롯. (space_id, slot_start) 유니크 제약으로 중복 예약을 막는다.
+@Entity
+@Table(
+        name = "reservation_slots",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_reservation_slots_space_slot",
+                columnNames = {"space_id", "slot_start"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reservation_id", nullable = false)
+    private Reservation reservation;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "space_id", nullable = false)
+    private Space space;
+
+    @Column(name = "slot_start", nullable = false)
+    private LocalDateTime slotStart;
+
+    private ReservationSlot(Reservation reservation, Space space, LocalDateTime slotStart) {
+        this.reservation = reservation;
+        this.space = space;
+        this.slotStart = slotStart;
+    }
+
+    public static List<ReservationSlot> claimsOf(Reservation reservation) {
+        List<ReservationSlot> slots = new ArrayList<>();
+        for (LocalDateTime slotStart = reservation.getStartTime();
+             slotStart.isBefore(reservation.getEndTime());
+             slotStart = slotStart.plusHours(1)) {
+            slots.add(new ReservationSlot(reservation, reservation.getSpace(), slotStart));
+        }
+        return slots;
+    }
+}
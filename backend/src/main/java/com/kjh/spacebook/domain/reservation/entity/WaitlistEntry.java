@@ -0,0 +1,112 @@
+package com.kjh.spacebook.domain.reservation.entity;
+
+import com.kjh.spacebook.domain.reservation.enums.WaitlistStatus;
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 이미 예약된 시간대의 대기 신청. 같은 공간의 대기는 id 순(선착순)으로 예약 전환을 시도한다.
+@Entity
+@Table(
+        name = "waitlist_entries",
+        indexes = @Index(
+                name = "idx_waitlist_entries_space_status_start",
+                columnList = "space_id, status, start_time"
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "space_id", nullable = false)
+    private Space space;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+
+    @Column(name = "people_count", nullable = false)
+    private int peopleCount;
+
+    @Column(length = 255)
+    private String purpose;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private WaitlistStatus status;
+
+    // 예약으로 전환된 경우 생성된 예약
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reservation_id")
+    private Reservation reservation;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    private WaitlistEntry(
+            User user,
+            Space space,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            int peopleCount,
+            String purpose
+    ) {
+        this.user = user;
+        this.space = space;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.peopleCount = peopleCount;
+        this.purpose = purpose;
+        this.status = WaitlistStatus.WAITING;
+    }
+
+    public static WaitlistEntry of(
+            User user,
+            Space space,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            int peopleCount,
+            String purpose
+    ) {
+        return new WaitlistEntry(user, space, startTime, endTime, peopleCount, purpose);
+    }
+
+    public void promote(Reservation reservation) {
+        this.status = WaitlistStatus.PROMOTED;
+        this.reservation = reservation;
+    }
+
+    public void cancel() {
+        this.status = WaitlistStatus.CANCELLED;
+    }
+}
@@ -0,0 +1,6 @@
+package com.kjh.spacebook.domain.reservation.enums;
+
+public enum IdempotentOperation {
+    CREATE_RESERVATION,
+    CANCEL_RESERVATION
+}
@@ -0,0 +1,25 @@
+package com.kjh.spacebook.domain.reservation.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "반복 주기", enumAsRef = true)
+@Getter
+@RequiredArgsConstructor
+public enum RecurrenceType {
+    @Schema(description = "매일") DAILY("매일"),
+    @Schema(description = "매주") WEEKLY("매주");
+
+    private final String label;
+
+    // 첫 일정으로부터 index번째 반복 일정의 시각
+    public LocalDateTime occurrence(LocalDateTime first, int index) {
+        return switch (this) {
+            case DAILY -> first.plusDays(index);
+            case WEEKLY -> first.plusWeeks(index);
+        };
+    }
+}
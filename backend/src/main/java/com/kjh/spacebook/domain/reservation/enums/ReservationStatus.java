@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "예약 상태", enumAsRef = true)
 public enum ReservationStatus {
+    @Schema(description = "임시 점유") HOLD,
     @Schema(description = "확정") CONFIRMED,
     @Schema(description = "취소됨") CANCELLED
 }
@@ -0,0 +1,10 @@
+package com.kjh.spacebook.domain.reservation.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "예약 대기 상태", enumAsRef = true)
+public enum WaitlistStatus {
+    @Schema(description = "대기 중") WAITING,
+    @Schema(description = "예약으로 전환됨") PROMOTED,
+    @Schema(description = "취소됨") CANCELLED
+}
@@ -0,0 +1,11 @@
+package com.kjh.spacebook.domain.reservation.event;
+
+import java.time.LocalDateTime;
+
+// 시간대를 점유하던 지난 예약이 보관 테이블로 옮겨졌을 때 발행한다.
+public record ReservationArchivedEvent(
+        Long spaceId,
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {
+}
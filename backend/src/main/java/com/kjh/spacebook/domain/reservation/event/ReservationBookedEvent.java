@@ -0,0 +1,11 @@
+package com.kjh.spacebook.domain.reservation.event;
+
+import java.time.LocalDateTime;
+
+// 예약(임시 점유 포함)이 저장되거나 임시 점유가 확정되어 시간대가 채워졌을 때 발행한다.
+public record ReservationBookedEvent(
+        Long spaceId,
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {
+}
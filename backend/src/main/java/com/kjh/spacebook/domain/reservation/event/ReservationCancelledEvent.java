@@ -0,0 +1,11 @@
+package com.kjh.spacebook.domain.reservation.event;
+
+import java.time.LocalDateTime;
+
+// 확정 예약이나 임시 점유가 취소되어 시간대가 비워졌을 때 발행한다.
+public record ReservationCancelledEvent(
+        Long spaceId,
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {
+}
@@ -10,17 +10,30 @@ import org.springframework.http.HttpStatus;
 public enum ReservationErrorCode implements ErrorCode {
     // 조회
     RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "예약을 찾을 수 없습니다."),
+    RESERVATION_SERIES_NOT_FOUND(HttpStatus.NOT_FOUND, "반복 예약을 찾을 수 없습니다."),
+    WAITLIST_NOT_FOUND(HttpStatus.NOT_FOUND, "예약 대기를 찾을 수 없습니다."),
 
     // 검증
     RESERVATION_INVALID_TIME(HttpStatus.BAD_REQUEST, "예약 종료 시간은 시작 시간 이후여야 합니다."),
     RESERVATION_PAST_TIME(HttpStatus.BAD_REQUEST, "과거 시간으로는 예약할 수 없습니다."),
     RESERVATION_NOT_HOURLY(HttpStatus.BAD_REQUEST, "예약은 정각 단위로만 가능합니다."),
+    AVAILABILITY_INVALID_RANGE(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다. 종료일은 시작일 이후, 최대 62일까지 조회할 수 있습니다."),
     RESERVATION_EXCEED_CAPACITY(HttpStatus.BAD_REQUEST, "예약 인원이 공간 최대 수용 인원을 초과합니다."),
     RESERVATION_TIME_CONFLICT(HttpStatus.CONFLICT, "해당 시간대에 이미 예약이 존재합니다."),
+    RESERVATION_HOLD_EXPIRED(HttpStatus.CONFLICT, "임시 점유 시간이 만료되었습니다. 다시 예약해주세요."),
+    RESERVATION_NOT_HOLD(HttpStatus.BAD_REQUEST, "임시 점유 상태의 예약만 확정할 수 있습니다."),
+    WAITLIST_NOT_NEEDED(HttpStatus.BAD_REQUEST, "바로 예약할 수 있는 시간대입니다."),
+    WAITLIST_DUPLICATE(HttpStatus.CONFLICT, "이미 대기 중인 시간대입니다."),
+    WAITLIST_ALREADY_PROCESSED(HttpStatus.CONFLICT, "이미 처리된 예약 대기입니다."),
+    IDEMPOTENCY_KEY_INVALID(HttpStatus.BAD_REQUEST, "Idempotency-Key는 1자 이상 100자 이하여야 합니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "다른 요청에 이미 사용된 Idempotency-Key입니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요."),
+    RESERVATION_LOCK_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "예약 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
 
     // 취소
     RESERVATION_ALREADY_CANCELLED(HttpStatus.BAD_REQUEST, "이미 취소된 예약입니다."),
     RESERVATION_CANCEL_TOO_LATE(HttpStatus.BAD_REQUEST, "예약일 하루 전까지만 취소할 수 있습니다."),
+    WAITLIST_NOT_WAITING(HttpStatus.BAD_REQUEST, "대기 중인 신청만 취소할 수 있습니다."),
 
     // 권한
     RESERVATION_NOT_OWNER(HttpStatus.FORBIDDEN, "본인의 예약만 접근할 수 있습니다.");
@@ -0,0 +1,18 @@
+package com.kjh.spacebook.domain.reservation.hold;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "booking.hold")
+public record HoldProperties(
+        @NotNull Duration ttl,
+        @NotNull Duration tick,
+        @Positive int wheelSize,
+        @Positive int reapBatchSize
+) {
+}
@@ -0,0 +1,60 @@
+package com.kjh.spacebook.domain.reservation.hold;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+// 만료 시각이 같은 tick에 속하는 임시 점유를 한 칸에 모아두는 해시 타이밍 휠.
+// 휠 한 바퀴보다 먼 만료는 다음 바퀴에 꺼내지도록 칸에 남겨둔다.
+class HoldTimingWheel {
+    private final long tickMillis;
+    private final List<List<Entry>> buckets;
+    private long cursor;
+
+    HoldTimingWheel(Duration tick, int size, long nowMillis) {
+        this.tickMillis = tick.toMillis();
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.cursor = nowMillis / tickMillis;
+    }
+
+    synchronized void add(Long reservationId, Long spaceId, long expiresAtMillis) {
+        // 만료 시각보다 먼저 꺼내지지 않도록 올림한다.
+        long tick = Math.max((expiresAtMillis + tickMillis - 1) / tickMillis, cursor + 1);
+        bucket(tick).add(new Entry(reservationId, spaceId, tick));
+    }
+
+    // 마지막 호출 이후 만료된 예약 ID를 꺼낸다.
+    synchronized List<Entry> advance(long nowMillis) {
+        long target = nowMillis / tickMillis;
+        List<Entry> expired = new ArrayList<>();
+
+        // 오래 멈췄다면 휠 한 바퀴만 돌면 모든 칸을 확인한 것이다.
+        for (long tick = Math.max(cursor + 1, target - buckets.size() + 1); tick <= target; tick++) {
+            Iterator<Entry> iterator = bucket(tick).iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.tick() <= target) {
+                    expired.add(entry);
+                    iterator.remove();
+                }
+            }
+        }
+        cursor = Math.max(cursor, target);
+        return expired;
+    }
+
+    synchronized int size() {
+        return buckets.stream().mapToInt(List::size).sum();
+    }
+
+    private List<Entry> bucket(long tick) {
+        return buckets.get((int) (tick % buckets.size()));
+    }
+
+    record Entry(Long reservationId, Long spaceId, long tick) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.kjh.spacebook.domain.reservation.hold;
+
+import com.kjh.spacebook.domain.reservation.entity.Reservation;
+import com.kjh.spacebook.domain.reservation.enums.ReservationStatus;
+import com.kjh.spacebook.domain.reservation.event.ReservationCancelledEvent;
+import com.kjh.spacebook.domain.reservation.repository.ReservationRepository;
+import com.kjh.spacebook.domain.reservation.repository.ReservationSlotRepository;
+import com.kjh.spacebook.domain.reservation.service.AvailabilityIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+// 임시 점유를 타이밍 휠에 올려두고, 만료된 것을 모아 한 번에 취소한다.
+// 예약 행을 하나씩 조회하는 스케줄 쿼리 대신 tick마다 만료된 묶음만 처리한다.
+@Slf4j
+@Component
+public class ReservationHoldReaper implements SmartInitializingSingleton {
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final AvailabilityIndex availabilityIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HoldProperties properties;
+    private final HoldTimingWheel wheel;
+
+    public ReservationHoldReaper(
+            ReservationRepository reservationRepository,
+            ReservationSlotRepository reservationSlotRepository,
+            AvailabilityIndex availabilityIndex,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            HoldProperties properties
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.reservationSlotRepository = reservationSlotRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.wheel = new HoldTimingWheel(properties.tick(), properties.wheelSize(), System.currentTimeMillis());
+    }
+
+    // 재기동 전에 만들어진 임시 점유도 다시 휠에 올린다. 이미 만료된 것은 다음 tick에 정리된다.
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<Reservation> holds = reservationRepository.findAllByStatus(ReservationStatus.HOLD);
+        holds.forEach(this::register);
+        log.info("임시 점유 적재 완료: {}건", holds.size());
+    }
+
+    public LocalDateTime expiresAt(LocalDateTime now) {
+        return now.plus(properties.ttl());
+    }
+
+    public void register(Reservation hold) {
+        wheel.add(
+                hold.getId(),
+                hold.getSpace().getId(),
+                hold.getHoldExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${booking.hold.tick}")
+    public void reap() {
+        List<Long> expiredIds = wheel.advance(System.currentTimeMillis()).stream()
+                .map(HoldTimingWheel.Entry::reservationId)
+                .toList();
+
+        for (int from = 0; from < expiredIds.size(); from += properties.reapBatchSize()) {
+            List<Long> batch = expiredIds.subList(from, Math.min(from + properties.reapBatchSize(), expiredIds.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> expire(batch));
+            } catch (RuntimeException e) {
+                log.error("임시 점유 만료 처리 실패: size={}", batch.size(), e);
+            }
+        }
+    }
+
+    // 확정·취소와 경합하지 않도록 아직 HOLD인 행만 잠그고 처리한다.
+    void expire(List<Long> reservationIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Reservation> holds = reservationRepository.findAllByIdInAndStatusForUpdate(
+                reservationIds,
+                ReservationStatus.HOLD
+        );
+
+        List<Reservation> expired = holds.stream()
+                .filter(hold -> hold.isHoldExpired(now))
+                .toList();
+        // 시계 오차로 일찍 꺼내진 것은 다시 휠에 올린다.
+        holds.stream()
+                .filter(hold -> !hold.isHoldExpired(now))
+                .forEach(this::register);
+
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        List<Long> expiredIds = expired.stream()
+                .map(Reservation::getId)
+                .toList();
+        reservationSlotRepository.deleteAllByReservationIdIn(expiredIds);
+        reservationRepository.updateStatusByIdIn(expiredIds, ReservationStatus.CANCELLED, now);
+        expired.forEach(hold -> {
+            availabilityIndex.release(hold.getSpace().getId(), hold.getStartTime(), hold.getEndTime());
+            eventPublisher.publishEvent(new ReservationCancelledEvent(
+                    hold.getSpace().getId(),
+                    hold.getStartTime(),
+                    hold.getEndTime()
+            ));
+        });
+
+        log.info("만료된 임시 점유 정리: {}건", expired.size());
+    }
+}
@@ -0,0 +1,17 @@
+package com.kjh.spacebook.domain.reservation.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "booking.idempotency")
+public record IdempotencyProperties(
+        @Positive int cacheSize,
+        @NotNull Duration retention,
+        @NotNull Duration claimTimeout
+) {
+}
@@ -0,0 +1,193 @@
+package com.kjh.spacebook.domain.reservation.idempotency;
+
+import com.kjh.spacebook.common.exception.BusinessException;
+import com.kjh.spacebook.domain.reservation.entity.IdempotencyRecord;
+import com.kjh.spacebook.domain.reservation.enums.IdempotentOperation;
+import com.kjh.spacebook.domain.reservation.exception.ReservationErrorCode;
+import com.kjh.spacebook.domain.reservation.repository.IdempotencyRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// Idempotency-Key 별 처리 결과를 idempotency_keys 테이블에 기록하고, 완료된 결과는 LRU 캐시에 둔다.
+// 재시도 요청은 캐시나 키 조회 한 번으로 이전 결과를 돌려받고 예약 처리(락, 충돌 검사)를 다시 타지 않는다.
+// 키에는 요청 본문의 해시를 함께 남겨, 같은 키를 다른 요청에 쓰면 IDEMPOTENCY_KEY_REUSED로 거절한다.
+@Slf4j
+@Component
+public class IdempotencyStore {
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotencyProperties properties;
+    private final TransactionTemplate requiresNew;
+    private final Map<CacheKey, Completed> completed;
+
+    public IdempotencyStore(
+            IdempotencyRecordRepository idempotencyRecordRepository,
+            PlatformTransactionManager transactionManager,
+            IdempotencyProperties properties
+    ) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.properties = properties;
+        // 호출한 쪽의 트랜잭션과 무관하게 claim을 바로 남긴다.
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.completed = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, Completed> eldest) {
+                return size() > properties.cacheSize();
+            }
+        });
+    }
+
+    // 요청 본문을 이루는 값들로 키와 함께 저장할 해시를 만든다.
+    public static String requestHash(Object... parts) {
+        String joined = Arrays.stream(parts)
+                .map(Objects::toString)
+                .collect(Collectors.joining("\n"));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(joined.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 이미 완료된 키면 결과 예약 ID를, 처음 보는 키면 claim을 남기고 null을 반환한다.
+    public Long claim(Long userId, IdempotentOperation operation, String key, String requestHash) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(ReservationErrorCode.IDEMPOTENCY_KEY_INVALID);
+        }
+
+        CacheKey cacheKey = new CacheKey(userId, operation, key);
+        Completed cached = completed.get(cacheKey);
+        if (cached != null) {
+            verifySameRequest(cached.requestHash(), requestHash);
+            return cached.reservationId();
+        }
+
+        try {
+            requiresNew.executeWithoutResult(status -> idempotencyRecordRepository.saveAndFlush(
+                    IdempotencyRecord.claim(userId, operation, key, requestHash)));
+            return null;
+        } catch (DataIntegrityViolationException e) {
+            Optional<IdempotencyRecord> found = find(cacheKey);
+            if (found.isEmpty()) {
+                // 앞선 요청이 실패해 claim이 해제된 경우
+                return claim(userId, operation, key, requestHash);
+            }
+
+            IdempotencyRecord record = found.get();
+            verifySameRequest(record.getRequestHash(), requestHash);
+            if (record.isCompleted()) {
+                completed.put(cacheKey, new Completed(record.getReservationId(), record.getRequestHash()));
+                return record.getReservationId();
+            }
+
+            // 처리 도중 서버가 내려가 남은 claim은 시간이 지나면 넘겨받는다.
+            LocalDateTime before = LocalDateTime.now().minus(properties.claimTimeout());
+            Integer deleted = requiresNew.execute(status ->
+                    idempotencyRecordRepository.deleteStaleClaim(record.getId(), before));
+            if (deleted != null && deleted > 0) {
+                return claim(userId, operation, key, requestHash);
+            }
+            throw new BusinessException(ReservationErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋된 뒤에 완료로 기록하고, 롤백되면 claim을 해제한다.
+    public void complete(Long userId, IdempotentOperation operation, String key, Long reservationId) {
+        CacheKey cacheKey = new CacheKey(userId, operation, key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        markCompleted(cacheKey, reservationId);
+                    } else {
+                        release(cacheKey);
+                    }
+                }
+            });
+            return;
+        }
+        markCompleted(cacheKey, reservationId);
+    }
+
+    // 요청이 실패하면 같은 키로 다시 시도할 수 있도록 claim을 지운다.
+    public void release(Long userId, IdempotentOperation operation, String key) {
+        release(new CacheKey(userId, operation, key));
+    }
+
+    @Scheduled(cron = "0 30 * * * *")
+    public void purgeExpired() {
+        LocalDateTime before = LocalDateTime.now().minus(properties.retention());
+        Integer deleted = requiresNew.execute(status ->
+                idempotencyRecordRepository.deleteAllByCreatedAtBefore(before));
+        log.info("만료된 Idempotency-Key 정리: {}건", deleted);
+    }
+
+    private void markCompleted(CacheKey cacheKey, Long reservationId) {
+        try {
+            String requestHash = requiresNew.execute(status -> find(cacheKey)
+                    .map(record -> {
+                        idempotencyRecordRepository.complete(record.getId(), reservationId);
+                        return record.getRequestHash();
+                    })
+                    .orElse(null));
+            completed.put(cacheKey, new Completed(reservationId, requestHash));
+        } catch (RuntimeException e) {
+            log.error("Idempotency-Key 완료 기록 실패: {}", cacheKey, e);
+        }
+    }
+
+    private void release(CacheKey cacheKey) {
+        try {
+            requiresNew.executeWithoutResult(status -> find(cacheKey)
+                    .filter(record -> !record.isCompleted())
+                    .ifPresent(idempotencyRecordRepository::delete));
+        } catch (RuntimeException e) {
+            log.error("Idempotency-Key 해제 실패: {}", cacheKey, e);
+        }
+    }
+
+    // 해시를 남기기 전에 기록된 키는 비교할 수 없으므로 통과시킨다.
+    private static void verifySameRequest(String storedHash, String requestHash) {
+        if (storedHash != null && !storedHash.equals(requestHash)) {
+            throw new BusinessException(ReservationErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+    }
+
+    private Optional<IdempotencyRecord> find(CacheKey cacheKey) {
+        return idempotencyRecordRepository.findByUserIdAndOperationAndIdempotencyKey(
+                cacheKey.userId(),
+                cacheKey.operation(),
+                cacheKey.key()
+        );
+    }
+
+    private record CacheKey(Long userId, IdempotentOperation operation, String key) {
+    }
+
+    private record Completed(Long reservationId, String requestHash) {
+    }
+}
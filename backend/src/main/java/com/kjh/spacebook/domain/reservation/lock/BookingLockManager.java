@@ -0,0 +1,8 @@
+package com.kjh.spacebook.domain.reservation.lock;
+
+import java.util.function.Supplier;
+
+// 같은 공간에 대한 예약 충돌 검사와 저장을 직렬화하는 락
+public interface BookingLockManager {
+    <T> T executeWithLock(Long spaceId, Supplier<T> action);
+}
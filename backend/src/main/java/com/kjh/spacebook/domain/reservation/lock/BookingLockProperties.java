@@ -0,0 +1,18 @@
+package com.kjh.spacebook.domain.reservation.lock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "booking.lock")
+public record BookingLockProperties(
+        @NotBlank String type,
+        @Positive int stripes,
+        @NotNull Duration waitTimeout
+) {
+}
@@ -0,0 +1,17 @@
+package com.kjh.spacebook.domain.reservation.lock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+// 슬롯 유니크 제약이 중복 예약을 막으므로 같은 공간의 예약도 직렬화하지 않는다.
+@Component
+@ConditionalOnProperty(prefix = "booking.lock", name = "type", havingValue = "none")
+public class NoOpBookingLockManager implements BookingLockManager {
+
+    @Override
+    public <T> T executeWithLock(Long spaceId, Supplier<T> action) {
+        return action.get();
+    }
+}
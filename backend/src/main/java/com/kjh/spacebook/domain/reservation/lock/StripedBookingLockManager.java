@@ -0,0 +1,75 @@
+package com.kjh.spacebook.domain.reservation.lock;
+
+import com.kjh.spacebook.common.exception.BusinessException;
+import com.kjh.spacebook.domain.reservation.exception.ReservationErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// spaceId를 고정 개수의 ReentrantLock에 나눠 담는 프로세스 내 락 (기본 구현)
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "booking.lock", name = "type", havingValue = "striped", matchIfMissing = true)
+public class StripedBookingLockManager implements BookingLockManager {
+    private final ReentrantLock[] stripes;
+    private final long waitTimeoutNanos;
+
+    private final Timer waitTimer;
+    private final Counter timeoutCounter;
+
+    public StripedBookingLockManager(BookingLockProperties properties, MeterRegistry meterRegistry) {
+        this.stripes = new ReentrantLock[properties.stripes()];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.waitTimeoutNanos = properties.waitTimeout().toNanos();
+
+        this.waitTimer = Timer.builder("booking.lock.wait")
+                .description("예약 락 획득 대기 시간")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("booking.lock.timeouts")
+                .description("예약 락 획득 시간 초과 횟수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> T executeWithLock(Long spaceId, Supplier<T> action) {
+        ReentrantLock lock = stripeFor(spaceId);
+
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ReservationErrorCode.RESERVATION_LOCK_TIMEOUT);
+        } finally {
+            waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            timeoutCounter.increment();
+            log.warn("예약 락 획득 시간 초과: spaceId={}", spaceId);
+            throw new BusinessException(ReservationErrorCode.RESERVATION_LOCK_TIMEOUT);
+        }
+
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock stripeFor(Long spaceId) {
+        int hash = spaceId.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+}
@@ -0,0 +1,36 @@
+package com.kjh.spacebook.domain.reservation.repository;
+
+import com.kjh.spacebook.domain.reservation.entity.ArchivedReservation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface ArchivedReservationRepository extends JpaRepository<ArchivedReservation, Long> {
+
+    @EntityGraph(attributePaths = "space")
+    Optional<ArchivedReservation> findWithSpaceById(Long id);
+
+    // 네이티브 변경 쿼리는 기본적으로 2차 캐시 전체를 비우므로 영향받는 테이블을 알려준다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reservations_archive"))
+    @Query(value = "INSERT INTO reservations_archive " +
+            "(id, user_id, space_id, series_id, start_time, end_time, people_count, total_price, " +
+            "purpose, status, created_at, updated_at, archived_at) " +
+            "SELECT id, user_id, space_id, series_id, start_time, end_time, people_count, total_price, " +
+            "purpose, status, created_at, updated_at, :archivedAt " +
+            "FROM reservations WHERE id IN :ids",
+            nativeQuery = true)
+    int copyFromReservations(
+            @Param("ids") Collection<Long> ids,
+            @Param("archivedAt") LocalDateTime archivedAt
+    );
+}
@@ -0,0 +1,37 @@
+package com.kjh.spacebook.domain.reservation.repository;
+
+import com.kjh.spacebook.domain.reservation.entity.AvailabilityStamp;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface AvailabilityStampRepository extends JpaRepository<AvailabilityStamp, AvailabilityStamp.Key> {
+
+    @Query("SELECT a.version FROM AvailabilityStamp a WHERE a.spaceId = :spaceId AND a.date = :date")
+    Optional<Long> findVersion(@Param("spaceId") Long spaceId, @Param("date") LocalDate date);
+
+    List<AvailabilityStamp> findAllBySpaceIdAndDateBetween(Long spaceId, LocalDate from, LocalDate to);
+
+    List<AvailabilityStamp> findAllByDateBetween(LocalDate from, LocalDate to);
+
+    List<AvailabilityStamp> findAllByDateGreaterThanEqual(LocalDate from);
+
+    // 버전은 줄지 않으므로 기간 안의 어느 행이 올라가거나 새로 생기면 합이 커진다.
+    @Query("SELECT COALESCE(SUM(a.version), 0) FROM AvailabilityStamp a WHERE a.date BETWEEN :from AND :to")
+    long sumVersions(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "availability_stamps"))
+    @Query(value = "INSERT INTO availability_stamps (space_id, stamp_date, version) VALUES (:spaceId, :date, 1) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1",
+            nativeQuery = true)
+    int increment(@Param("spaceId") Long spaceId, @Param("date") LocalDate date);
+}
@@ -0,0 +1,33 @@
+package com.kjh.spacebook.domain.reservation.repository;
+
+import com.kjh.spacebook.domain.reservation.entity.IdempotencyRecord;
+import com.kjh.spacebook.domain.reservation.enums.IdempotentOperation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByUserIdAndOperationAndIdempotencyKey(
+            Long userId,
+            IdempotentOperation operation,
+            String idempotencyKey
+    );
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.reservationId = :reservationId WHERE r.id = :id")
+    int complete(@Param("id") Long id, @Param("reservationId") Long reservationId);
+
+    // 처리 중인 채로 남은 claim만 지운다. 완료된 결과는 보존 기간까지 유지한다.
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.reservationId IS NULL AND r.createdAt < :before")
+    int deleteStaleClaim(@Param("id") Long id, @Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :before")
+    int deleteAllByCreatedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -1,46 +1,144 @@
 package com.kjh.spacebook.domain.reservation.repository;
 
 import com.kjh.spacebook.domain.reservation.entity.Reservation;
+import com.kjh.spacebook.domain.reservation.entity.ReservationSeries;
 import com.kjh.spacebook.domain.reservation.enums.ReservationStatus;
-import com.kjh.spacebook.domain.space.entity.Space;
 import com.kjh.spacebook.domain.user.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
-    Page<Reservation> findAllByUser(User user, Pageable pageable);
+    // 보관 테이블로 옮겨진 예약까지 합쳐 최신 일정 순으로 조회한다.
+    @Query(value = "SELECT r.id AS id, r.space_id AS spaceId, s.space_name AS spaceName, " +
+            "r.start_time AS startTime, r.end_time AS endTime, r.status AS status " +
+            "FROM reservations r JOIN spaces s ON s.id = r.space_id WHERE r.user_id = :userId " +
+            "UNION ALL " +
+            "SELECT a.id, a.space_id, s.space_name, a.start_time, a.end_time, a.status " +
+            "FROM reservations_archive a JOIN spaces s ON s.id = a.space_id WHERE a.user_id = :userId " +
+            "ORDER BY startTime DESC, id DESC " +
+            "LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<ReservationSummary> findSummariesIncludingArchive(
+            @Param("userId") Long userId,
+            @Param("limit") int limit,
+            @Param("offset") long offset
+    );
+
+    // 커서 이후의 예약을 최신 일정 순으로 조회한다. 두 테이블 모두 (user_id, start_time) 인덱스를 따라 읽고 멈춘다.
+    @Query(value = "(SELECT r.id AS id, r.space_id AS spaceId, s.space_name AS spaceName, " +
+            "r.start_time AS startTime, r.end_time AS endTime, r.status AS status " +
+            "FROM reservations r JOIN spaces s ON s.id = r.space_id WHERE r.user_id = :userId " +
+            "AND (r.start_time < :cursorKey OR (r.start_time = :cursorKey AND r.id < :cursorId)) " +
+            "ORDER BY r.start_time DESC, r.id DESC LIMIT :limit) " +
+            "UNION ALL " +
+            "(SELECT a.id, a.space_id, s.space_name, a.start_time, a.end_time, a.status " +
+            "FROM reservations_archive a JOIN spaces s ON s.id = a.space_id WHERE a.user_id = :userId " +
+            "AND (a.start_time < :cursorKey OR (a.start_time = :cursorKey AND a.id < :cursorId)) " +
+            "ORDER BY a.start_time DESC, a.id DESC LIMIT :limit) " +
+            "ORDER BY startTime DESC, id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<ReservationSummary> scrollSummariesIncludingArchive(
+            @Param("userId") Long userId,
+            @Param("cursorKey") LocalDateTime cursorKey,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
+
+    @Query(value = "SELECT (SELECT COUNT(*) FROM reservations WHERE user_id = :userId) " +
+            "+ (SELECT COUNT(*) FROM reservations_archive WHERE user_id = :userId)",
+            nativeQuery = true)
+    long countIncludingArchive(@Param("userId") Long userId);
+
+    // 종료 후 보관 기간이 지난 예약 id를 id 순으로 이어서 조회한다. HOLD는 만료 처리에 맡긴다.
+    @Query("SELECT r.id FROM Reservation r " +
+            "WHERE r.id > :lastId " +
+            "AND r.endTime < :cutoff " +
+            "AND r.status <> :excluded " +
+            "ORDER BY r.id")
+    List<Long> findArchivableIds(
+            @Param("lastId") Long lastId,
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("excluded") ReservationStatus excluded,
+            Pageable pageable
+    );
+
+    @EntityGraph(attributePaths = "space")
+    Optional<Reservation> findWithSpaceById(Long id);
 
     @Query("SELECT r FROM Reservation r " +
             "WHERE r.space.id = :spaceId " +
-            "AND r.status = :status " +
+            "AND r.status IN :statuses " +
             "AND r.startTime < :dateEnd " +
             "AND r.endTime > :dateStart")
     List<Reservation> findReservedTimes(
             @Param("spaceId") Long spaceId,
-            @Param("status") ReservationStatus status,
+            @Param("statuses") Collection<ReservationStatus> statuses,
             @Param("dateStart") LocalDateTime dateStart,
             @Param("dateEnd") LocalDateTime dateEnd
     );
 
-    @Query("SELECT COUNT(r) > 0 FROM Reservation r " +
-            "WHERE r.space = :space " +
-            "AND r.status = :status " +
-            "AND r.startTime < :endTime " +
-            "AND r.endTime > :startTime")
-    boolean existsOverlapping(
-            @Param("space") Space space,
-            @Param("status") ReservationStatus status,
-            @Param("startTime") LocalDateTime startTime,
-            @Param("endTime") LocalDateTime endTime
+    // 시간대가 겹치는 예약이 있는 공간 id. 가용성 인덱스가 보관하지 않는 지난 날짜에만 쓴다.
+    // 목록 조회(SpaceRepository.AVAILABLE_BETWEEN)와 같이 만료된 임시 점유는 빼고 센다.
+    @Query("SELECT DISTINCT r.space.id FROM Reservation r " +
+            "WHERE r.status IN :statuses " +
+            "AND (r.status <> com.kjh.spacebook.domain.reservation.enums.ReservationStatus.HOLD " +
+            "OR r.holdExpiresAt > CURRENT_TIMESTAMP) " +
+            "AND r.startTime < :end " +
+            "AND r.endTime > :start")
+    List<Long> findOccupiedSpaceIds(
+            @Param("statuses") Collection<ReservationStatus> statuses,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
     );
 
     boolean existsByUserAndStatus(User user, ReservationStatus status);
+
+    List<Reservation> findAllByStatusInAndEndTimeAfter(Collection<ReservationStatus> statuses, LocalDateTime endTime);
+
+    List<Reservation> findAllByStatus(ReservationStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Reservation r WHERE r.id = :id")
+    Optional<Reservation> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Reservation r WHERE r.id IN :ids AND r.status = :status")
+    List<Reservation> findAllByIdInAndStatusForUpdate(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") ReservationStatus status
+    );
+
+    List<Reservation> findAllBySeriesAndStatusAndStartTimeAfter(
+            ReservationSeries series,
+            ReservationStatus status,
+            LocalDateTime startTime
+    );
+
+    long countBySeriesAndStatus(ReservationSeries series, ReservationStatus status);
+
+    @Modifying
+    @Query("DELETE FROM Reservation r WHERE r.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = :status, r.updatedAt = :updatedAt WHERE r.id IN :ids")
+    int updateStatusByIdIn(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") ReservationStatus status,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
 }
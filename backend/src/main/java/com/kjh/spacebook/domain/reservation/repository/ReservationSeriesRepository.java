@@ -0,0 +1,7 @@
+package com.kjh.spacebook.domain.reservation.repository;
+
+import com.kjh.spacebook.domain.reservation.entity.ReservationSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReservationSeriesRepository extends JpaRepository<ReservationSeries, Long> {
+}
@@ -0,0 +1,21 @@
+package com.kjh.spacebook.domain.reservation.repository;
+
+import com.kjh.spacebook.domain.reservation.entity.Reservation;
+import com.kjh.spacebook.domain.reservation.entity.ReservationSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface ReservationSlotRepository extends JpaRepository<ReservationSlot, Long> {
+
+    @Modifying
+    @Query("DELETE FROM ReservationSlot s WHERE s.reservation = :reservation")
+    int deleteAllByReservation(@Param("reservation") Reservation reservation);
+
+    @Modifying
+    @Query("DELETE FROM ReservationSlot s WHERE s.reservation.id IN :reservationIds")
+    int deleteAllByReservationIdIn(@Param("reservationIds") Collection<Long> reservationIds);
+}
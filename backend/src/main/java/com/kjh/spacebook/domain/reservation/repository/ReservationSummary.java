@@ -0,0 +1,20 @@
+package com.kjh.spacebook.domain.reservation.repository;
+
+import com.kjh.spacebook.domain.reservation.enums.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+// 예약 목록용 프로젝션. reservations와 reservations_archive 양쪽 행을 같은 모양으로 읽는다.
+public interface ReservationSummary {
+    Long getId();
+
+    Long getSpaceId();
+
+    String getSpaceName();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+
+    ReservationStatus getStatus();
+}
@@ -0,0 +1,58 @@
+package com.kjh.spacebook.domain.reservation.repository;
+
+import com.kjh.spacebook.domain.reservation.entity.WaitlistEntry;
+import com.kjh.spacebook.domain.reservation.enums.WaitlistStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    // 비워진 시간대와 겹치는 대기를 선착순으로 조회한다.
+    // 시작 시간을 (now, endTime) 범위로 묶어 (space_id, status, start_time) 인덱스 범위 스캔으로 찾는다.
+    @Query("SELECT w FROM WaitlistEntry w " +
+            "JOIN FETCH w.user " +
+            "JOIN FETCH w.space " +
+            "WHERE w.space.id = :spaceId " +
+            "AND w.status = :status " +
+            "AND w.startTime < :endTime " +
+            "AND w.startTime > :now " +
+            "AND w.endTime > :startTime " +
+            "ORDER BY w.id")
+    List<WaitlistEntry> findCandidates(
+            @Param("spaceId") Long spaceId,
+            @Param("status") WaitlistStatus status,
+            @Param("now") LocalDateTime now,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime
+    );
+
+    // 예약 전환과 같은 트랜잭션에서 대기 상태를 다시 확인한다. 다른 전환이 끝날 때까지 기다린다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM WaitlistEntry w WHERE w.id = :id AND w.status = :status")
+    Optional<WaitlistEntry> findByIdAndStatusForUpdate(
+            @Param("id") Long id,
+            @Param("status") WaitlistStatus status
+    );
+
+    boolean existsByUserIdAndSpaceIdAndStartTimeAndEndTimeAndStatus(
+            Long userId,
+            Long spaceId,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            WaitlistStatus status
+    );
+
+    // 보관 테이블로 옮겨지는 예약을 가리키던 대기 기록은 연결만 끊는다.
+    @Modifying
+    @Query("UPDATE WaitlistEntry w SET w.reservation = null WHERE w.reservation.id IN :reservationIds")
+    int detachReservations(@Param("reservationIds") Collection<Long> reservationIds);
+}
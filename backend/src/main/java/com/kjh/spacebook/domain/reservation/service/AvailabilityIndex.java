@@ -0,0 +1,299 @@
+package com.kjh.spacebook.domain.reservation.service;
+
+import com.kjh.spacebook.domain.reservation.entity.AvailabilityStamp;
+import com.kjh.spacebook.domain.reservation.entity.Reservation;
+import com.kjh.spacebook.domain.reservation.enums.ReservationStatus;
+import com.kjh.spacebook.domain.reservation.repository.AvailabilityStampRepository;
+import com.kjh.spacebook.domain.reservation.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 공간별 · 날짜별 예약 현황을 하루 24비트 마스크로 보관하는 인메모리 인덱스 (비트 i = i시 ~ i+1시)
+// 기동 시 오늘 이후의 확정 예약으로 채우고, 예약 생성/취소 시 함께 갱신한다.
+// 날짜마다 마지막으로 읽은 availability_stamps 버전을 함께 두고, 조회 전에 sync로 DB 버전과 비교해
+// 다른 인스턴스에서 바뀐 날짜는 DB에서 다시 읽는다. 겹치는 예약의 최종 판정은 reservation_slots 유니크 키가 한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailabilityIndex implements SmartInitializingSingleton {
+    private static final int HOURS_PER_DAY = 24;
+
+    private static final long UNKNOWN = -1;
+
+    private final ReservationRepository reservationRepository;
+    private final AvailabilityStampRepository availabilityStampRepository;
+
+    private final Map<Long, SpaceCalendar> calendars = new ConcurrentHashMap<>();
+
+    // 시간대를 점유한 것으로 보는 예약 상태. 만료 전의 임시 점유도 점유로 취급한다.
+    // 인덱스가 보관하지 않는 지난 날짜를 DB에서 읽을 때도 같은 상태를 쓴다.
+    public static final List<ReservationStatus> OCCUPYING_STATUSES =
+            List.of(ReservationStatus.CONFIRMED, ReservationStatus.HOLD);
+
+    // 인덱스가 보관하는 가장 이른 날짜 (이전 날짜는 DB 조회)
+    private volatile LocalDate horizon;
+
+    // 웹 서버가 요청을 받기 전에 적재를 마친다.
+    @Override
+    public void afterSingletonsInstantiated() {
+        load(LocalDate.now());
+    }
+
+    void load(LocalDate from) {
+        // 버전을 먼저 읽어, 그 사이 바뀐 날짜는 다음 sync에서 다시 읽히게 한다.
+        List<AvailabilityStamp> stamps = availabilityStampRepository.findAllByDateGreaterThanEqual(from);
+        List<Reservation> reservations = reservationRepository.findAllByStatusInAndEndTimeAfter(
+                OCCUPYING_STATUSES,
+                from.atStartOfDay()
+        );
+
+        calendars.clear();
+        for (AvailabilityStamp stamp : stamps) {
+            calendar(stamp.getSpaceId()).stamp(stamp.getDate(), stamp.getVersion());
+        }
+        for (Reservation reservation : reservations) {
+            calendar(reservation.getSpace().getId())
+                    .mark(reservation.getStartTime(), reservation.getEndTime());
+        }
+        horizon = from;
+
+        log.info("예약 가용성 인덱스 적재 완료: {}건", reservations.size());
+    }
+
+    public boolean covers(LocalDate date) {
+        LocalDate current = horizon;
+        return current != null && !date.isBefore(current);
+    }
+
+    // 겹치는 예약이 없으면 시간대를 점유한다. 트랜잭션 안에서 호출되면 롤백 시 점유가 해제된다.
+    // 인덱스는 인스턴스마다 따로 있어 다른 인스턴스의 취소가 아직 반영되지 않았을 수 있으므로,
+    // 겹치면 해당 날짜를 DB 버전으로 맞춘 뒤 한 번 더 확인하고 나서 거절한다.
+    public boolean tryReserve(Long spaceId, LocalDateTime startTime, LocalDateTime endTime) {
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+        if (!calendar(spaceId).tryMark(startTime, endTime, inTransaction)) {
+            sync(spaceId, startTime.toLocalDate(), AvailabilityVersions.lastDate(endTime));
+            if (!calendar(spaceId).tryMark(startTime, endTime, inTransaction)) {
+                return false;
+            }
+        }
+
+        if (inTransaction) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    calendar(spaceId).settle(startTime, endTime);
+                    if (status != STATUS_COMMITTED) {
+                        // 그 사이 sync로 읽어 온 점유까지 지웠을 수 있으므로 다음 조회에서 DB로 확인한다.
+                        calendar(spaceId).clear(startTime, endTime);
+                        calendar(spaceId).invalidate(startTime, endTime);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    public boolean isAvailable(Long spaceId, LocalDateTime startTime, LocalDateTime endTime) {
+        SpaceCalendar calendar = calendars.get(spaceId);
+        return calendar == null || calendar.isFree(startTime, endTime);
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 해제한다.
+    public void release(Long spaceId, LocalDateTime startTime, LocalDateTime endTime) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    calendar(spaceId).clear(startTime, endTime);
+                }
+            });
+            return;
+        }
+        calendar(spaceId).clear(startTime, endTime);
+    }
+
+    // 공간의 from ~ to(포함) 날짜 중 DB 버전과 다른 날짜를 DB에서 다시 읽는다.
+    public void sync(Long spaceId, LocalDate from, LocalDate to) {
+        Map<LocalDate, Long> current = new HashMap<>();
+        availabilityStampRepository.findAllBySpaceIdAndDateBetween(spaceId, from, to)
+                .forEach(stamp -> current.put(stamp.getDate(), stamp.getVersion()));
+        reload(spaceId, from, to, current);
+    }
+
+    // 모든 공간의 from ~ to(포함) 날짜를 맞춘다. 이용 가능 시간으로 공간을 거르기 전에 쓴다.
+    public void syncAll(LocalDate from, LocalDate to) {
+        Map<Long, Map<LocalDate, Long>> current = new HashMap<>();
+        availabilityStampRepository.findAllByDateBetween(from, to)
+                .forEach(stamp -> current.computeIfAbsent(stamp.getSpaceId(), id -> new HashMap<>())
+                        .put(stamp.getDate(), stamp.getVersion()));
+
+        Set<Long> spaceIds = new HashSet<>(current.keySet());
+        spaceIds.addAll(calendars.keySet());
+        for (Long spaceId : spaceIds) {
+            reload(spaceId, from, to, current.getOrDefault(spaceId, Map.of()));
+        }
+    }
+
+    private void reload(Long spaceId, LocalDate from, LocalDate to, Map<LocalDate, Long> current) {
+        SpaceCalendar calendar = calendar(spaceId);
+        List<LocalDate> stale = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (calendar.stamp(date) != current.getOrDefault(date, 0L)) {
+                stale.add(date);
+            }
+        }
+        if (stale.isEmpty()) {
+            return;
+        }
+
+        LocalDate first = stale.get(0);
+        LocalDate last = stale.get(stale.size() - 1);
+        List<Reservation> reservations = reservationRepository.findReservedTimes(
+                spaceId, OCCUPYING_STATUSES, first.atStartOfDay(), last.plusDays(1).atStartOfDay());
+        for (LocalDate date : stale) {
+            int mask = 0;
+            for (Reservation reservation : reservations) {
+                mask |= bits(date, reservation.getStartTime(), reservation.getEndTime());
+            }
+            calendar.replace(date, mask, current.getOrDefault(date, 0L));
+        }
+    }
+
+    public int getReservedMask(Long spaceId, LocalDate date) {
+        SpaceCalendar calendar = calendars.get(spaceId);
+        return calendar == null ? 0 : calendar.mask(date);
+    }
+
+    // 지난 날짜는 더 이상 충돌 검사에 쓰이지 않으므로 매일 자정에 비운다.
+    @Scheduled(cron = "0 0 0 * * *")
+    public void evictPastDays() {
+        evictBefore(LocalDate.now());
+    }
+
+    void evictBefore(LocalDate date) {
+        horizon = date;
+        calendars.values().forEach(calendar -> calendar.evictBefore(date));
+    }
+
+    private SpaceCalendar calendar(Long spaceId) {
+        return calendars.computeIfAbsent(spaceId, id -> new SpaceCalendar());
+    }
+
+    // [startTime, endTime) 중 date에 속하는 시간대의 비트
+    static int bits(LocalDate date, LocalDateTime startTime, LocalDateTime endTime) {
+        int from = startTime.toLocalDate().isBefore(date) ? 0 : startTime.getHour();
+        int to = endTime.toLocalDate().isAfter(date) ? HOURS_PER_DAY : endTime.getHour();
+        if (to <= from) {
+            return 0;
+        }
+        return (int) ((1L << to) - (1L << from));
+    }
+
+    private static class SpaceCalendar {
+        private final Map<LocalDate, Integer> days = new HashMap<>();
+        // 날짜별로 마지막으로 맞춘 DB 버전. 없으면 0 (DB에도 행이 없는 상태)
+        private final Map<LocalDate, Long> stamps = new HashMap<>();
+        // 아직 커밋되지 않은 이 인스턴스의 점유. DB에서 다시 읽어도 지우지 않는다.
+        private final Map<LocalDate, Integer> claims = new HashMap<>();
+
+        synchronized boolean tryMark(LocalDateTime startTime, LocalDateTime endTime, boolean claim) {
+            if (!isFree(startTime, endTime)) {
+                return false;
+            }
+            mark(startTime, endTime);
+            if (claim) {
+                for (LocalDate date = startTime.toLocalDate(); date.atStartOfDay().isBefore(endTime); date = date.plusDays(1)) {
+                    claims.merge(date, bits(date, startTime, endTime), (a, b) -> a | b);
+                }
+            }
+            return true;
+        }
+
+        // 트랜잭션이 끝난 점유는 더 이상 보호하지 않는다.
+        synchronized void settle(LocalDateTime startTime, LocalDateTime endTime) {
+            for (LocalDate date = startTime.toLocalDate(); date.atStartOfDay().isBefore(endTime); date = date.plusDays(1)) {
+                int remaining = claims.getOrDefault(date, 0) & ~bits(date, startTime, endTime);
+                if (remaining == 0) {
+                    claims.remove(date);
+                } else {
+                    claims.put(date, remaining);
+                }
+            }
+        }
+
+        synchronized boolean isFree(LocalDateTime startTime, LocalDateTime endTime) {
+            for (LocalDate date = startTime.toLocalDate(); date.atStartOfDay().isBefore(endTime); date = date.plusDays(1)) {
+                if ((days.getOrDefault(date, 0) & bits(date, startTime, endTime)) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        synchronized void mark(LocalDateTime startTime, LocalDateTime endTime) {
+            for (LocalDate date = startTime.toLocalDate(); date.atStartOfDay().isBefore(endTime); date = date.plusDays(1)) {
+                days.merge(date, bits(date, startTime, endTime), (a, b) -> a | b);
+            }
+        }
+
+        synchronized void clear(LocalDateTime startTime, LocalDateTime endTime) {
+            for (LocalDate date = startTime.toLocalDate(); date.atStartOfDay().isBefore(endTime); date = date.plusDays(1)) {
+                int remaining = days.getOrDefault(date, 0) & ~bits(date, startTime, endTime);
+                if (remaining == 0) {
+                    days.remove(date);
+                } else {
+                    days.put(date, remaining);
+                }
+            }
+        }
+
+        synchronized int mask(LocalDate date) {
+            return days.getOrDefault(date, 0);
+        }
+
+        synchronized long stamp(LocalDate date) {
+            return stamps.getOrDefault(date, 0L);
+        }
+
+        synchronized void stamp(LocalDate date, long version) {
+            stamps.put(date, version);
+        }
+
+        synchronized void invalidate(LocalDateTime startTime, LocalDateTime endTime) {
+            for (LocalDate date = startTime.toLocalDate(); date.atStartOfDay().isBefore(endTime); date = date.plusDays(1)) {
+                stamps.put(date, UNKNOWN);
+            }
+        }
+
+        synchronized void replace(LocalDate date, int mask, long version) {
+            int merged = mask | claims.getOrDefault(date, 0);
+            if (merged == 0) {
+                days.remove(date);
+            } else {
+                days.put(date, merged);
+            }
+            stamps.put(date, version);
+        }
+
+        synchronized void evictBefore(LocalDate date) {
+            days.keySet().removeIf(day -> day.isBefore(date));
+            stamps.keySet().removeIf(day -> day.isBefore(date));
+            claims.keySet().removeIf(day -> day.isBefore(date));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.kjh.spacebook.domain.reservation.service;
+
+import com.kjh.spacebook.domain.reservation.event.ReservationArchivedEvent;
+import com.kjh.spacebook.domain.reservation.event.ReservationBookedEvent;
+import com.kjh.spacebook.domain.reservation.event.ReservationCancelledEvent;
+import com.kjh.spacebook.domain.reservation.repository.AvailabilityStampRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 공간별 · 날짜별 예약 현황의 변경 번호(availability_stamps). 예약된 시간대 조회 응답의 ETag로 쓴다.
+// 예약 생성 · 취소 · 보관과 같은 트랜잭션에서 올리므로, 커밋된 변경은 어느 인스턴스에서 조회해도 새 번호로 보인다.
+@Component
+@RequiredArgsConstructor
+public class AvailabilityVersions {
+    private final AvailabilityStampRepository availabilityStampRepository;
+
+    public String version(Long spaceId, LocalDate date) {
+        return String.valueOf(availabilityStampRepository.findVersion(spaceId, date).orElse(0L));
+    }
+
+    // [start, end)가 걸친 날짜들의 번호 합. 이용 가능 시간으로 거른 공간 목록의 ETag에 쓴다.
+    public String windowVersion(LocalDateTime start, LocalDateTime end) {
+        return String.valueOf(availabilityStampRepository.sumVersions(start.toLocalDate(), lastDate(end)));
+    }
+
+    @EventListener
+    public void onReservationBooked(ReservationBookedEvent event) {
+        stamp(event.spaceId(), event.startTime(), event.endTime());
+    }
+
+    @EventListener
+    public void onReservationCancelled(ReservationCancelledEvent event) {
+        stamp(event.spaceId(), event.startTime(), event.endTime());
+    }
+
+    // 보관된 예약은 예약 테이블에서 빠지므로 지난 날짜의 예약 현황도 달라진다.
+    @EventListener
+    public void onReservationArchived(ReservationArchivedEvent event) {
+        stamp(event.spaceId(), event.startTime(), event.endTime());
+    }
+
+    // 같은 트랜잭션의 변경을 모아 커밋 직전에 (공간, 날짜) 순서로 올린다.
+    // 여러 날짜를 올리는 트랜잭션끼리 순서가 같아 행 락 교착이 생기지 않는다.
+    void stamp(Long spaceId, LocalDateTime startTime, LocalDateTime endTime) {
+        Set<Key> keys = pendingKeys();
+        for (LocalDate date = startTime.toLocalDate(); date.atStartOfDay().isBefore(endTime); date = date.plusDays(1)) {
+            keys.add(new Key(spaceId, date));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Key> pendingKeys() {
+        Set<Key> keys = (Set<Key>) TransactionSynchronizationManager.getResource(this);
+        if (keys != null) {
+            return keys;
+        }
+
+        Set<Key> created = new TreeSet<>(Key.ORDER);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                created.forEach(key -> availabilityStampRepository.increment(key.spaceId(), key.date()));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(AvailabilityVersions.this);
+            }
+        });
+        TransactionSynchronizationManager.bindResource(this, created);
+        return created;
+    }
+
+    // [start, end)가 걸친 마지막 날짜. 자정에 끝나면 그 전날까지다.
+    static LocalDate lastDate(LocalDateTime end) {
+        return end.minusNanos(1).toLocalDate();
+    }
+
+    private record Key(Long spaceId, LocalDate date) {
+        static final Comparator<Key> ORDER = Comparator.comparing(Key::spaceId).thenComparing(Key::date);
+    }
+}
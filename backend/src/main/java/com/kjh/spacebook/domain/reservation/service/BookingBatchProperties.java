@@ -0,0 +1,18 @@
+package com.kjh.spacebook.domain.reservation.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "booking.batch")
+public record BookingBatchProperties(
+        @Positive int maxSize,
+        @Positive int threads,
+        @Positive int queueCapacity,
+        @NotNull Duration awaitTimeout
+) {
+}
@@ -0,0 +1,68 @@
+package com.kjh.spacebook.domain.reservation.service;
+
+import com.kjh.spacebook.common.email.EmailType;
+import com.kjh.spacebook.domain.reservation.entity.Reservation;
+import com.kjh.spacebook.domain.reservation.entity.ReservationSeries;
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+
+// 검증을 마친 예약 요청. 재시도 시 새 엔티티를 만들 수 있도록 엔티티 대신 값을 들고 다닌다.
+// confirmation은 저장과 같은 트랜잭션에서 쌓을 메일 종류다. (null이면 보내지 않는다)
+// waitlistEntryId가 있으면 같은 트랜잭션에서 그 대기를 예약 전환 처리한다.
+public record BookingCommand(
+        User user,
+        Space space,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        int peopleCount,
+        int totalPrice,
+        String purpose,
+        ReservationSeries series,
+        LocalDateTime holdExpiresAt,
+        EmailType confirmation,
+        Long waitlistEntryId
+) {
+    public BookingCommand(
+            User user,
+            Space space,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            int peopleCount,
+            int totalPrice,
+            String purpose
+    ) {
+        this(user, space, startTime, endTime, peopleCount, totalPrice, purpose, null, null, EmailType.RESERVATION_CONFIRM, null);
+    }
+
+    // 같은 조건으로 시간만 옮긴 반복 일정
+    public BookingCommand occurrence(
+            ReservationSeries series,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            EmailType confirmation
+    ) {
+        return new BookingCommand(user, space, startTime, endTime, peopleCount, totalPrice, purpose, series, null, confirmation, null);
+    }
+
+    // 확정 대신 만료 시각까지 임시 점유하는 요청. 확정 메일은 확정할 때 보낸다.
+    public BookingCommand asHold(LocalDateTime holdExpiresAt) {
+        return new BookingCommand(user, space, startTime, endTime, peopleCount, totalPrice, purpose, null, holdExpiresAt, null, null);
+    }
+
+    public BookingCommand withConfirmation(EmailType confirmation) {
+        return new BookingCommand(user, space, startTime, endTime, peopleCount, totalPrice, purpose, series, holdExpiresAt, confirmation, waitlistEntryId);
+    }
+
+    public BookingCommand forWaitlist(Long waitlistEntryId) {
+        return new BookingCommand(user, space, startTime, endTime, peopleCount, totalPrice, purpose, series, holdExpiresAt, confirmation, waitlistEntryId);
+    }
+
+    public Reservation toReservation() {
+        if (holdExpiresAt != null) {
+            return Reservation.hold(user, space, startTime, endTime, peopleCount, totalPrice, purpose, holdExpiresAt);
+        }
+        return Reservation.of(user, space, startTime, endTime, peopleCount, totalPrice, purpose, series);
+    }
+}
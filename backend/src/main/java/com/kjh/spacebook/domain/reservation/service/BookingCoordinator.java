@@ -0,0 +1,392 @@
+package com.kjh.spacebook.domain.reservation.service;
+
+import com.kjh.spacebook.common.exception.BusinessException;
+import com.kjh.spacebook.common.service.EmailService;
+import com.kjh.spacebook.domain.reservation.entity.Reservation;
+import com.kjh.spacebook.domain.reservation.entity.ReservationSlot;
+import com.kjh.spacebook.domain.reservation.entity.WaitlistEntry;
+import com.kjh.spacebook.domain.reservation.enums.WaitlistStatus;
+import com.kjh.spacebook.domain.reservation.event.ReservationBookedEvent;
+import com.kjh.spacebook.domain.reservation.exception.ReservationErrorCode;
+import com.kjh.spacebook.domain.reservation.lock.BookingLockManager;
+import com.kjh.spacebook.domain.reservation.repository.ReservationRepository;
+import com.kjh.spacebook.domain.reservation.repository.ReservationSlotRepository;
+import com.kjh.spacebook.domain.reservation.repository.WaitlistEntryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 공간별 단일 작성자(mailbox)로 예약 요청을 모아 한 트랜잭션에서 일괄 저장한다.
+// 같은 공간의 요청은 한 번에 하나의 스레드만 처리하므로 락 경합 없이 배치로 묶인다.
+@Slf4j
+@Component
+public class BookingCoordinator {
+    private static final int PENDING = 0;
+    private static final int TAKEN = 1;
+    private static final int ABANDONED = 2;
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final AvailabilityIndex availabilityIndex;
+    private final BookingLockManager bookingLockManager;
+    private final TransactionTemplate transactionTemplate;
+    private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingBatchProperties properties;
+    private final Executor executor;
+
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BookingCoordinator(
+            ReservationRepository reservationRepository,
+            ReservationSlotRepository reservationSlotRepository,
+            WaitlistEntryRepository waitlistEntryRepository,
+            AvailabilityIndex availabilityIndex,
+            BookingLockManager bookingLockManager,
+            TransactionTemplate transactionTemplate,
+            EmailService emailService,
+            ApplicationEventPublisher eventPublisher,
+            BookingBatchProperties properties
+    ) {
+        this(reservationRepository, reservationSlotRepository, waitlistEntryRepository, availabilityIndex,
+                bookingLockManager, transactionTemplate, emailService, eventPublisher, properties, createExecutor(properties));
+    }
+
+    BookingCoordinator(
+            ReservationRepository reservationRepository,
+            ReservationSlotRepository reservationSlotRepository,
+            WaitlistEntryRepository waitlistEntryRepository,
+            AvailabilityIndex availabilityIndex,
+            BookingLockManager bookingLockManager,
+            TransactionTemplate transactionTemplate,
+            EmailService emailService,
+            ApplicationEventPublisher eventPublisher,
+            BookingBatchProperties properties,
+            Executor executor
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.reservationSlotRepository = reservationSlotRepository;
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.bookingLockManager = bookingLockManager;
+        this.transactionTemplate = transactionTemplate;
+        this.emailService = emailService;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    private static ThreadPoolTaskExecutor createExecutor(BookingBatchProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("booking-");
+        executor.setCorePoolSize(properties.threads());
+        executor.setMaxPoolSize(properties.threads());
+        // 공간당 대기 작업은 최대 하나이므로 큐에는 예약이 몰린 공간 수만큼 쌓인다. 차면 호출 스레드에서 처리한다.
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor taskExecutor) {
+            taskExecutor.shutdown();
+        }
+    }
+
+    // 커밋까지 끝난 예약을 반환한다. 대기 시간을 넘기면 아직 처리되지 않은 요청은 취소한다.
+    public Reservation book(BookingCommand command) {
+        PendingBooking pending = enqueue(command);
+        return await(pending, System.nanoTime() + properties.awaitTimeout().toNanos());
+    }
+
+    // 여러 공간에 걸친 요청을 한꺼번에 넣고 건별 결과를 요청 순서대로 반환한다.
+    public List<BookingResult> bookAll(List<BookingCommand> commands) {
+        List<PendingBooking> pendings = commands.stream()
+                .map(this::enqueue)
+                .toList();
+        long deadline = System.nanoTime() + properties.awaitTimeout().toNanos();
+
+        List<BookingResult> results = new ArrayList<>();
+        for (PendingBooking pending : pendings) {
+            try {
+                results.add(BookingResult.success(await(pending, deadline)));
+            } catch (RuntimeException e) {
+                results.add(BookingResult.failure(e));
+            }
+        }
+        return results;
+    }
+
+    // 같은 공간의 여러 일정을 모두 저장하거나 하나도 저장하지 않는다. (반복 예약)
+    // 한 트랜잭션 안에서 처리되므로 mailbox를 거치지 않고 호출 스레드에서 실행한다.
+    public List<Reservation> bookTogether(Long spaceId, List<BookingCommand> commands) {
+        try {
+            return bookingLockManager.executeWithLock(spaceId, () -> transactionTemplate.execute(status -> {
+                for (BookingCommand command : commands) {
+                    if (!availabilityIndex.tryReserve(spaceId, command.startTime(), command.endTime())) {
+                        throw new BusinessException(ReservationErrorCode.RESERVATION_TIME_CONFLICT);
+                    }
+                }
+                List<Reservation> reservations = commands.stream()
+                        .map(BookingCommand::toReservation)
+                        .toList();
+                save(reservations);
+                for (int i = 0; i < commands.size(); i++) {
+                    enqueueConfirmation(commands.get(i), reservations.get(i));
+                }
+                return reservations;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(ReservationErrorCode.RESERVATION_TIME_CONFLICT);
+        }
+    }
+
+    private Reservation await(PendingBooking pending, long deadline) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return pending.result.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (pending.abandon()) {
+                throw new BusinessException(ReservationErrorCode.RESERVATION_LOCK_TIMEOUT);
+            }
+            // 이미 처리 중인 요청은 결과를 끝까지 기다린다.
+            return awaitResult(pending);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (pending.abandon()) {
+                throw new BusinessException(ReservationErrorCode.RESERVATION_LOCK_TIMEOUT);
+            }
+            return awaitResult(pending);
+        }
+    }
+
+    PendingBooking enqueue(BookingCommand command) {
+        Long spaceId = command.space().getId();
+        Mailbox mailbox = mailboxes.computeIfAbsent(spaceId, Mailbox::new);
+
+        PendingBooking pending = new PendingBooking(command);
+        mailbox.queue.add(pending);
+        schedule(mailbox);
+        return pending;
+    }
+
+    private void schedule(Mailbox mailbox) {
+        if (mailbox.draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(mailbox));
+        }
+    }
+
+    private void drain(Mailbox mailbox) {
+        try {
+            List<PendingBooking> batch;
+            while (!(batch = mailbox.pollBatch(properties.maxSize())).isEmpty()) {
+                process(mailbox.spaceId, batch);
+            }
+        } finally {
+            mailbox.draining.set(false);
+        }
+
+        // 플래그를 내리는 사이 들어온 요청이 있으면 다시 실행한다.
+        if (!mailbox.queue.isEmpty()) {
+            schedule(mailbox);
+        }
+    }
+
+    private void process(Long spaceId, List<PendingBooking> batch) {
+        try {
+            List<PendingBooking> accepted = bookingLockManager.executeWithLock(spaceId,
+                    () -> transactionTemplate.execute(status -> insert(spaceId, batch)));
+            accepted.forEach(PendingBooking::succeed);
+        } catch (DataIntegrityViolationException e) {
+            // 인덱스가 확인한 뒤에 다른 인스턴스가 같은 슬롯을 먼저 커밋한 경우. 배치 전체가 롤백되었으므로 건별로 다시 시도한다.
+            List<PendingBooking> remaining = batch.stream()
+                    .filter(pending -> !pending.result.isDone())
+                    .toList();
+            if (remaining.size() == 1) {
+                remaining.get(0).fail(new BusinessException(ReservationErrorCode.RESERVATION_TIME_CONFLICT));
+                return;
+            }
+            remaining.forEach(pending -> process(spaceId, List.of(pending)));
+        } catch (RuntimeException e) {
+            log.error("예약 배치 처리 실패: spaceId={}, size={}", spaceId, batch.size(), e);
+            batch.forEach(pending -> pending.fail(e));
+        }
+    }
+
+    // 인메모리 인덱스로 건별 충돌을 거른 뒤 통과한 예약을 한 번에 저장한다. (인덱스는 겹치면 DB 버전으로 다시 확인한다)
+    private List<PendingBooking> insert(Long spaceId, List<PendingBooking> batch) {
+        List<PendingBooking> accepted = new ArrayList<>();
+        for (PendingBooking pending : batch) {
+            if (pending.result.isDone()) {
+                continue;
+            }
+            BookingCommand command = pending.command;
+            WaitlistEntry entry = null;
+            if (command.waitlistEntryId() != null) {
+                // 대기를 잠근 채 아직 대기 중인지 확인해, 같은 대기가 두 번 예약되지 않게 한다.
+                entry = waitlistEntryRepository.findByIdAndStatusForUpdate(command.waitlistEntryId(), WaitlistStatus.WAITING)
+                        .orElse(null);
+                if (entry == null) {
+                    pending.fail(new BusinessException(ReservationErrorCode.WAITLIST_ALREADY_PROCESSED));
+                    continue;
+                }
+            }
+            if (availabilityIndex.tryReserve(spaceId, command.startTime(), command.endTime())) {
+                pending.reservation = command.toReservation();
+                pending.waitlistEntry = entry;
+                accepted.add(pending);
+            } else {
+                pending.fail(new BusinessException(ReservationErrorCode.RESERVATION_TIME_CONFLICT));
+            }
+        }
+
+        if (accepted.isEmpty()) {
+            return accepted;
+        }
+
+        save(accepted.stream()
+                .map(pending -> pending.reservation)
+                .toList());
+        accepted.forEach(pending -> {
+            if (pending.waitlistEntry != null) {
+                pending.waitlistEntry.promote(pending.reservation);
+            }
+            enqueueConfirmation(pending.command, pending.reservation);
+        });
+        return accepted;
+    }
+
+    private void save(List<Reservation> reservations) {
+        reservationRepository.saveAll(reservations);
+        reservationSlotRepository.saveAllAndFlush(reservations.stream()
+                .flatMap(reservation -> ReservationSlot.claimsOf(reservation).stream())
+                .toList());
+        reservations.forEach(reservation -> eventPublisher.publishEvent(new ReservationBookedEvent(
+                reservation.getSpace().getId(),
+                reservation.getStartTime(),
+                reservation.getEndTime()
+        )));
+    }
+
+    // 예약과 같은 트랜잭션에서 메일을 쌓아 롤백되면 메일도 나가지 않게 한다.
+    private void enqueueConfirmation(BookingCommand command, Reservation reservation) {
+        if (command.confirmation() == null) {
+            return;
+        }
+        Long seriesId = reservation.getSeries() == null ? null : reservation.getSeries().getId();
+        emailService.enqueue(command.confirmation(), command.user().getEmail(), reservation.getId(), seriesId);
+    }
+
+    private Reservation awaitResult(PendingBooking pending) {
+        try {
+            return pending.result.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ReservationErrorCode.RESERVATION_LOCK_TIMEOUT);
+        }
+    }
+
+    private RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return new IllegalStateException(e.getCause());
+    }
+
+    private static class Mailbox {
+        private final Long spaceId;
+        private final Queue<PendingBooking> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+
+        Mailbox(Long spaceId) {
+            this.spaceId = spaceId;
+        }
+
+        List<PendingBooking> pollBatch(int maxSize) {
+            List<PendingBooking> batch = new ArrayList<>();
+            PendingBooking pending;
+            while (batch.size() < maxSize && (pending = queue.poll()) != null) {
+                if (pending.take()) {
+                    batch.add(pending);
+                }
+            }
+            return batch;
+        }
+    }
+
+    static class PendingBooking {
+        private final BookingCommand command;
+        private final CompletableFuture<Reservation> result = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private Reservation reservation;
+        private WaitlistEntry waitlistEntry;
+
+        PendingBooking(BookingCommand command) {
+            this.command = command;
+        }
+
+        CompletableFuture<Reservation> result() {
+            return result;
+        }
+
+        private boolean take() {
+            return state.compareAndSet(PENDING, TAKEN);
+        }
+
+        private boolean abandon() {
+            return state.compareAndSet(PENDING, ABANDONED);
+        }
+
+        private void succeed() {
+            result.complete(reservation);
+        }
+
+        private void fail(RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    public record BookingResult(Reservation reservation, RuntimeException error) {
+        static BookingResult success(Reservation reservation) {
+            return new BookingResult(reservation, null);
+        }
+
+        static BookingResult failure(RuntimeException error) {
+            return new BookingResult(null, error);
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+}
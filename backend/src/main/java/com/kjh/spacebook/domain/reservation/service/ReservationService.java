@@ -1,15 +1,42 @@
 package com.kjh.spacebook.domain.reservation.service;
 
+import com.kjh.spacebook.common.email.EmailType;
 import com.kjh.spacebook.common.exception.BusinessException;
+import com.kjh.spacebook.common.response.Cursor;
+import com.kjh.spacebook.common.response.CursorResponse;
+import com.kjh.spacebook.common.response.Versioned;
 import com.kjh.spacebook.common.service.EmailService;
+import com.kjh.spacebook.domain.reservation.dto.request.BulkReservationRequest;
 import com.kjh.spacebook.domain.reservation.dto.request.CreateReservationRequest;
+import com.kjh.spacebook.domain.reservation.dto.request.CreateReservationSeriesRequest;
+import com.kjh.spacebook.domain.reservation.dto.response.AvailabilityCalendarResponse;
+import com.kjh.spacebook.domain.reservation.dto.response.BulkReservationItemResponse;
+import com.kjh.spacebook.domain.reservation.dto.response.BulkReservationResponse;
 import com.kjh.spacebook.domain.reservation.dto.response.ReservationListResponse;
 import com.kjh.spacebook.domain.reservation.dto.response.ReservationResponse;
+import com.kjh.spacebook.domain.reservation.dto.response.ReservationSeriesResponse;
 import com.kjh.spacebook.domain.reservation.dto.response.ReservedTimeResponse;
+import com.kjh.spacebook.domain.reservation.dto.response.WaitlistResponse;
+import com.kjh.spacebook.domain.reservation.entity.ArchivedReservation;
 import com.kjh.spacebook.domain.reservation.entity.Reservation;
+import com.kjh.spacebook.domain.reservation.entity.ReservationSeries;
+import com.kjh.spacebook.domain.reservation.entity.WaitlistEntry;
+import com.kjh.spacebook.domain.reservation.enums.IdempotentOperation;
+import com.kjh.spacebook.domain.reservation.enums.RecurrenceType;
 import com.kjh.spacebook.domain.reservation.enums.ReservationStatus;
+import com.kjh.spacebook.domain.reservation.enums.WaitlistStatus;
+import com.kjh.spacebook.domain.reservation.event.ReservationBookedEvent;
+import com.kjh.spacebook.domain.reservation.event.ReservationCancelledEvent;
 import com.kjh.spacebook.domain.reservation.exception.ReservationErrorCode;
+import com.kjh.spacebook.domain.reservation.hold.ReservationHoldReaper;
+import com.kjh.spacebook.domain.reservation.idempotency.IdempotencyStore;
+import com.kjh.spacebook.domain.reservation.repository.ArchivedReservationRepository;
 import com.kjh.spacebook.domain.reservation.repository.ReservationRepository;
+import com.kjh.spacebook.domain.reservation.repository.ReservationSummary;
+import com.kjh.spacebook.domain.reservation.repository.ReservationSeriesRepository;
+import com.kjh.spacebook.domain.reservation.repository.ReservationSlotRepository;
+import com.kjh.spacebook.domain.reservation.repository.WaitlistEntryRepository;
+import com.kjh.spacebook.domain.reservation.service.BookingCoordinator.BookingResult;
 import com.kjh.spacebook.domain.space.entity.Space;
 import com.kjh.spacebook.domain.space.enums.SpaceStatus;
 import com.kjh.spacebook.domain.space.exception.SpaceErrorCode;
@@ -18,111 +45,427 @@ import com.kjh.spacebook.domain.user.entity.User;
 import com.kjh.spacebook.domain.user.exception.UserErrorCode;
 import com.kjh.spacebook.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ReservationService {
+    private static final int MAX_AVAILABILITY_DAYS = 62;
+
     private final ReservationRepository reservationRepository;
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final ArchivedReservationRepository archivedReservationRepository;
+    private final ReservationSeriesRepository reservationSeriesRepository;
+    private final WaitlistEntryRepository waitlistEntryRepository;
     private final SpaceRepository spaceRepository;
     private final UserRepository userRepository;
     private final EmailService emailService;
+    private final AvailabilityIndex availabilityIndex;
+    private final AvailabilityVersions availabilityVersions;
+    private final BookingCoordinator bookingCoordinator;
+    private final ReservationHoldReaper reservationHoldReaper;
+    private final IdempotencyStore idempotencyStore;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional
+    // 조회와 검증은 요청 스레드에서, 충돌 검사와 저장은 공간별 BookingCoordinator에서 수행한다.
+    // 확정 메일은 BookingCoordinator가 예약과 같은 트랜잭션에서 쌓는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ReservationResponse createReservation(
             Long userId,
             CreateReservationRequest request
     ) {
-        if (!request.startTime().truncatedTo(ChronoUnit.HOURS).equals(request.startTime())
-                || !request.endTime().truncatedTo(ChronoUnit.HOURS).equals(request.endTime())) {
-            throw new BusinessException(ReservationErrorCode.RESERVATION_NOT_HOURLY);
+        validateTime(request);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
+
+        Space space = spaceRepository.findOpenById(request.spaceId())
+                .orElseThrow(() -> new BusinessException(SpaceErrorCode.SPACE_NOT_FOUND));
+
+        Reservation reservation = bookingCoordinator.book(toCommand(user, space, request));
+
+        return ReservationResponse.from(reservation);
+    }
+
+    // 같은 Idempotency-Key로 다시 들어온 요청은 예약을 다시 처리하지 않고 처음 결과를 돌려준다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReservationResponse createReservation(
+            Long userId,
+            CreateReservationRequest request,
+            String idempotencyKey
+    ) {
+        if (idempotencyKey == null) {
+            return createReservation(userId, request);
         }
 
-        if (!request.endTime().isAfter(request.startTime())) {
-            throw new BusinessException(ReservationErrorCode.RESERVATION_INVALID_TIME);
+        String requestHash = IdempotencyStore.requestHash(
+                request.spaceId(),
+                request.startTime(),
+                request.endTime(),
+                request.peopleCount(),
+                request.purpose()
+        );
+        Long reservationId = idempotencyStore.claim(
+                userId, IdempotentOperation.CREATE_RESERVATION, idempotencyKey, requestHash);
+        if (reservationId != null) {
+            return reservationRepository.findWithSpaceById(reservationId)
+                    .map(ReservationResponse::from)
+                    .orElseThrow(() -> new BusinessException(ReservationErrorCode.RESERVATION_NOT_FOUND));
         }
 
-        if (request.startTime().isBefore(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(1))) {
-            throw new BusinessException(ReservationErrorCode.RESERVATION_PAST_TIME);
+        try {
+            ReservationResponse response = createReservation(userId, request);
+            idempotencyStore.complete(userId, IdempotentOperation.CREATE_RESERVATION, idempotencyKey, response.id());
+            return response;
+        } catch (RuntimeException e) {
+            idempotencyStore.release(userId, IdempotentOperation.CREATE_RESERVATION, idempotencyKey);
+            throw e;
         }
+    }
+
+    // 확정 전까지 시간대를 임시 점유한다. 만료 시각이 지나면 ReservationHoldReaper가 일괄 취소한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReservationResponse createHold(
+            Long userId,
+            CreateReservationRequest request
+    ) {
+        validateTime(request);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
 
-        Space space = spaceRepository.findByIdForReservation(request.spaceId(), SpaceStatus.OPEN)
+        Space space = spaceRepository.findOpenById(request.spaceId())
                 .orElseThrow(() -> new BusinessException(SpaceErrorCode.SPACE_NOT_FOUND));
 
-        if (request.peopleCount() > space.getCapacity()) {
-            throw new BusinessException(ReservationErrorCode.RESERVATION_EXCEED_CAPACITY);
+        BookingCommand command = toCommand(user, space, request)
+                .asHold(reservationHoldReaper.expiresAt(LocalDateTime.now()));
+        Reservation reservation = bookingCoordinator.book(command);
+        reservationHoldReaper.register(reservation);
+
+        return ReservationResponse.from(reservation);
+    }
+
+    @Transactional
+    public ReservationResponse confirmHold(Long userId, Long reservationId) {
+        Reservation reservation = reservationRepository.findByIdForUpdate(reservationId)
+                .orElseThrow(() -> new BusinessException(ReservationErrorCode.RESERVATION_NOT_FOUND));
+
+        if (!reservation.getUser().getId().equals(userId)) {
+            throw new BusinessException(ReservationErrorCode.RESERVATION_NOT_OWNER);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (reservation.isExpiredHold(now)) {
+            throw new BusinessException(ReservationErrorCode.RESERVATION_HOLD_EXPIRED);
+        }
+
+        if (reservation.getStatus() == ReservationStatus.CANCELLED) {
+            throw new BusinessException(ReservationErrorCode.RESERVATION_ALREADY_CANCELLED);
+        }
+
+        if (reservation.getStatus() != ReservationStatus.HOLD) {
+            throw new BusinessException(ReservationErrorCode.RESERVATION_NOT_HOLD);
+        }
+
+        if (reservation.isHoldExpired(now)) {
+            throw new BusinessException(ReservationErrorCode.RESERVATION_HOLD_EXPIRED);
         }
 
-        boolean hasConflict = reservationRepository.existsOverlapping(
+        reservation.confirm();
+        eventPublisher.publishEvent(new ReservationBookedEvent(
+                reservation.getSpace().getId(),
+                reservation.getStartTime(),
+                reservation.getEndTime()
+        ));
+        emailService.sendReservationConfirm(reservation.getUser().getEmail(), reservation);
+
+        return ReservationResponse.from(reservation);
+    }
+
+    // 요청별 검증은 메모리에서 끝내고, 공간은 IN 쿼리 한 번으로 조회한다. 실패한 건은 건별 결과로 반환한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkReservationResponse createReservations(
+            Long userId,
+            BulkReservationRequest request
+    ) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
+
+        Set<Long> spaceIds = request.reservations().stream()
+                .map(CreateReservationRequest::spaceId)
+                .collect(Collectors.toSet());
+        Map<Long, Space> spaces = spaceRepository.findAllByIdInAndDeletedAtIsNullAndSpaceStatus(spaceIds, SpaceStatus.OPEN)
+                .stream()
+                .collect(Collectors.toMap(Space::getId, Function.identity()));
+
+        List<BulkReservationItemResponse> results = new ArrayList<>();
+        List<Integer> bookingIndexes = new ArrayList<>();
+        List<BookingCommand> commands = new ArrayList<>();
+
+        for (int i = 0; i < request.reservations().size(); i++) {
+            CreateReservationRequest item = request.reservations().get(i);
+            try {
+                validateTime(item);
+                Space space = spaces.get(item.spaceId());
+                if (space == null) {
+                    throw new BusinessException(SpaceErrorCode.SPACE_NOT_FOUND);
+                }
+                commands.add(toCommand(user, space, item));
+                bookingIndexes.add(i);
+                results.add(null);
+            } catch (BusinessException e) {
+                results.add(BulkReservationItemResponse.failure(i, e.getMessage()));
+            }
+        }
+
+        List<BookingResult> bookingResults = bookingCoordinator.bookAll(commands);
+        for (int i = 0; i < bookingResults.size(); i++) {
+            int index = bookingIndexes.get(i);
+            BookingResult result = bookingResults.get(i);
+
+            if (result.isSuccess()) {
+                results.set(index, BulkReservationItemResponse.success(index, ReservationResponse.from(result.reservation())));
+            } else {
+                results.set(index, BulkReservationItemResponse.failure(index, failureMessage(result.error())));
+            }
+        }
+
+        return BulkReservationResponse.of(results);
+    }
+
+    // 모든 반복 일정을 한 트랜잭션에서 검사·저장한다. 하나라도 겹치면 전체가 실패한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReservationSeriesResponse createReservationSeries(
+            Long userId,
+            CreateReservationSeriesRequest request
+    ) {
+        CreateReservationRequest first = request.firstOccurrence();
+        validateTime(first);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
+
+        Space space = spaceRepository.findOpenById(request.spaceId())
+                .orElseThrow(() -> new BusinessException(SpaceErrorCode.SPACE_NOT_FOUND));
+
+        BookingCommand command = toCommand(user, space, first);
+        RecurrenceType recurrenceType = request.recurrenceType();
+        ReservationSeries series = ReservationSeries.of(
+                user,
                 space,
-                ReservationStatus.CONFIRMED,
+                recurrenceType,
                 request.startTime(),
-                request.endTime()
+                request.endTime(),
+                request.occurrenceCount()
         );
 
-        if (hasConflict) {
-            throw new BusinessException(ReservationErrorCode.RESERVATION_TIME_CONFLICT);
+        List<BookingCommand> commands = IntStream.range(0, request.occurrenceCount())
+                .mapToObj(i -> command.occurrence(
+                        series,
+                        recurrenceType.occurrence(request.startTime(), i),
+                        recurrenceType.occurrence(request.endTime(), i),
+                        // 일정마다가 아니라 시리즈 단위로 한 번만 보낸다.
+                        i == 0 ? EmailType.RESERVATION_SERIES_CONFIRM : null
+                ))
+                .toList();
+        List<Reservation> reservations = bookingCoordinator.bookTogether(space.getId(), commands);
+
+        return ReservationSeriesResponse.of(series, reservations);
+    }
+
+    // 이미 예약된 시간대에만 대기를 신청할 수 있다. 취소가 생기면 WaitlistPromoter가 선착순으로 예약 전환한다.
+    @Transactional
+    public WaitlistResponse joinWaitlist(
+            Long userId,
+            CreateReservationRequest request
+    ) {
+        validateTime(request);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
+
+        Space space = spaceRepository.findOpenById(request.spaceId())
+                .orElseThrow(() -> new BusinessException(SpaceErrorCode.SPACE_NOT_FOUND));
+
+        validateCapacity(space, request.peopleCount());
+
+        // 다른 인스턴스에서 취소된 시간대가 남아 있지 않도록 DB 버전으로 맞춘 뒤 확인한다.
+        availabilityIndex.sync(space.getId(), request.startTime().toLocalDate(), AvailabilityVersions.lastDate(request.endTime()));
+        if (availabilityIndex.isAvailable(space.getId(), request.startTime(), request.endTime())) {
+            throw new BusinessException(ReservationErrorCode.WAITLIST_NOT_NEEDED);
         }
 
-        long hours = Duration.between(request.startTime(), request.endTime()).toHours();
-        int totalPrice = (int) hours * space.getPricePerHour();
+        if (waitlistEntryRepository.existsByUserIdAndSpaceIdAndStartTimeAndEndTimeAndStatus(
+                userId, space.getId(), request.startTime(), request.endTime(), WaitlistStatus.WAITING)) {
+            throw new BusinessException(ReservationErrorCode.WAITLIST_DUPLICATE);
+        }
 
-        Reservation reservation = Reservation.of(
+        WaitlistEntry entry = WaitlistEntry.of(
                 user,
                 space,
                 request.startTime(),
                 request.endTime(),
                 request.peopleCount(),
-                totalPrice,
                 request.purpose()
         );
 
-        reservationRepository.save(reservation);
-        emailService.sendReservationConfirm(user.getEmail(), reservation);
+        return WaitlistResponse.from(waitlistEntryRepository.save(entry));
+    }
 
-        return ReservationResponse.from(reservation);
+    @Transactional
+    public void cancelWaitlist(Long userId, Long waitlistId) {
+        WaitlistEntry entry = waitlistEntryRepository.findById(waitlistId)
+                .orElseThrow(() -> new BusinessException(ReservationErrorCode.WAITLIST_NOT_FOUND));
+
+        if (!entry.getUser().getId().equals(userId)) {
+            throw new BusinessException(ReservationErrorCode.RESERVATION_NOT_OWNER);
+        }
+
+        if (entry.getStatus() != WaitlistStatus.WAITING) {
+            throw new BusinessException(ReservationErrorCode.WAITLIST_NOT_WAITING);
+        }
+
+        entry.cancel();
     }
 
     // 공개
 
-    public List<ReservedTimeResponse> getReservedTimes(Long spaceId, LocalDate date) {
+    // 기본 키로 변경 번호만 확인한다. 조건부 요청은 예약을 읽지 않고 응답할 수 있다.
+    public String getReservedTimesVersion(Long spaceId, LocalDate date) {
+        return availabilityVersions.version(spaceId, date);
+    }
+
+    public Versioned<List<ReservedTimeResponse>> getReservedTimes(Long spaceId, LocalDate date) {
+        // 조회 전에 버전을 읽어, 그 사이 바뀐 내용이 예전 버전으로 나가더라도 다음 요청에서 다시 받게 한다.
+        String version = availabilityVersions.version(spaceId, date);
+        return new Versioned<>(version, loadReservedTimes(spaceId, date));
+    }
+
+    private List<ReservedTimeResponse> loadReservedTimes(Long spaceId, LocalDate date) {
+        if (availabilityIndex.covers(date)) {
+            availabilityIndex.sync(spaceId, date, date);
+            return ReservedTimeResponse.listFrom(availabilityIndex.getReservedMask(spaceId, date));
+        }
+
         LocalDateTime dateStart = date.atStartOfDay();
         LocalDateTime dateEnd = date.plusDays(1).atStartOfDay();
 
         return reservationRepository.findReservedTimes(
                 spaceId,
-                ReservationStatus.CONFIRMED,
+                AvailabilityIndex.OCCUPYING_STATUSES,
                 dateStart,
                 dateEnd
         ).stream().map(ReservedTimeResponse::from).toList();
     }
 
+    // from ~ to(포함) 각 날짜의 예약된 시간대를 24비트 마스크로 반환한다.
+    // 인덱스가 보관하지 않는 지난 날짜는 한 번의 범위 조회로 채운다.
+    public AvailabilityCalendarResponse getAvailability(Long spaceId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_AVAILABILITY_DAYS) {
+            throw new BusinessException(ReservationErrorCode.AVAILABILITY_INVALID_RANGE);
+        }
+        if (spaceRepository.findOpenById(spaceId).isEmpty()) {
+            throw new BusinessException(SpaceErrorCode.SPACE_NOT_FOUND);
+        }
+
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        int[] masks = new int[days];
+
+        int uncoveredDays = 0;
+        while (uncoveredDays < days && !availabilityIndex.covers(from.plusDays(uncoveredDays))) {
+            uncoveredDays++;
+        }
+
+        if (uncoveredDays > 0) {
+            LocalDate uncoveredEnd = from.plusDays(uncoveredDays);
+            List<Reservation> reservations = reservationRepository.findReservedTimes(
+                    spaceId,
+                    AvailabilityIndex.OCCUPYING_STATUSES,
+                    from.atStartOfDay(),
+                    uncoveredEnd.atStartOfDay()
+            );
+            for (int i = 0; i < uncoveredDays; i++) {
+                LocalDate date = from.plusDays(i);
+                for (Reservation reservation : reservations) {
+                    masks[i] |= AvailabilityIndex.bits(date, reservation.getStartTime(), reservation.getEndTime());
+                }
+            }
+        }
+
+        if (uncoveredDays < days) {
+            availabilityIndex.sync(spaceId, from.plusDays(uncoveredDays), to);
+        }
+        for (int i = uncoveredDays; i < days; i++) {
+            masks[i] = availabilityIndex.getReservedMask(spaceId, from.plusDays(i));
+        }
+
+        return new AvailabilityCalendarResponse(from, to, masks);
+    }
+
     // 인증
 
+    // 보관 테이블로 옮겨진 지난 예약까지 합쳐 최신 일정 순으로 보여준다.
     public Page<ReservationListResponse> getMyReservations(Long userId, Pageable pageable) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(UserErrorCode.USER_NOT_FOUND);
+        }
+
+        List<ReservationListResponse> content = reservationRepository.findSummariesIncludingArchive(
+                userId,
+                pageable.getPageSize(),
+                pageable.getOffset()
+        ).stream().map(ReservationListResponse::from).toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> reservationRepository.countIncludingArchive(userId));
+    }
+
+    // 최신 일정 순 무한 스크롤. OFFSET과 COUNT 없이 커서 위치부터 size + 1개만 읽는다.
+    public CursorResponse<ReservationListResponse> scrollMyReservations(Long userId, String cursor, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(UserErrorCode.USER_NOT_FOUND);
+        }
+
+        Cursor position = Cursor.decode(cursor);
+        List<ReservationSummary> summaries = reservationRepository.scrollSummariesIncludingArchive(
+                userId, position.key(), position.id(), size + 1);
 
-        return reservationRepository.findAllByUser(user, pageable)
+        return CursorResponse.of(summaries, size, summary -> new Cursor(summary.getStartTime(), summary.getId()))
                 .map(ReservationListResponse::from);
     }
 
+    // 응답에 공간 이름이 들어가므로 공간을 함께 읽는다. 사용자는 id만 비교하므로 프록시로 충분하다.
+    // 목록에는 보관된 예약도 섞여 나오므로, 예약 테이블에 없으면 보관 테이블에서 읽어 조회 전용으로 돌려준다.
     public ReservationResponse getMyReservationDetail(Long userId, Long reservationId) {
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new BusinessException(ReservationErrorCode.RESERVATION_NOT_FOUND));
+        Reservation reservation = reservationRepository.findWithSpaceById(reservationId).orElse(null);
+        if (reservation == null) {
+            ArchivedReservation archived = archivedReservationRepository.findWithSpaceById(reservationId)
+                    .orElseThrow(() -> new BusinessException(ReservationErrorCode.RESERVATION_NOT_FOUND));
+            if (!archived.getUser().getId().equals(userId)) {
+                throw new BusinessException(ReservationErrorCode.RESERVATION_NOT_OWNER);
+            }
+            return ReservationResponse.from(archived);
+        }
 
         if (!reservation.getUser().getId().equals(userId)) {
             throw new BusinessException(ReservationErrorCode.RESERVATION_NOT_OWNER);
@@ -131,10 +474,37 @@ public class ReservationService {
         return ReservationResponse.from(reservation);
     }
 
+    // 이미 처리된 Idempotency-Key면 예약 행을 잠그지 않고 바로 끝낸다. 완료 기록은 커밋 이후에 남긴다.
+    @Transactional
+    public void cancelReservation(Long userId, Long reservationId, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            cancelReservation(userId, reservationId);
+            return;
+        }
+
+        Long cancelledId = idempotencyStore.claim(userId, IdempotentOperation.CANCEL_RESERVATION, idempotencyKey,
+                IdempotencyStore.requestHash(reservationId));
+        if (cancelledId != null) {
+            if (!cancelledId.equals(reservationId)) {
+                throw new BusinessException(ReservationErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            return;
+        }
+
+        try {
+            cancelReservation(userId, reservationId);
+            idempotencyStore.complete(userId, IdempotentOperation.CANCEL_RESERVATION, idempotencyKey, reservationId);
+        } catch (RuntimeException e) {
+            idempotencyStore.release(userId, IdempotentOperation.CANCEL_RESERVATION, idempotencyKey);
+            throw e;
+        }
+    }
+
+    // 임시 점유 만료 처리와 겹치지 않도록 행을 잠그고 취소한다.
     @Transactional
     public void cancelReservation(Long userId, Long reservationId) {
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new BusinessException(ReservationErrorCode.RESERVATION_NOT_FOUND));
+        Reservation reservation = reservationRepository.findByIdForUpdate(reservationId)
+                .orElseThrow(() -> archivedCancelError(userId, reservationId));
 
         if (!reservation.getUser().getId().equals(userId)) {
             throw new BusinessException(ReservationErrorCode.RESERVATION_NOT_OWNER);
@@ -144,12 +514,133 @@ public class ReservationService {
             throw new BusinessException(ReservationErrorCode.RESERVATION_ALREADY_CANCELLED);
         }
 
+        // 임시 점유는 확정 전이므로 취소 기한 없이 언제든 놓을 수 있다.
+        boolean confirmed = reservation.getStatus() == ReservationStatus.CONFIRMED;
         LocalDateTime deadline = reservation.getStartTime().minusDays(1);
-        if (LocalDateTime.now().isAfter(deadline)) {
+        if (confirmed && LocalDateTime.now().isAfter(deadline)) {
             throw new BusinessException(ReservationErrorCode.RESERVATION_CANCEL_TOO_LATE);
         }
 
         reservation.cancel();
-        emailService.sendReservationCancel(reservation.getUser().getEmail(), reservation);
+        reservationSlotRepository.deleteAllByReservation(reservation);
+        availabilityIndex.release(
+                reservation.getSpace().getId(),
+                reservation.getStartTime(),
+                reservation.getEndTime()
+        );
+        eventPublisher.publishEvent(new ReservationCancelledEvent(
+                reservation.getSpace().getId(),
+                reservation.getStartTime(),
+                reservation.getEndTime()
+        ));
+        if (confirmed) {
+            emailService.sendReservationCancel(reservation.getUser().getEmail(), reservation);
+        }
+    }
+
+    // 보관된 예약은 이미 끝난 지 오래이므로 취소 기한이 지난 것으로 응답한다.
+    private BusinessException archivedCancelError(Long userId, Long reservationId) {
+        ArchivedReservation archived = archivedReservationRepository.findById(reservationId).orElse(null);
+        if (archived == null) {
+            return new BusinessException(ReservationErrorCode.RESERVATION_NOT_FOUND);
+        }
+        if (!archived.getUser().getId().equals(userId)) {
+            return new BusinessException(ReservationErrorCode.RESERVATION_NOT_OWNER);
+        }
+        if (archived.getStatus() == ReservationStatus.CANCELLED) {
+            return new BusinessException(ReservationErrorCode.RESERVATION_ALREADY_CANCELLED);
+        }
+        return new BusinessException(ReservationErrorCode.RESERVATION_CANCEL_TOO_LATE);
+    }
+
+    // 취소 기한이 지나지 않은 일정만 일괄 취소하고 취소된 건수를 반환한다.
+    @Transactional
+    public int cancelReservationSeries(Long userId, Long seriesId) {
+        ReservationSeries series = reservationSeriesRepository.findById(seriesId)
+                .orElseThrow(() -> new BusinessException(ReservationErrorCode.RESERVATION_SERIES_NOT_FOUND));
+
+        if (!series.getUser().getId().equals(userId)) {
+            throw new BusinessException(ReservationErrorCode.RESERVATION_NOT_OWNER);
+        }
+
+        if (series.getStatus() == ReservationStatus.CANCELLED) {
+            throw new BusinessException(ReservationErrorCode.RESERVATION_ALREADY_CANCELLED);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Reservation> reservations = reservationRepository.findAllBySeriesAndStatusAndStartTimeAfter(
+                series,
+                ReservationStatus.CONFIRMED,
+                now.plusDays(1)
+        );
+        if (reservations.isEmpty()) {
+            throw new BusinessException(ReservationErrorCode.RESERVATION_CANCEL_TOO_LATE);
+        }
+
+        List<Long> reservationIds = reservations.stream()
+                .map(Reservation::getId)
+                .toList();
+        reservationSlotRepository.deleteAllByReservationIdIn(reservationIds);
+        reservationRepository.updateStatusByIdIn(reservationIds, ReservationStatus.CANCELLED, now);
+        series.cancel();
+
+        Long spaceId = series.getSpace().getId();
+        reservations.forEach(reservation -> {
+            availabilityIndex.release(spaceId, reservation.getStartTime(), reservation.getEndTime());
+            eventPublisher.publishEvent(new ReservationCancelledEvent(
+                    spaceId,
+                    reservation.getStartTime(),
+                    reservation.getEndTime()
+            ));
+        });
+        emailService.sendReservationSeriesCancel(series.getUser().getEmail(), series);
+
+        return reservations.size();
+    }
+
+    private void validateTime(CreateReservationRequest request) {
+        if (!request.startTime().truncatedTo(ChronoUnit.HOURS).equals(request.startTime())
+                || !request.endTime().truncatedTo(ChronoUnit.HOURS).equals(request.endTime())) {
+            throw new BusinessException(ReservationErrorCode.RESERVATION_NOT_HOURLY);
+        }
+
+        if (!request.endTime().isAfter(request.startTime())) {
+            throw new BusinessException(ReservationErrorCode.RESERVATION_INVALID_TIME);
+        }
+
+        if (request.startTime().isBefore(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(1))) {
+            throw new BusinessException(ReservationErrorCode.RESERVATION_PAST_TIME);
+        }
+    }
+
+    private void validateCapacity(Space space, int peopleCount) {
+        if (peopleCount > space.getCapacity()) {
+            throw new BusinessException(ReservationErrorCode.RESERVATION_EXCEED_CAPACITY);
+        }
+    }
+
+    private BookingCommand toCommand(User user, Space space, CreateReservationRequest request) {
+        validateCapacity(space, request.peopleCount());
+
+        long hours = Duration.between(request.startTime(), request.endTime()).toHours();
+        int totalPrice = (int) hours * space.getPricePerHour();
+
+        return new BookingCommand(
+                user,
+                space,
+                request.startTime(),
+                request.endTime(),
+                request.peopleCount(),
+                totalPrice,
+                request.purpose()
+        );
+    }
+
+    private String failureMessage(RuntimeException error) {
+        if (error instanceof BusinessException) {
+            return error.getMessage();
+        }
+        log.error("일괄 예약 처리 실패", error);
+        return "예약 처리 중 오류가 발생했습니다.";
     }
 }
@@ -0,0 +1,89 @@
+package com.kjh.spacebook.domain.reservation.service;
+
+import com.kjh.spacebook.common.config.AsyncConfig;
+import com.kjh.spacebook.common.email.EmailType;
+import com.kjh.spacebook.common.exception.BusinessException;
+import com.kjh.spacebook.domain.reservation.entity.WaitlistEntry;
+import com.kjh.spacebook.domain.reservation.enums.WaitlistStatus;
+import com.kjh.spacebook.domain.reservation.event.ReservationCancelledEvent;
+import com.kjh.spacebook.domain.reservation.repository.WaitlistEntryRepository;
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.space.enums.SpaceStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+// 취소가 커밋되면 비워진 시간대에 들어갈 수 있는 대기를 선착순으로 예약 전환한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitlistPromoter {
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final AvailabilityIndex availabilityIndex;
+    private final BookingCoordinator bookingCoordinator;
+
+    @Async(AsyncConfig.MAINTENANCE_EXECUTOR)
+    @TransactionalEventListener
+    public void onReservationCancelled(ReservationCancelledEvent event) {
+        promote(event.spaceId(), event.startTime(), event.endTime());
+    }
+
+    void promote(Long spaceId, LocalDateTime startTime, LocalDateTime endTime) {
+        List<WaitlistEntry> candidates = waitlistEntryRepository.findCandidates(
+                spaceId,
+                WaitlistStatus.WAITING,
+                LocalDateTime.now(),
+                startTime,
+                endTime
+        );
+
+        if (candidates.isEmpty()) {
+            return;
+        }
+        // 다른 인스턴스에서 바뀐 예약 현황을 먼저 맞춘다. 대기 시간은 비워진 시간대보다 넓을 수 있다.
+        LocalDateTime from = candidates.stream().map(WaitlistEntry::getStartTime).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = candidates.stream().map(WaitlistEntry::getEndTime).max(Comparator.naturalOrder()).orElseThrow();
+        availabilityIndex.sync(spaceId, from.toLocalDate(), AvailabilityVersions.lastDate(to));
+
+        for (WaitlistEntry entry : candidates) {
+            Space space = entry.getSpace();
+            if (space.isDeleted() || space.getSpaceStatus() != SpaceStatus.OPEN) {
+                return;
+            }
+
+            // 요청한 시간 전체가 비어 있는 대기만 시도한다. 앞선 대기가 차지한 시간과 겹치면 건너뛴다.
+            if (!availabilityIndex.isAvailable(spaceId, entry.getStartTime(), entry.getEndTime())) {
+                continue;
+            }
+
+            // 대기의 예약 전환은 예약 저장과 같은 트랜잭션에서 처리된다.
+            try {
+                bookingCoordinator.book(toCommand(entry));
+            } catch (BusinessException e) {
+                log.info("대기 예약 전환 실패: waitlistId={}, reason={}", entry.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private BookingCommand toCommand(WaitlistEntry entry) {
+        long hours = Duration.between(entry.getStartTime(), entry.getEndTime()).toHours();
+        int totalPrice = (int) hours * entry.getSpace().getPricePerHour();
+
+        return new BookingCommand(
+                entry.getUser(),
+                entry.getSpace(),
+                entry.getStartTime(),
+                entry.getEndTime(),
+                entry.getPeopleCount(),
+                totalPrice,
+                entry.getPurpose()
+        ).withConfirmation(EmailType.WAITLIST_PROMOTED).forWaitlist(entry.getId());
+    }
+}
@@ -1,11 +1,16 @@
 package com.kjh.spacebook.domain.space.controller;
 
 import com.kjh.spacebook.common.response.ApiResponse;
+import com.kjh.spacebook.common.response.CursorResponse;
+import com.kjh.spacebook.common.response.Versioned;
 import com.kjh.spacebook.domain.space.dto.request.CreateSpaceRequest;
 import com.kjh.spacebook.domain.space.dto.request.UpdateSpaceRequest;
+import com.kjh.spacebook.domain.space.dto.response.NearbySpaceResponse;
+import com.kjh.spacebook.domain.space.dto.response.SpaceFacetResponse;
 import com.kjh.spacebook.domain.space.dto.response.SpaceListResponse;
 import com.kjh.spacebook.domain.space.dto.response.SpaceResponse;
 import com.kjh.spacebook.domain.space.service.SpaceService;
+import com.kjh.spacebook.domain.reservation.dto.response.AvailabilityCalendarResponse;
 import com.kjh.spacebook.domain.reservation.dto.response.ReservedTimeResponse;
 import com.kjh.spacebook.domain.reservation.service.ReservationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,8 +18,14 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springdoc.core.annotations.ParameterObject;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -23,6 +34,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import com.kjh.spacebook.domain.space.enums.SpaceType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -34,8 +46,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Tag(name = "공간", description = "공간 등록, 수정, 삭제, 조회, 검색")
@@ -93,7 +107,10 @@ public class SpaceController {
 
     // 공개
 
-    @Operation(summary = "공간 목록 조회", description = "공간 목록을 조회합니다. 위치, 유형, 가격 범위로 필터링하고 정렬할 수 있습니다.",
+    // 공개 조회는 ETag를 붙이고, If-None-Match가 현재 버전과 같으면 조회 없이 304로 응답한다.
+
+    @Operation(summary = "공간 목록 조회",
+            description = "공간 목록을 조회합니다. 위치, 유형, 가격 범위, 이용 가능 시간으로 필터링하고 정렬할 수 있습니다.",
             security = {})
     @GetMapping
     public ResponseEntity<ApiResponse<Page<SpaceListResponse>>> getSpaces(
@@ -105,18 +122,115 @@ public class SpaceController {
             @RequestParam(name = "minPrice", required = false) @Min(0) Integer minPrice,
             @Parameter(description = "최대 가격", example = "50000")
             @RequestParam(name = "maxPrice", required = false) @Min(0) Integer maxPrice,
-            @ParameterObject @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
+            @Parameter(description = "이용 시작 시간 (end와 함께 입력, 그 시간대에 예약이 없는 공간만 조회)", example = "2026-03-01T19:00:00")
+            @RequestParam(name = "start", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @Parameter(description = "이용 종료 시간", example = "2026-03-01T21:00:00")
+            @RequestParam(name = "end", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @ParameterObject @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @Parameter(hidden = true) WebRequest webRequest
+    ) {
+        String version = spaceService.getCatalogVersion(start, end);
+        if (isNotModified(webRequest, version)) {
+            return notModified(version);
+        }
+
+        Versioned<Page<SpaceListResponse>> responses = spaceService.getSpaces(
+                location, spaceType, minPrice, maxPrice, start, end, pageable);
+        return versioned(responses);
+    }
+
+    @Operation(summary = "공간 검색 조건별 개수 조회",
+            description = "공간 목록 조회와 같은 조건으로 유형 · 가격 구간 · 위치별 공간 수를 조회합니다. "
+                    + "각 항목은 그 항목의 조건만 빼고 나머지 조건을 적용해 셉니다.",
+            security = {})
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<SpaceFacetResponse>> getSpaceFacets(
+            @Parameter(description = "위치 검색어", example = "강남")
+            @RequestParam(name = "location", required = false) String location,
+            @Parameter(description = "공간 유형")
+            @RequestParam(name = "spaceType", required = false) SpaceType spaceType,
+            @Parameter(description = "최소 가격", example = "10000")
+            @RequestParam(name = "minPrice", required = false) @Min(0) Integer minPrice,
+            @Parameter(description = "최대 가격", example = "50000")
+            @RequestParam(name = "maxPrice", required = false) @Min(0) Integer maxPrice,
+            @Parameter(description = "이용 시작 시간 (end와 함께 입력)", example = "2026-03-01T19:00:00")
+            @RequestParam(name = "start", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @Parameter(description = "이용 종료 시간", example = "2026-03-01T21:00:00")
+            @RequestParam(name = "end", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @Parameter(hidden = true) WebRequest webRequest
+    ) {
+        String version = spaceService.getCatalogVersion(start, end);
+        if (isNotModified(webRequest, version)) {
+            return notModified(version);
+        }
+
+        Versioned<SpaceFacetResponse> response = spaceService.getSpaceFacets(
+                location, spaceType, minPrice, maxPrice, start, end);
+        return versioned(response);
+    }
+
+    @Operation(summary = "공간 목록 스크롤 조회",
+            description = "공간 목록을 최신 등록 순으로 커서 기반 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 넘깁니다.",
+            security = {})
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorResponse<SpaceListResponse>>> scrollSpaces(
+            @Parameter(description = "위치 검색어", example = "강남")
+            @RequestParam(name = "location", required = false) String location,
+            @Parameter(description = "공간 유형")
+            @RequestParam(name = "spaceType", required = false) SpaceType spaceType,
+            @Parameter(description = "최소 가격", example = "10000")
+            @RequestParam(name = "minPrice", required = false) @Min(0) Integer minPrice,
+            @Parameter(description = "최대 가격", example = "50000")
+            @RequestParam(name = "maxPrice", required = false) @Min(0) Integer maxPrice,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "10")
+            @RequestParam(name = "size", defaultValue = "10") @Min(1) @Max(100) int size
+    ) {
+        CursorResponse<SpaceListResponse> responses = spaceService.scrollSpaces(
+                location, spaceType, minPrice, maxPrice, cursor, size);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(responses));
+    }
+
+    @Operation(summary = "주변 공간 조회",
+            description = "검색 위치에서 반경 안에 있는 공간을 가까운 순으로 조회합니다. 유형, 가격 범위로 필터링할 수 있습니다.",
+            security = {})
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<NearbySpaceResponse>>> getNearbySpaces(
+            @Parameter(description = "위도", example = "37.4979")
+            @RequestParam("lat") @DecimalMin("-90.0") @DecimalMax("90.0") double latitude,
+            @Parameter(description = "경도", example = "127.0276")
+            @RequestParam("lng") @DecimalMin("-180.0") @DecimalMax("180.0") double longitude,
+            @Parameter(description = "반경 (m, 최대 20km)", example = "1000")
+            @RequestParam(name = "radius", defaultValue = "1000") @Min(1) @Max(20000) int radius,
+            @Parameter(description = "공간 유형")
+            @RequestParam(name = "spaceType", required = false) SpaceType spaceType,
+            @Parameter(description = "최소 가격", example = "10000")
+            @RequestParam(name = "minPrice", required = false) @Min(0) Integer minPrice,
+            @Parameter(description = "최대 가격", example = "50000")
+            @RequestParam(name = "maxPrice", required = false) @Min(0) Integer maxPrice,
+            @Parameter(description = "최대 결과 수", example = "20")
+            @RequestParam(name = "size", defaultValue = "20") @Min(1) @Max(100) int size
     ) {
-        Page<SpaceListResponse> responses = spaceService.getSpaces(location, spaceType, minPrice, maxPrice, pageable);
+        List<NearbySpaceResponse> responses = spaceService.getNearbySpaces(
+                latitude, longitude, radius, spaceType, minPrice, maxPrice, size);
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(responses));
     }
 
     @Operation(summary = "공간 상세 조회", description = "공간의 상세 정보를 조회합니다.",
             security = {})
     @GetMapping("/{spaceId}")
-    public ResponseEntity<ApiResponse<SpaceResponse>> getSpaceDetail(@PathVariable("spaceId") Long spaceId) {
-        SpaceResponse response = spaceService.getSpaceDetail(spaceId);
-        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(response));
+    public ResponseEntity<ApiResponse<SpaceResponse>> getSpaceDetail(
+            @PathVariable("spaceId") Long spaceId,
+            @Parameter(hidden = true) WebRequest webRequest
+    ) {
+        String version = spaceService.getSpaceVersion(spaceId);
+        if (version != null && isNotModified(webRequest, version)) {
+            return notModified(version);
+        }
+
+        Versioned<SpaceResponse> response = spaceService.getSpaceDetail(spaceId);
+        return versioned(response);
     }
 
     @Operation(summary = "예약된 시간대 조회", description = "특정 날짜의 예약된 시간대 목록을 조회합니다.",
@@ -125,9 +239,55 @@ public class SpaceController {
     public ResponseEntity<ApiResponse<List<ReservedTimeResponse>>> getReservedTimes(
             @PathVariable("spaceId") Long spaceId,
             @Parameter(description = "조회할 날짜 (yyyy-MM-dd)", example = "2026-03-01")
-            @RequestParam("date") LocalDate date
+            @RequestParam("date") LocalDate date,
+            @Parameter(hidden = true) WebRequest webRequest
     ) {
-        List<ReservedTimeResponse> responses = reservationService.getReservedTimes(spaceId, date);
-        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(responses));
+        String version = reservationService.getReservedTimesVersion(spaceId, date);
+        if (isNotModified(webRequest, version)) {
+            return notModified(version);
+        }
+
+        Versioned<List<ReservedTimeResponse>> responses = reservationService.getReservedTimes(spaceId, date);
+        return versioned(responses);
+    }
+
+    @Operation(summary = "기간별 예약 현황 조회",
+            description = "from ~ to(포함) 각 날짜의 예약된 시간대를 24비트 마스크로 조회합니다. 최대 62일까지 조회할 수 있습니다.",
+            security = {})
+    @GetMapping("/{spaceId}/availability")
+    public ResponseEntity<ApiResponse<AvailabilityCalendarResponse>> getAvailability(
+            @PathVariable("spaceId") Long spaceId,
+            @Parameter(description = "시작 날짜 (yyyy-MM-dd)", example = "2026-03-01")
+            @RequestParam("from") LocalDate from,
+            @Parameter(description = "종료 날짜 (yyyy-MM-dd, 포함)", example = "2026-03-31")
+            @RequestParam("to") LocalDate to
+    ) {
+        AvailabilityCalendarResponse response = reservationService.getAvailability(spaceId, from, to);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(response));
+    }
+
+    private static boolean isNotModified(WebRequest webRequest, String version) {
+        String ifNoneMatch = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        ETag current = ETag.create(version);
+        return ETag.parse(ifNoneMatch).stream()
+                .anyMatch(tag -> tag.isWildcard() || tag.compare(current, false));
+    }
+
+    private static <T> ResponseEntity<ApiResponse<T>> notModified(String version) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(version)
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+
+    // 캐시는 허용하되 매번 ETag로 재검증하게 한다.
+    private static <T> ResponseEntity<ApiResponse<T>> versioned(Versioned<T> response) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .eTag(response.version())
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(response.body()));
     }
 }
@@ -2,6 +2,8 @@ package com.kjh.spacebook.domain.space.dto.request;
 
 import com.kjh.spacebook.domain.space.enums.SpaceType;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -35,5 +37,15 @@ public record CreateSpaceRequest(
         @Schema(description = "수용 인원", example = "4")
         @NotNull(message = "수용 인원은 필수입니다.")
         @Positive(message = "수용 인원은 0보다 커야 합니다.")
-        Integer capacity
+        Integer capacity,
+
+        @Schema(description = "위도", example = "37.4979")
+        @DecimalMin(value = "-90.0", message = "위도는 -90 ~ 90 사이여야 합니다.")
+        @DecimalMax(value = "90.0", message = "위도는 -90 ~ 90 사이여야 합니다.")
+        Double latitude,
+
+        @Schema(description = "경도", example = "127.0276")
+        @DecimalMin(value = "-180.0", message = "경도는 -180 ~ 180 사이여야 합니다.")
+        @DecimalMax(value = "180.0", message = "경도는 -180 ~ 180 사이여야 합니다.")
+        Double longitude
 ) {}
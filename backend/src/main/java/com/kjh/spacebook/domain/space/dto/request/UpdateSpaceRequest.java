@@ -3,6 +3,8 @@ package com.kjh.spacebook.domain.space.dto.request;
 import com.kjh.spacebook.domain.space.enums.SpaceStatus;
 import com.kjh.spacebook.domain.space.enums.SpaceType;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Positive;
 
 public record UpdateSpaceRequest(
@@ -29,6 +31,16 @@ public record UpdateSpaceRequest(
         @Positive(message = "수용 인원은 0보다 커야 합니다.")
         Integer capacity,
 
+        @Schema(description = "위도", example = "37.4979")
+        @DecimalMin(value = "-90.0", message = "위도는 -90 ~ 90 사이여야 합니다.")
+        @DecimalMax(value = "90.0", message = "위도는 -90 ~ 90 사이여야 합니다.")
+        Double latitude,
+
+        @Schema(description = "경도", example = "127.0276")
+        @DecimalMin(value = "-180.0", message = "경도는 -180 ~ 180 사이여야 합니다.")
+        @DecimalMax(value = "180.0", message = "경도는 -180 ~ 180 사이여야 합니다.")
+        Double longitude,
+
         @Schema(description = "공간 상태")
         SpaceStatus spaceStatus
 ) {}
@@ -0,0 +1,34 @@
+package com.kjh.spacebook.domain.space.dto.response;
+
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.space.enums.SpaceType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "주변 공간 응답")
+public record NearbySpaceResponse(
+        @Schema(description = "공간 ID", example = "1") Long id,
+        @Schema(description = "공간 이름", example = "강남 스터디룸 A") String spaceName,
+        @Schema(description = "공간 유형") SpaceType spaceType,
+        @Schema(description = "수용 인원", example = "4") int capacity,
+        @Schema(description = "위치", example = "서울시 강남구") String location,
+        @Schema(description = "시간당 가격 (원)", example = "15000") int pricePerHour,
+        @Schema(description = "이미지 URL", example = "https://example.com/image.jpg") String imageUrl,
+        @Schema(description = "위도", example = "37.4979") double latitude,
+        @Schema(description = "경도", example = "127.0276") double longitude,
+        @Schema(description = "검색 위치로부터의 거리 (m)", example = "350") int distanceMeters
+) {
+    public static NearbySpaceResponse of(Space space, double distanceMeters) {
+        return new NearbySpaceResponse(
+                space.getId(),
+                space.getSpaceName(),
+                space.getSpaceType(),
+                space.getCapacity(),
+                space.getLocation(),
+                space.getPricePerHour(),
+                space.getImageUrl(),
+                space.getLatitude(),
+                space.getLongitude(),
+                (int) Math.round(distanceMeters)
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package com.kjh.spacebook.domain.space.dto.response;
+
+import com.kjh.spacebook.domain.space.enums.SpaceType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "공간 검색 조건별 개수 응답 (각 항목은 그 항목 자신의 조건만 빼고 나머지 조건을 적용해 센다)")
+public record SpaceFacetResponse(
+        @Schema(description = "모든 조건에 맞는 공간 수", example = "42") int total,
+        @Schema(description = "유형별 공간 수") List<SpaceTypeCount> spaceTypes,
+        @Schema(description = "가격 구간별 공간 수") List<PriceRangeCount> priceRanges,
+        @Schema(description = "위치(앞 두 단어)별 공간 수, 많은 순 최대 20개") List<LocationCount> locations
+) {
+
+    public record SpaceTypeCount(
+            @Schema(description = "공간 유형") SpaceType spaceType,
+            @Schema(description = "공간 수", example = "12") int count
+    ) {
+    }
+
+    public record PriceRangeCount(
+            @Schema(description = "최소 가격 (포함)", example = "10000") int minPrice,
+            @Schema(description = "최대 가격 (포함, 마지막 구간은 없음)", example = "19999") Integer maxPrice,
+            @Schema(description = "공간 수", example = "8") int count
+    ) {
+    }
+
+    public record LocationCount(
+            @Schema(description = "위치", example = "서울시 강남구") String location,
+            @Schema(description = "공간 수", example = "5") int count
+    ) {
+    }
+}
@@ -1,7 +1,7 @@
 package com.kjh.spacebook.domain.space.dto.response;
 
-import com.kjh.spacebook.domain.space.entity.Space;
 import com.kjh.spacebook.domain.space.enums.SpaceType;
+import com.kjh.spacebook.domain.space.repository.SpaceScrollRow;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "공간 목록 응답")
@@ -14,15 +14,15 @@ public record SpaceListResponse(
         @Schema(description = "시간당 가격 (원)", example = "15000") int pricePerHour,
         @Schema(description = "이미지 URL", example = "https://example.com/image.jpg") String imageUrl
 ) {
-    public static SpaceListResponse from(Space space) {
+    public static SpaceListResponse from(SpaceScrollRow row) {
         return new SpaceListResponse(
-                space.getId(),
-                space.getSpaceName(),
-                space.getSpaceType(),
-                space.getCapacity(),
-                space.getLocation(),
-                space.getPricePerHour(),
-                space.getImageUrl()
+                row.id(),
+                row.spaceName(),
+                row.spaceType(),
+                row.capacity(),
+                row.location(),
+                row.pricePerHour(),
+                row.imageUrl()
         );
     }
 }
@@ -17,6 +17,8 @@ public record SpaceResponse(
         @Schema(description = "시간당 가격 (원)", example = "15000") int pricePerHour,
         @Schema(description = "위치", example = "서울시 강남구") String location,
         @Schema(description = "수용 인원", example = "4") int capacity,
+        @Schema(description = "위도", example = "37.4979") Double latitude,
+        @Schema(description = "경도", example = "127.0276") Double longitude,
         @Schema(description = "공간 상태") SpaceStatus spaceStatus,
         @Schema(description = "소유자 ID", example = "1") Long ownerId,
         @Schema(description = "생성일시") LocalDateTime createdAt,
@@ -32,6 +34,8 @@ public record SpaceResponse(
                 space.getPricePerHour(),
                 space.getLocation(),
                 space.getCapacity(),
+                space.getLatitude(),
+                space.getLongitude(),
                 space.getSpaceStatus(),
                 space.getOwner().getId(),
                 space.getCreatedAt(),
@@ -1,5 +1,6 @@
 package com.kjh.spacebook.domain.space.entity;
 
+import com.kjh.spacebook.common.config.SecondLevelCacheConfig;
 import com.kjh.spacebook.domain.space.enums.SpaceStatus;
 import com.kjh.spacebook.domain.space.enums.SpaceType;
 import com.kjh.spacebook.domain.user.entity.User;
@@ -7,11 +8,21 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "spaces")
+@Table(
+        name = "spaces",
+        indexes = {
+                @Index(name = "idx_spaces_search", columnList = "space_status, deleted_at, space_type, price_per_hour"),
+                @Index(name = "idx_spaces_open_created", columnList = "space_status, deleted_at, created_at")
+        }
+)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.SPACE_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Space {
@@ -42,6 +53,10 @@ public class Space {
     @Column(nullable = false)
     private int capacity;
 
+    private Double latitude;
+
+    private Double longitude;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "space_status", nullable = false)
     private SpaceStatus spaceStatus;
@@ -78,6 +93,8 @@ public class Space {
             int pricePerHour,
             String location,
             int capacity,
+            Double latitude,
+            Double longitude,
             User owner
     ) {
         this.spaceName = spaceName;
@@ -87,6 +104,8 @@ public class Space {
         this.pricePerHour = pricePerHour;
         this.location = location;
         this.capacity = capacity;
+        this.latitude = latitude;
+        this.longitude = longitude;
         this.spaceStatus = SpaceStatus.OPEN;
         this.owner = owner;
     }
@@ -99,6 +118,8 @@ public class Space {
             int pricePerHour,
             String location,
             int capacity,
+            Double latitude,
+            Double longitude,
             User owner
     ) {
         return new Space(
@@ -109,6 +130,8 @@ public class Space {
                 pricePerHour,
                 location,
                 capacity,
+                latitude,
+                longitude,
                 owner
         );
     }
@@ -122,6 +145,14 @@ public class Space {
         return this.deletedAt != null;
     }
 
+    public boolean isOpen() {
+        return this.deletedAt == null && this.spaceStatus == SpaceStatus.OPEN;
+    }
+
+    public boolean hasCoordinates() {
+        return this.latitude != null && this.longitude != null;
+    }
+
     public void update(
             String spaceName,
             String description,
@@ -130,6 +161,8 @@ public class Space {
             Integer pricePerHour,
             String location,
             Integer capacity,
+            Double latitude,
+            Double longitude,
             SpaceStatus spaceStatus
     ) {
         if (spaceName != null) this.spaceName = spaceName;
@@ -139,6 +172,8 @@ public class Space {
         if (pricePerHour != null) this.pricePerHour = pricePerHour;
         if (location != null) this.location = location;
         if (capacity != null) this.capacity = capacity;
+        if (latitude != null) this.latitude = latitude;
+        if (longitude != null) this.longitude = longitude;
         if (spaceStatus != null) this.spaceStatus = spaceStatus;
     }
 }
@@ -10,7 +10,9 @@ import org.springframework.http.HttpStatus;
 public enum SpaceErrorCode implements ErrorCode {
     SPACE_NOT_FOUND(HttpStatus.NOT_FOUND, "공간을 찾을 수 없습니다."),
     SPACE_CLOSED(HttpStatus.BAD_REQUEST, "현재 대여가 불가능한 공간입니다."),
-    INVALID_PRICE_RANGE(HttpStatus.BAD_REQUEST, "최소 가격이 최대 가격보다 클 수 없습니다.");
+    INVALID_PRICE_RANGE(HttpStatus.BAD_REQUEST, "최소 가격이 최대 가격보다 클 수 없습니다."),
+    INVALID_COORDINATES(HttpStatus.BAD_REQUEST, "위도와 경도는 함께 입력해야 합니다."),
+    INVALID_AVAILABILITY_WINDOW(HttpStatus.BAD_REQUEST, "이용 시작 시간과 종료 시간은 함께 입력해야 하며, 종료 시간은 시작 시간 이후여야 합니다.");
 
     private final HttpStatus status;
     private final String message;
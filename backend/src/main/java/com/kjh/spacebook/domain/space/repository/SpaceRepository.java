@@ -1,62 +1,218 @@
 package com.kjh.spacebook.domain.space.repository;
 
+import com.kjh.spacebook.domain.space.dto.response.SpaceListResponse;
 import com.kjh.spacebook.domain.space.entity.Space;
 import com.kjh.spacebook.domain.space.enums.SpaceStatus;
 import com.kjh.spacebook.domain.space.enums.SpaceType;
-import com.kjh.spacebook.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface SpaceRepository extends JpaRepository<Space, Long> {
 
+    // 목록 조회는 응답에 필요한 컬럼만 DTO로 바로 읽는다. (description 제외, 영속성 컨텍스트에 올리지 않음)
+    String LIST_ITEM = "new com.kjh.spacebook.domain.space.dto.response.SpaceListResponse(" +
+            "s.id, s.spaceName, s.spaceType, s.capacity, s.location, s.pricePerHour, s.imageUrl) ";
+
+    String SCROLL_ROW = "new com.kjh.spacebook.domain.space.repository.SpaceScrollRow(" +
+            "s.id, s.spaceName, s.spaceType, s.capacity, s.location, s.pricePerHour, s.imageUrl, s.createdAt) ";
+
+    // start · end가 있으면 그 시간대에 확정 예약이나 만료되지 않은 임시 점유가 겹치는 공간을 뺀다.
+    // 만료된 임시 점유는 정리 작업이 취소하기 전이라도 점유로 보지 않는다.
+    String AVAILABLE_BETWEEN = """
+            AND (:start IS NULL OR NOT EXISTS (
+                SELECT 1 FROM Reservation r
+                WHERE r.space.id = s.id
+                AND r.status IN (
+                    com.kjh.spacebook.domain.reservation.enums.ReservationStatus.CONFIRMED,
+                    com.kjh.spacebook.domain.reservation.enums.ReservationStatus.HOLD
+                )
+                AND (r.status = com.kjh.spacebook.domain.reservation.enums.ReservationStatus.CONFIRMED
+                    OR r.holdExpiresAt > CURRENT_TIMESTAMP)
+                AND r.startTime < :end
+                AND r.endTime > :start
+            ))
+            """;
+
     Page<Space> findAllByDeletedAtIsNullAndSpaceStatus(SpaceStatus spaceStatus, Pageable pageable);
 
+    List<Space> findAllByDeletedAtIsNullAndSpaceStatus(SpaceStatus spaceStatus);
+
     Optional<Space> findByIdAndDeletedAtIsNull(Long id);
 
-    Optional<Space> findByIdAndDeletedAtIsNullAndSpaceStatus(Long id, SpaceStatus spaceStatus);
+    // id 조회는 2차 캐시를 거친다. 삭제 · 비공개 공간은 캐시된 상태를 보고 거른다.
+    default Optional<Space> findOpenById(Long id) {
+        return findById(id).filter(Space::isOpen);
+    }
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT s FROM Space s WHERE s.id = :id AND s.deletedAt IS NULL AND s.spaceStatus = :status")
-    Optional<Space> findByIdForReservation(
-            @Param("id") Long id,
-            @Param("status") SpaceStatus status
-    );
+    List<Space> findAllByIdInAndDeletedAtIsNullAndSpaceStatus(Collection<Long> ids, SpaceStatus spaceStatus);
+
+    // 조건부 요청용 버전 확인. 2차 캐시를 거치지 않고 기본 키로 DB 값을 읽어 다른 인스턴스의 수정도 보인다.
+    @Query("SELECT s.updatedAt FROM Space s " +
+            "WHERE s.id = :id " +
+            "AND s.deletedAt IS NULL " +
+            "AND s.spaceStatus = com.kjh.spacebook.domain.space.enums.SpaceStatus.OPEN")
+    Optional<LocalDateTime> findOpenUpdatedAtById(@Param("id") Long id);
+
+    @Query(value = "SELECT version FROM space_catalog_version WHERE id = 1", nativeQuery = true)
+    long findCatalogVersion();
+
+    // 네이티브 변경 쿼리는 기본적으로 2차 캐시 전체를 비우므로 영향받는 테이블을 알려준다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "space_catalog_version"))
+    @Query(value = "UPDATE space_catalog_version SET version = version + 1 WHERE id = 1", nativeQuery = true)
+    int incrementCatalogVersion();
 
-    Page<Space> findAllByOwnerAndDeletedAtIsNull(User owner, Pageable pageable);
+    @Query(value = "SELECT " + LIST_ITEM + """
+            FROM Space s
+            WHERE s.owner.id = :ownerId
+            AND s.deletedAt IS NULL
+            """,
+            countQuery = """
+            SELECT COUNT(s) FROM Space s
+            WHERE s.owner.id = :ownerId
+            AND s.deletedAt IS NULL
+            """)
+    Page<SpaceListResponse> findListByOwnerId(@Param("ownerId") Long ownerId, Pageable pageable);
+
+    // 위치 조건은 SpaceLocationIndex로 공간 id 목록을 구해 ...ByIdIn 쪽으로 넘긴다.
+    // 후보가 너무 많으면 IN 목록 대신 location LIKE로 거른다. (location이 null이면 위치 조건 없음)
+    // start · end 조건은 AVAILABLE_BETWEEN의 NOT EXISTS로 거른다.
+    // 공간마다 (space_id, status, start_time, end_time) 인덱스 범위만 확인하므로 페이지 · 개수 조회가 함께 맞는다.
 
-    @Query("""
-            SELECT s FROM Space s
+    @Query("SELECT " + LIST_ITEM + """
+            FROM Space s
             WHERE s.deletedAt IS NULL
             AND s.spaceStatus = com.kjh.spacebook.domain.space.enums.SpaceStatus.OPEN
             AND (:location IS NULL OR s.location LIKE CONCAT('%', :location, '%'))
             AND (:capacity IS NULL OR s.capacity >= :capacity)
             AND (:spaceType IS NULL OR s.spaceType = :spaceType)
             """)
-    List<Space> searchByConditions(
+    List<SpaceListResponse> searchByConditions(
             @Param("location") String location,
             @Param("capacity") Integer capacity,
             @Param("spaceType") SpaceType spaceType
     );
 
-    @Query("""
-            SELECT s FROM Space s
+    @Query("SELECT " + LIST_ITEM + """
+            FROM Space s
+            WHERE s.id IN :spaceIds
+            AND s.deletedAt IS NULL
+            AND s.spaceStatus = com.kjh.spacebook.domain.space.enums.SpaceStatus.OPEN
+            AND (:capacity IS NULL OR s.capacity >= :capacity)
+            AND (:spaceType IS NULL OR s.spaceType = :spaceType)
+            """)
+    List<SpaceListResponse> searchByConditionsByIdIn(
+            @Param("spaceIds") Collection<Long> spaceIds,
+            @Param("capacity") Integer capacity,
+            @Param("spaceType") SpaceType spaceType
+    );
+
+    @Query(value = "SELECT " + LIST_ITEM + """
+            FROM Space s
+            WHERE s.deletedAt IS NULL
+            AND s.spaceStatus = com.kjh.spacebook.domain.space.enums.SpaceStatus.OPEN
+            AND (:location IS NULL OR s.location LIKE CONCAT('%', :location, '%'))
+            AND (:spaceType IS NULL OR s.spaceType = :spaceType)
+            AND (:minPrice IS NULL OR s.pricePerHour >= :minPrice)
+            AND (:maxPrice IS NULL OR s.pricePerHour <= :maxPrice)
+            """ + AVAILABLE_BETWEEN,
+            countQuery = """
+            SELECT COUNT(s) FROM Space s
             WHERE s.deletedAt IS NULL
             AND s.spaceStatus = com.kjh.spacebook.domain.space.enums.SpaceStatus.OPEN
             AND (:location IS NULL OR s.location LIKE CONCAT('%', :location, '%'))
             AND (:spaceType IS NULL OR s.spaceType = :spaceType)
             AND (:minPrice IS NULL OR s.pricePerHour >= :minPrice)
             AND (:maxPrice IS NULL OR s.pricePerHour <= :maxPrice)
+            """ + AVAILABLE_BETWEEN)
+    Page<SpaceListResponse> searchSpaces(
+            @Param("location") String location,
+            @Param("spaceType") SpaceType spaceType,
+            @Param("minPrice") Integer minPrice,
+            @Param("maxPrice") Integer maxPrice,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            Pageable pageable
+    );
+
+    @Query(value = "SELECT " + LIST_ITEM + """
+            FROM Space s
+            WHERE s.id IN :spaceIds
+            AND s.deletedAt IS NULL
+            AND s.spaceStatus = com.kjh.spacebook.domain.space.enums.SpaceStatus.OPEN
+            AND (:spaceType IS NULL OR s.spaceType = :spaceType)
+            AND (:minPrice IS NULL OR s.pricePerHour >= :minPrice)
+            AND (:maxPrice IS NULL OR s.pricePerHour <= :maxPrice)
+            """ + AVAILABLE_BETWEEN,
+            countQuery = """
+            SELECT COUNT(s) FROM Space s
+            WHERE s.id IN :spaceIds
+            AND s.deletedAt IS NULL
+            AND s.spaceStatus = com.kjh.spacebook.domain.space.enums.SpaceStatus.OPEN
+            AND (:spaceType IS NULL OR s.spaceType = :spaceType)
+            AND (:minPrice IS NULL OR s.pricePerHour >= :minPrice)
+            AND (:maxPrice IS NULL OR s.pricePerHour <= :maxPrice)
+            """ + AVAILABLE_BETWEEN)
+    Page<SpaceListResponse> searchSpacesByIdIn(
+            @Param("spaceIds") Collection<Long> spaceIds,
+            @Param("spaceType") SpaceType spaceType,
+            @Param("minPrice") Integer minPrice,
+            @Param("maxPrice") Integer maxPrice,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            Pageable pageable
+    );
+
+    // 커서 이후의 공간을 최신 등록 순으로 조회한다. 위치 조건은 위와 같이 id 목록으로 넘긴다.
+
+    @Query("SELECT " + SCROLL_ROW + """
+            FROM Space s
+            WHERE s.deletedAt IS NULL
+            AND s.spaceStatus = com.kjh.spacebook.domain.space.enums.SpaceStatus.OPEN
+            AND (:location IS NULL OR s.location LIKE CONCAT('%', :location, '%'))
+            AND (s.createdAt < :cursorKey OR (s.createdAt = :cursorKey AND s.id < :cursorId))
+            AND (:spaceType IS NULL OR s.spaceType = :spaceType)
+            AND (:minPrice IS NULL OR s.pricePerHour >= :minPrice)
+            AND (:maxPrice IS NULL OR s.pricePerHour <= :maxPrice)
+            ORDER BY s.createdAt DESC, s.id DESC
             """)
-    Page<Space> searchSpaces(
+    List<SpaceScrollRow> scrollSpaces(
             @Param("location") String location,
+            @Param("cursorKey") LocalDateTime cursorKey,
+            @Param("cursorId") Long cursorId,
+            @Param("spaceType") SpaceType spaceType,
+            @Param("minPrice") Integer minPrice,
+            @Param("maxPrice") Integer maxPrice,
+            Pageable pageable
+    );
+
+    @Query("SELECT " + SCROLL_ROW + """
+            FROM Space s
+            WHERE s.id IN :spaceIds
+            AND s.deletedAt IS NULL
+            AND s.spaceStatus = com.kjh.spacebook.domain.space.enums.SpaceStatus.OPEN
+            AND (s.createdAt < :cursorKey OR (s.createdAt = :cursorKey AND s.id < :cursorId))
+            AND (:spaceType IS NULL OR s.spaceType = :spaceType)
+            AND (:minPrice IS NULL OR s.pricePerHour >= :minPrice)
+            AND (:maxPrice IS NULL OR s.pricePerHour <= :maxPrice)
+            ORDER BY s.createdAt DESC, s.id DESC
+            """)
+    List<SpaceScrollRow> scrollSpacesByIdIn(
+            @Param("spaceIds") Collection<Long> spaceIds,
+            @Param("cursorKey") LocalDateTime cursorKey,
+            @Param("cursorId") Long cursorId,
             @Param("spaceType") SpaceType spaceType,
             @Param("minPrice") Integer minPrice,
             @Param("maxPrice") Integer maxPrice,
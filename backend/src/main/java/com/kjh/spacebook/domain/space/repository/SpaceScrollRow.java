@@ -0,0 +1,18 @@
+package com.kjh.spacebook.domain.space.repository;
+
+import com.kjh.spacebook.domain.space.enums.SpaceType;
+
+import java.time.LocalDateTime;
+
+// 커서 조회용 목록 행. 목록 응답 컬럼에 커서 키(createdAt)를 더한다.
+public record SpaceScrollRow(
+        Long id,
+        String spaceName,
+        SpaceType spaceType,
+        int capacity,
+        String location,
+        int pricePerHour,
+        String imageUrl,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,239 @@
+package com.kjh.spacebook.domain.space.service;
+
+import com.kjh.spacebook.domain.space.dto.response.SpaceFacetResponse;
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.space.enums.SpaceStatus;
+import com.kjh.spacebook.domain.space.enums.SpaceType;
+import com.kjh.spacebook.domain.space.repository.SpaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+// 공개 공간의 유형 · 가격 · 위치 묶음을 열 단위 배열로 보관하는 인메모리 스냅숏
+// 검색 조건별 개수(패싯)를 배열을 한 번 훑어 모두 센다. 위치 · 이용 가능 시간 조건은 위치 비트맵과 판별 함수로 넘겨받는다.
+// 기동 시 공개 중인 공간으로 채우고, 공간 등록 · 수정 · 삭제가 커밋되면 스냅숏을 새로 만든다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceFacetIndex implements SmartInitializingSingleton {
+    // 가격 구간 경계. [0, 10000), [10000, 20000), ..., [50000, ∞)
+    static final int[] PRICE_BOUNDS = {10000, 20000, 30000, 50000};
+    private static final int LOCATION_PREFIX_WORDS = 2;
+    private static final int MAX_LOCATIONS = 20;
+    private static final SpaceType[] SPACE_TYPES = SpaceType.values();
+
+    private final SpaceRepository spaceRepository;
+
+    // 스냅숏의 원본. 쓰기는 이 객체의 락 안에서만 한다.
+    private final Map<Long, Row> rows = new HashMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.of(List.of());
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    synchronized void load() {
+        List<Space> spaces = spaceRepository.findAllByDeletedAtIsNullAndSpaceStatus(SpaceStatus.OPEN);
+
+        rows.clear();
+        spaces.forEach(space -> rows.put(space.getId(), Row.of(space)));
+        snapshot = Snapshot.of(rows.values());
+
+        log.info("공간 검색 패싯 스냅숏 적재 완료: {}건", rows.size());
+    }
+
+    // locationIds가 null이면 위치 조건 없음, available이 null이면 이용 가능 시간 조건 없음
+    public SpaceFacetResponse count(
+            SpaceType spaceType,
+            Integer minPrice,
+            Integer maxPrice,
+            Collection<Long> locationIds,
+            LongPredicate available
+    ) {
+        Snapshot current = snapshot;
+        BitSet inLocation = locationIds == null ? null : current.positions(locationIds);
+
+        int total = 0;
+        int[] typeCounts = new int[SPACE_TYPES.length];
+        int[] priceCounts = new int[PRICE_BOUNDS.length + 1];
+        int[] locationCounts = new int[current.locations.length];
+
+        for (int i = 0; i < current.ids.length; i++) {
+            if (available != null && !available.test(current.ids[i])) {
+                continue;
+            }
+            int price = current.prices[i];
+            boolean typeMatches = spaceType == null || current.types[i] == spaceType.ordinal();
+            boolean priceMatches = (minPrice == null || price >= minPrice) && (maxPrice == null || price <= maxPrice);
+            boolean locationMatches = inLocation == null || inLocation.get(i);
+
+            if (priceMatches && locationMatches) {
+                typeCounts[current.types[i]]++;
+            }
+            if (typeMatches && locationMatches) {
+                priceCounts[bucket(price)]++;
+            }
+            if (typeMatches && priceMatches) {
+                locationCounts[current.locationGroups[i]]++;
+            }
+            if (typeMatches && priceMatches && locationMatches) {
+                total++;
+            }
+        }
+
+        return new SpaceFacetResponse(
+                total,
+                spaceTypeCounts(typeCounts),
+                priceRangeCounts(priceCounts),
+                locationCounts(current.locations, locationCounts)
+        );
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 반영한다.
+    public void changed(Space space) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(space);
+                }
+            });
+            return;
+        }
+        apply(space);
+    }
+
+    // 공간 변경은 드물어서 바뀔 때마다 배열 전체를 새로 만들고, 읽기는 락 없이 스냅숏을 그대로 쓴다.
+    private synchronized void apply(Space space) {
+        if (!space.isDeleted() && space.getSpaceStatus() == SpaceStatus.OPEN) {
+            rows.put(space.getId(), Row.of(space));
+        } else {
+            rows.remove(space.getId());
+        }
+        snapshot = Snapshot.of(rows.values());
+    }
+
+    static int bucket(int price) {
+        int bucket = 0;
+        while (bucket < PRICE_BOUNDS.length && price >= PRICE_BOUNDS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    // "서울시 강남구 역삼동" -> "서울시 강남구"
+    static String locationPrefix(String location) {
+        String[] words = location.trim().split("\\s+");
+        return String.join(" ", List.of(words).subList(0, Math.min(words.length, LOCATION_PREFIX_WORDS)));
+    }
+
+    private static List<SpaceFacetResponse.SpaceTypeCount> spaceTypeCounts(int[] counts) {
+        List<SpaceFacetResponse.SpaceTypeCount> result = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            result.add(new SpaceFacetResponse.SpaceTypeCount(SPACE_TYPES[i], counts[i]));
+        }
+        return result;
+    }
+
+    private static List<SpaceFacetResponse.PriceRangeCount> priceRangeCounts(int[] counts) {
+        List<SpaceFacetResponse.PriceRangeCount> result = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            result.add(new SpaceFacetResponse.PriceRangeCount(
+                    i == 0 ? 0 : PRICE_BOUNDS[i - 1],
+                    i == PRICE_BOUNDS.length ? null : PRICE_BOUNDS[i] - 1,
+                    counts[i]
+            ));
+        }
+        return result;
+    }
+
+    private static List<SpaceFacetResponse.LocationCount> locationCounts(String[] locations, int[] counts) {
+        List<SpaceFacetResponse.LocationCount> result = new ArrayList<>();
+        for (int i = 0; i < locations.length; i++) {
+            if (counts[i] > 0) {
+                result.add(new SpaceFacetResponse.LocationCount(locations[i], counts[i]));
+            }
+        }
+        result.sort(Comparator.comparingInt(SpaceFacetResponse.LocationCount::count).reversed()
+                .thenComparing(SpaceFacetResponse.LocationCount::location));
+        return result.size() > MAX_LOCATIONS ? result.subList(0, MAX_LOCATIONS) : result;
+    }
+
+    private record Row(Long spaceId, SpaceType spaceType, int pricePerHour, String locationPrefix) {
+        static Row of(Space space) {
+            return new Row(
+                    space.getId(),
+                    space.getSpaceType(),
+                    space.getPricePerHour(),
+                    SpaceFacetIndex.locationPrefix(space.getLocation())
+            );
+        }
+    }
+
+    // i번째 공간의 id · 유형(ordinal) · 가격 · 위치 묶음 번호를 같은 위치에 둔다.
+    private static final class Snapshot {
+        private final long[] ids;
+        private final int[] types;
+        private final int[] prices;
+        private final int[] locationGroups;
+        private final String[] locations;
+        private final Map<Long, Integer> positions;
+
+        private Snapshot(long[] ids, int[] types, int[] prices, int[] locationGroups, String[] locations) {
+            this.ids = ids;
+            this.types = types;
+            this.prices = prices;
+            this.locationGroups = locationGroups;
+            this.locations = locations;
+            this.positions = new HashMap<>(ids.length * 2);
+            for (int i = 0; i < ids.length; i++) {
+                positions.put(ids[i], i);
+            }
+        }
+
+        static Snapshot of(Collection<Row> rows) {
+            int size = rows.size();
+            long[] ids = new long[size];
+            int[] types = new int[size];
+            int[] prices = new int[size];
+            int[] locationGroups = new int[size];
+            Map<String, Integer> groups = new LinkedHashMap<>();
+
+            int i = 0;
+            for (Row row : rows) {
+                ids[i] = row.spaceId();
+                types[i] = row.spaceType().ordinal();
+                prices[i] = row.pricePerHour();
+                locationGroups[i] = groups.computeIfAbsent(row.locationPrefix(), key -> groups.size());
+                i++;
+            }
+            return new Snapshot(ids, types, prices, locationGroups, groups.keySet().toArray(String[]::new));
+        }
+
+        BitSet positions(Collection<Long> spaceIds) {
+            BitSet bits = new BitSet(ids.length);
+            for (Long spaceId : spaceIds) {
+                Integer position = positions.get(spaceId);
+                if (position != null) {
+                    bits.set(position);
+                }
+            }
+            return bits;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.kjh.spacebook.domain.space.service;
+
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.space.enums.SpaceStatus;
+import com.kjh.spacebook.domain.space.enums.SpaceType;
+import com.kjh.spacebook.domain.space.repository.SpaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 좌표가 있는 공개 공간을 위도 · 경도 격자(약 1km)로 나눠 보관하는 인메모리 인덱스
+// 반경 검색은 반경을 덮는 칸만 훑고, 가까운 순 상위 K개만 힙으로 고른다.
+// 기동 시 공개 중인 공간으로 채우고, 공간 등록 · 수정 · 삭제가 커밋되면 함께 갱신한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceGeoIndex implements SmartInitializingSingleton {
+    private static final double CELL_DEGREES = 0.01;
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+    private static final Entry[] EMPTY = new Entry[0];
+
+    private final SpaceRepository spaceRepository;
+
+    // 칸 -> 그 칸의 공간. 배열은 수정하지 않고 새 배열로 교체해 읽기는 락 없이 한다.
+    private final Map<Long, Entry[]> cells = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    synchronized void load() {
+        List<Space> spaces = spaceRepository.findAllByDeletedAtIsNullAndSpaceStatus(SpaceStatus.OPEN);
+
+        cells.clear();
+        entries.clear();
+        spaces.stream()
+                .filter(Space::hasCoordinates)
+                .forEach(space -> add(Entry.of(space)));
+
+        log.info("공간 좌표 색인 적재 완료: {}건", entries.size());
+    }
+
+    // 반경(m) 안에서 조건에 맞는 공간을 가까운 순으로 최대 limit개 반환한다.
+    public List<Nearby> nearest(
+            double latitude,
+            double longitude,
+            int radiusMeters,
+            SpaceType spaceType,
+            Integer minPrice,
+            Integer maxPrice,
+            int limit
+    ) {
+        double latitudeSpan = radiusMeters / METERS_PER_DEGREE;
+        double longitudeSpan = latitudeSpan / Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+
+        long minRow = row(latitude - latitudeSpan);
+        long maxRow = row(latitude + latitudeSpan);
+        long minColumn = column(longitude - longitudeSpan);
+        long maxColumn = column(longitude + longitudeSpan);
+
+        // 지금까지 고른 것 중 가장 먼 공간이 맨 앞에 오는 힙
+        PriorityQueue<Nearby> nearest = new PriorityQueue<>(
+                Comparator.comparingDouble(Nearby::distanceMeters).reversed());
+
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long column = minColumn; column <= maxColumn; column++) {
+                for (Entry entry : cells.getOrDefault(key(row, column), EMPTY)) {
+                    if (!entry.matches(spaceType, minPrice, maxPrice)) {
+                        continue;
+                    }
+                    double distance = distanceMeters(latitude, longitude, entry.latitude(), entry.longitude());
+                    if (distance > radiusMeters) {
+                        continue;
+                    }
+                    if (nearest.size() < limit) {
+                        nearest.add(new Nearby(entry.spaceId(), distance));
+                    } else if (distance < nearest.peek().distanceMeters()) {
+                        nearest.poll();
+                        nearest.add(new Nearby(entry.spaceId(), distance));
+                    }
+                }
+            }
+        }
+
+        List<Nearby> result = new ArrayList<>(nearest);
+        result.sort(Comparator.comparingDouble(Nearby::distanceMeters));
+        return result;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 반영한다.
+    public void changed(Space space) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(space);
+                }
+            });
+            return;
+        }
+        apply(space);
+    }
+
+    private synchronized void apply(Space space) {
+        Entry previous = entries.get(space.getId());
+        if (previous != null) {
+            remove(previous);
+        }
+        if (!space.isDeleted() && space.getSpaceStatus() == SpaceStatus.OPEN && space.hasCoordinates()) {
+            add(Entry.of(space));
+        }
+    }
+
+    private void add(Entry entry) {
+        entries.put(entry.spaceId(), entry);
+        cells.compute(entry.cell(), (key, cell) -> {
+            Entry[] current = cell == null ? EMPTY : cell;
+            Entry[] result = Arrays.copyOf(current, current.length + 1);
+            result[current.length] = entry;
+            return result;
+        });
+    }
+
+    private void remove(Entry entry) {
+        entries.remove(entry.spaceId());
+        cells.computeIfPresent(entry.cell(), (key, cell) -> {
+            Entry[] remaining = Arrays.stream(cell)
+                    .filter(other -> !other.spaceId().equals(entry.spaceId()))
+                    .toArray(Entry[]::new);
+            return remaining.length == 0 ? null : remaining;
+        });
+    }
+
+    private static long row(double latitude) {
+        return (long) Math.floor(latitude / CELL_DEGREES);
+    }
+
+    private static long column(double longitude) {
+        return (long) Math.floor(longitude / CELL_DEGREES);
+    }
+
+    private static long key(long row, long column) {
+        return (row << 32) ^ (column & 0xFFFFFFFFL);
+    }
+
+    // 하버사인 공식
+    static double distanceMeters(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        double latitudeDelta = Math.toRadians(toLatitude - fromLatitude);
+        double longitudeDelta = Math.toRadians(toLongitude - fromLongitude);
+        double a = Math.pow(Math.sin(latitudeDelta / 2), 2)
+                + Math.cos(Math.toRadians(fromLatitude)) * Math.cos(Math.toRadians(toLatitude))
+                * Math.pow(Math.sin(longitudeDelta / 2), 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    public record Nearby(Long spaceId, double distanceMeters) {
+    }
+
+    private record Entry(
+            Long spaceId,
+            double latitude,
+            double longitude,
+            SpaceType spaceType,
+            int pricePerHour
+    ) {
+        static Entry of(Space space) {
+            return new Entry(
+                    space.getId(),
+                    space.getLatitude(),
+                    space.getLongitude(),
+                    space.getSpaceType(),
+                    space.getPricePerHour()
+            );
+        }
+
+        long cell() {
+            return key(row(latitude), column(longitude));
+        }
+
+        boolean matches(SpaceType spaceType, Integer minPrice, Integer maxPrice) {
+            return (spaceType == null || this.spaceType == spaceType)
+                    && (minPrice == null || pricePerHour >= minPrice)
+                    && (maxPrice == null || pricePerHour <= maxPrice);
+        }
+    }
+}
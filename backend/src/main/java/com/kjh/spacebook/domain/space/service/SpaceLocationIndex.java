@@ -0,0 +1,195 @@
+package com.kjh.spacebook.domain.space.service;
+
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.space.enums.SpaceStatus;
+import com.kjh.spacebook.domain.space.repository.SpaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 공개 중인 공간 위치의 n-gram 역색인 (글자 하나 · 두 글자 단위)
+// 앞뒤가 열린 LIKE 검색은 인덱스를 타지 못하므로, 위치 조건을 먼저 공간 id 목록으로 바꿔 DB에 넘긴다.
+// 기동 시 공개 중인 공간으로 채우고, 공간 등록 · 수정 · 삭제가 커밋되면 함께 갱신한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceLocationIndex implements SmartInitializingSingleton {
+    private static final int[] EMPTY = new int[0];
+
+    // 이보다 후보가 많으면 IN 목록을 만들지 않고 LIKE 조회로 넘긴다. (MySQL 자리표시자 65,535개 제한)
+    public static final int MAX_ID_CANDIDATES = 1000;
+
+    private final SpaceRepository spaceRepository;
+
+    // n-gram -> 오름차순 공간 id. 배열은 수정하지 않고 새 배열로 교체해 읽기는 락 없이 한다.
+    private final Map<String, int[]> postings = new ConcurrentHashMap<>();
+
+    // 공간 id -> 색인한 위치. 후보가 실제로 검색어를 포함하는지 확인하고, 수정 시 이전 n-gram을 지우는 데 쓴다.
+    private final Map<Integer, String> locations = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    synchronized void load() {
+        List<Space> spaces = spaceRepository.findAllByDeletedAtIsNullAndSpaceStatus(SpaceStatus.OPEN);
+
+        postings.clear();
+        locations.clear();
+        spaces.forEach(space -> add(Math.toIntExact(space.getId()), normalize(space.getLocation())));
+
+        log.info("공간 위치 색인 적재 완료: {}건, n-gram {}개", spaces.size(), postings.size());
+    }
+
+    // 위치에 검색어가 포함된 공개 공간의 id (기존 LIKE '%검색어%'와 같은 결과)
+    public List<Long> search(String query) {
+        String keyword = normalize(query);
+        if (keyword.isEmpty()) {
+            return locations.keySet().stream().map(Long::valueOf).sorted().toList();
+        }
+
+        // 짧은 목록부터 교집합을 구해 후보를 빨리 줄인다.
+        List<int[]> lists = new ArrayList<>();
+        for (String gram : grams(keyword.length() == 1 ? 1 : 2, keyword)) {
+            int[] ids = postings.get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(ids -> ids.length));
+
+        int[] candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists.get(i));
+        }
+
+        // n-gram이 모두 있어도 이어져 있지 않을 수 있으므로 원문으로 확인한다.
+        List<Long> matches = new ArrayList<>(candidates.length);
+        for (int id : candidates) {
+            String location = locations.get(id);
+            if (location != null && location.contains(keyword)) {
+                matches.add((long) id);
+            }
+        }
+        return matches;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 반영한다.
+    public void changed(Space space) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(space);
+                }
+            });
+            return;
+        }
+        apply(space);
+    }
+
+    private synchronized void apply(Space space) {
+        int id = Math.toIntExact(space.getId());
+        String previous = locations.get(id);
+        if (previous != null) {
+            remove(id, previous);
+        }
+        if (!space.isDeleted() && space.getSpaceStatus() == SpaceStatus.OPEN) {
+            add(id, normalize(space.getLocation()));
+        }
+    }
+
+    private void add(int id, String location) {
+        locations.put(id, location);
+        for (String gram : allGrams(location)) {
+            postings.compute(gram, (key, ids) -> insert(ids == null ? EMPTY : ids, id));
+        }
+    }
+
+    private void remove(int id, String location) {
+        for (String gram : allGrams(location)) {
+            postings.computeIfPresent(gram, (key, ids) -> {
+                int[] remaining = delete(ids, id);
+                return remaining.length == 0 ? null : remaining;
+            });
+        }
+        locations.remove(id);
+    }
+
+    // MySQL 기본 콜레이션처럼 대소문자를 구분하지 않는다.
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> allGrams(String text) {
+        Set<String> grams = grams(1, text);
+        grams.addAll(grams(2, text));
+        return grams;
+    }
+
+    private static Set<String> grams(int n, String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + n <= text.length(); i++) {
+            grams.add(text.substring(i, i + n));
+        }
+        return grams;
+    }
+
+    private static int[] insert(int[] ids, int id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return ids;
+        }
+        int position = -index - 1;
+        int[] result = new int[ids.length + 1];
+        System.arraycopy(ids, 0, result, 0, position);
+        result[position] = id;
+        System.arraycopy(ids, position, result, position + 1, ids.length - position);
+        return result;
+    }
+
+    private static int[] delete(int[] ids, int id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return ids;
+        }
+        int[] result = new int[ids.length - 1];
+        System.arraycopy(ids, 0, result, 0, index);
+        System.arraycopy(ids, index + 1, result, index, ids.length - index - 1);
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+}
@@ -1,8 +1,16 @@
 package com.kjh.spacebook.domain.space.service;
 
 import com.kjh.spacebook.common.exception.BusinessException;
+import com.kjh.spacebook.common.response.Cursor;
+import com.kjh.spacebook.common.response.CursorResponse;
+import com.kjh.spacebook.common.response.Versioned;
+import com.kjh.spacebook.domain.reservation.repository.ReservationRepository;
+import com.kjh.spacebook.domain.reservation.service.AvailabilityIndex;
+import com.kjh.spacebook.domain.reservation.service.AvailabilityVersions;
 import com.kjh.spacebook.domain.space.dto.request.CreateSpaceRequest;
 import com.kjh.spacebook.domain.space.dto.request.UpdateSpaceRequest;
+import com.kjh.spacebook.domain.space.dto.response.NearbySpaceResponse;
+import com.kjh.spacebook.domain.space.dto.response.SpaceFacetResponse;
 import com.kjh.spacebook.domain.space.dto.response.SpaceListResponse;
 import com.kjh.spacebook.domain.space.dto.response.SpaceResponse;
 import com.kjh.spacebook.domain.space.entity.Space;
@@ -10,24 +18,44 @@ import com.kjh.spacebook.domain.space.enums.SpaceStatus;
 import com.kjh.spacebook.domain.space.enums.SpaceType;
 import com.kjh.spacebook.domain.space.exception.SpaceErrorCode;
 import com.kjh.spacebook.domain.space.repository.SpaceRepository;
+import com.kjh.spacebook.domain.space.repository.SpaceScrollRow;
 import com.kjh.spacebook.domain.user.entity.User;
 import com.kjh.spacebook.domain.user.exception.UserErrorCode;
 import com.kjh.spacebook.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class SpaceService {
     private final SpaceRepository spaceRepository;
     private final UserRepository userRepository;
+    private final SpaceVersions spaceVersions;
+    private final SpaceLocationIndex spaceLocationIndex;
+    private final SpaceGeoIndex spaceGeoIndex;
+    private final SpaceFacetIndex spaceFacetIndex;
+    private final AvailabilityVersions availabilityVersions;
+    private final AvailabilityIndex availabilityIndex;
+    private final ReservationRepository reservationRepository;
 
     @Transactional
     public SpaceResponse createSpace(Long userId, CreateSpaceRequest request) {
+        validateCoordinates(request.latitude(), request.longitude());
+
         User owner = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
 
@@ -39,16 +67,24 @@ public class SpaceService {
                 request.pricePerHour(),
                 request.location(),
                 request.capacity(),
+                request.latitude(),
+                request.longitude(),
                 owner
         );
 
         spaceRepository.save(space);
+        spaceVersions.changed();
+        spaceLocationIndex.changed(space);
+        spaceGeoIndex.changed(space);
+        spaceFacetIndex.changed(space);
 
         return SpaceResponse.from(space);
     }
 
     @Transactional
     public SpaceResponse updateSpace(Long spaceId, UpdateSpaceRequest request) {
+        validateCoordinates(request.latitude(), request.longitude());
+
         Space space = spaceRepository.findByIdAndDeletedAtIsNull(spaceId)
                 .orElseThrow(() -> new BusinessException(SpaceErrorCode.SPACE_NOT_FOUND));
 
@@ -60,8 +96,14 @@ public class SpaceService {
                 request.pricePerHour(),
                 request.location(),
                 request.capacity(),
+                request.latitude(),
+                request.longitude(),
                 request.spaceStatus()
         );
+        spaceVersions.changed();
+        spaceLocationIndex.changed(space);
+        spaceGeoIndex.changed(space);
+        spaceFacetIndex.changed(space);
 
         return SpaceResponse.from(space);
     }
@@ -72,35 +114,187 @@ public class SpaceService {
                 .orElseThrow(() -> new BusinessException(SpaceErrorCode.SPACE_NOT_FOUND));
 
         space.delete();
+        spaceVersions.changed();
+        spaceLocationIndex.changed(space);
+        spaceGeoIndex.changed(space);
+        spaceFacetIndex.changed(space);
     }
 
     public Page<SpaceListResponse> getMySpaces(Long userId, Pageable pageable) {
-        User owner = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(UserErrorCode.USER_NOT_FOUND);
+        }
 
-        return spaceRepository.findAllByOwnerAndDeletedAtIsNull(owner, pageable)
-                .map(SpaceListResponse::from);
+        return spaceRepository.findListByOwnerId(userId, pageable);
+    }
+
+    // 버전 행만 기본 키로 확인한다. 조건부 요청은 공간을 읽지 않고 응답할 수 있다.
+    // 이용 가능 시간으로 거르는 목록은 예약이 바뀔 때도 달라지므로 그 기간의 예약 변경 번호를 덧붙인다.
+    public String getCatalogVersion(LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null) {
+            return spaceVersions.catalogVersion();
+        }
+        return spaceVersions.catalogVersion() + "-" + availabilityVersions.windowVersion(start, end);
+    }
+
+    public String getSpaceVersion(Long spaceId) {
+        return spaceVersions.detailVersion(spaceId);
     }
 
-    public Page<SpaceListResponse> getSpaces(
+    public Versioned<Page<SpaceListResponse>> getSpaces(
             String location,
             SpaceType spaceType,
             Integer minPrice,
             Integer maxPrice,
+            LocalDateTime start,
+            LocalDateTime end,
             Pageable pageable
     ) {
+        validateSearchConditions(minPrice, maxPrice, start, end);
+
+        // 조회 전에 버전을 읽어, 그 사이 바뀐 내용이 예전 버전으로 나가더라도 다음 요청에서 다시 받게 한다.
+        String version = getCatalogVersion(start, end);
+        return new Versioned<>(version, searchSpaces(location, spaceType, minPrice, maxPrice, start, end, pageable));
+    }
+
+    // 목록과 같은 조건으로 유형 · 가격 구간 · 위치별 개수를 메모리에서 센다.
+    public Versioned<SpaceFacetResponse> getSpaceFacets(
+            String location,
+            SpaceType spaceType,
+            Integer minPrice,
+            Integer maxPrice,
+            LocalDateTime start,
+            LocalDateTime end
+    ) {
+        validateSearchConditions(minPrice, maxPrice, start, end);
+
+        String version = getCatalogVersion(start, end);
+        List<Long> locationIds = location == null || location.isEmpty() ? null : spaceLocationIndex.search(location);
+        return new Versioned<>(version, spaceFacetIndex.count(
+                spaceType, minPrice, maxPrice, locationIds, availability(start, end)));
+    }
+
+    // 목록 조회(NOT EXISTS)와 같이 확정 예약과 임시 점유를 모두 점유로 본다.
+    private LongPredicate availability(LocalDateTime start, LocalDateTime end) {
+        if (start == null) {
+            return null;
+        }
+        if (availabilityIndex.covers(start.toLocalDate())) {
+            availabilityIndex.syncAll(start.toLocalDate(), end.minusNanos(1).toLocalDate());
+            return spaceId -> availabilityIndex.isAvailable(spaceId, start, end);
+        }
+        Set<Long> occupied = new HashSet<>(reservationRepository.findOccupiedSpaceIds(
+                AvailabilityIndex.OCCUPYING_STATUSES, start, end));
+        return spaceId -> !occupied.contains(spaceId);
+    }
+
+    private void validateSearchConditions(Integer minPrice, Integer maxPrice, LocalDateTime start, LocalDateTime end) {
         if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
             throw new BusinessException(SpaceErrorCode.INVALID_PRICE_RANGE);
         }
+        if ((start == null) != (end == null) || (start != null && !start.isBefore(end))) {
+            throw new BusinessException(SpaceErrorCode.INVALID_AVAILABILITY_WINDOW);
+        }
+    }
 
-        return spaceRepository.searchSpaces(location, spaceType, minPrice, maxPrice, pageable)
+    private Page<SpaceListResponse> searchSpaces(
+            String location,
+            SpaceType spaceType,
+            Integer minPrice,
+            Integer maxPrice,
+            LocalDateTime start,
+            LocalDateTime end,
+            Pageable pageable
+    ) {
+        if (location == null || location.isEmpty()) {
+            return spaceRepository.searchSpaces(null, spaceType, minPrice, maxPrice, start, end, pageable);
+        }
+
+        List<Long> spaceIds = spaceLocationIndex.search(location);
+        if (spaceIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        if (spaceIds.size() > SpaceLocationIndex.MAX_ID_CANDIDATES) {
+            return spaceRepository.searchSpaces(location, spaceType, minPrice, maxPrice, start, end, pageable);
+        }
+        return spaceRepository.searchSpacesByIdIn(spaceIds, spaceType, minPrice, maxPrice, start, end, pageable);
+    }
+
+    // 최신 등록 순 무한 스크롤. OFFSET과 COUNT 없이 커서 위치부터 size + 1개만 읽는다.
+    public CursorResponse<SpaceListResponse> scrollSpaces(
+            String location,
+            SpaceType spaceType,
+            Integer minPrice,
+            Integer maxPrice,
+            String cursor,
+            int size
+    ) {
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new BusinessException(SpaceErrorCode.INVALID_PRICE_RANGE);
+        }
+
+        Cursor position = Cursor.decode(cursor);
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        List<SpaceScrollRow> spaces;
+        if (location == null || location.isEmpty()) {
+            spaces = spaceRepository.scrollSpaces(
+                    null, position.key(), position.id(), spaceType, minPrice, maxPrice, limit);
+        } else {
+            List<Long> spaceIds = spaceLocationIndex.search(location);
+            if (spaceIds.size() > SpaceLocationIndex.MAX_ID_CANDIDATES) {
+                spaces = spaceRepository.scrollSpaces(
+                        location, position.key(), position.id(), spaceType, minPrice, maxPrice, limit);
+            } else {
+                spaces = spaceIds.isEmpty() ? List.of() : spaceRepository.scrollSpacesByIdIn(
+                        spaceIds, position.key(), position.id(), spaceType, minPrice, maxPrice, limit);
+            }
+        }
+
+        return CursorResponse.of(spaces, size, row -> new Cursor(row.createdAt(), row.id()))
                 .map(SpaceListResponse::from);
     }
 
-    public SpaceResponse getSpaceDetail(Long spaceId) {
-        Space space = spaceRepository.findByIdAndDeletedAtIsNullAndSpaceStatus(spaceId, SpaceStatus.OPEN)
+    // 반경 안의 공간을 가까운 순으로 조회한다. 위치 · 필터 판단은 인덱스에서 끝내고 DB는 id로만 읽는다.
+    public List<NearbySpaceResponse> getNearbySpaces(
+            double latitude,
+            double longitude,
+            int radiusMeters,
+            SpaceType spaceType,
+            Integer minPrice,
+            Integer maxPrice,
+            int size
+    ) {
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new BusinessException(SpaceErrorCode.INVALID_PRICE_RANGE);
+        }
+
+        List<SpaceGeoIndex.Nearby> nearby = spaceGeoIndex.nearest(
+                latitude, longitude, radiusMeters, spaceType, minPrice, maxPrice, size);
+        if (nearby.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Space> spaces = spaceRepository.findAllByIdInAndDeletedAtIsNullAndSpaceStatus(
+                nearby.stream().map(SpaceGeoIndex.Nearby::spaceId).toList(),
+                SpaceStatus.OPEN
+        ).stream().collect(Collectors.toMap(Space::getId, Function.identity()));
+
+        return nearby.stream()
+                .filter(candidate -> spaces.containsKey(candidate.spaceId()))
+                .map(candidate -> NearbySpaceResponse.of(spaces.get(candidate.spaceId()), candidate.distanceMeters()))
+                .toList();
+    }
+
+    public Versioned<SpaceResponse> getSpaceDetail(Long spaceId) {
+        Space space = spaceRepository.findOpenById(spaceId)
                 .orElseThrow(() -> new BusinessException(SpaceErrorCode.SPACE_NOT_FOUND));
 
-        return SpaceResponse.from(space);
+        return new Versioned<>(spaceVersions.of(space), SpaceResponse.from(space));
+    }
+
+    private void validateCoordinates(Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new BusinessException(SpaceErrorCode.INVALID_COORDINATES);
+        }
     }
 }
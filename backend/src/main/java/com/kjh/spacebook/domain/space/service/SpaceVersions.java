@@ -0,0 +1,45 @@
+package com.kjh.spacebook.domain.space.service;
+
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.space.repository.SpaceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+// 공간 상세 · 목록 응답의 버전(ETag). 여러 인스턴스가 같은 값을 보도록 DB에서 읽는다.
+// 상세는 Space.updatedAt을, 목록은 공간 변경과 같은 트랜잭션에서 올리는 카탈로그 번호를 버전으로 쓴다.
+@Component
+@RequiredArgsConstructor
+public class SpaceVersions {
+    private final SpaceRepository spaceRepository;
+
+    public String catalogVersion() {
+        return String.valueOf(spaceRepository.findCatalogVersion());
+    }
+
+    // 공개 중인 공간의 버전. 없거나 닫힌 공간이면 null
+    public String detailVersion(Long spaceId) {
+        return spaceRepository.findOpenUpdatedAtById(spaceId)
+                .map(updatedAt -> format(spaceId, updatedAt))
+                .orElse(null);
+    }
+
+    public String of(Space space) {
+        return format(space.getId(), space.getUpdatedAt());
+    }
+
+    // 공간 변경 트랜잭션 안에서 호출한다. 번호 행의 락이 커밋까지 유지되어 동시에 바뀐 공간도 번호가 따로 오른다.
+    public void changed() {
+        spaceRepository.incrementCatalogVersion();
+    }
+
+    // DB 컬럼 정밀도(DATETIME(6))에 맞춰 커밋 직후 값과 다시 읽은 값이 같은 버전이 되게 한다.
+    private static String format(Long spaceId, LocalDateTime updatedAt) {
+        LocalDateTime truncated = updatedAt.truncatedTo(ChronoUnit.MICROS);
+        long micros = truncated.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + truncated.getNano() / 1_000;
+        return spaceId + "." + micros;
+    }
+}
@@ -1,5 +1,6 @@
 package com.kjh.spacebook.domain.user.entity;
 
+import com.kjh.spacebook.common.config.SecondLevelCacheConfig;
 import com.kjh.spacebook.common.exception.BusinessException;
 import com.kjh.spacebook.domain.auth.exception.AuthErrorCode;
 import com.kjh.spacebook.domain.user.enums.Role;
@@ -7,12 +8,16 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USER_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
@@ -0,0 +1,104 @@
+-- 예약 시리즈 · 슬롯 · 보관 · 대기열 · 멱등 키 · 메일 아웃박스 테이블과 예약 확장 컬럼.
+-- baseline(V1) 이후 버전이므로 baseline 처리된 기존 DB에도 적용된다.
+
+CREATE TABLE reservation_series (
+    id               BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id          BIGINT      NOT NULL,
+    space_id         BIGINT      NOT NULL,
+    recurrence_type  ENUM ('DAILY','WEEKLY') NOT NULL,
+    first_start_time DATETIME(6) NOT NULL,
+    first_end_time   DATETIME(6) NOT NULL,
+    occurrence_count INTEGER     NOT NULL,
+    status           ENUM ('HOLD','CONFIRMED','CANCELLED') NOT NULL,
+    created_at       DATETIME(6) NOT NULL,
+    updated_at       DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reservation_series_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_reservation_series_space FOREIGN KEY (space_id) REFERENCES spaces (id)
+) ENGINE = InnoDB;
+
+ALTER TABLE reservations
+    MODIFY status ENUM ('HOLD','CONFIRMED','CANCELLED') NOT NULL,
+    ADD COLUMN series_id BIGINT AFTER space_id,
+    ADD COLUMN hold_expires_at DATETIME(6) AFTER status,
+    ADD CONSTRAINT fk_reservations_series FOREIGN KEY (series_id) REFERENCES reservation_series (id);
+
+CREATE TABLE reservation_slots (
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    reservation_id BIGINT      NOT NULL,
+    space_id       BIGINT      NOT NULL,
+    slot_start     DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_reservation_slots_space_slot UNIQUE (space_id, slot_start),
+    CONSTRAINT fk_reservation_slots_reservation FOREIGN KEY (reservation_id) REFERENCES reservations (id),
+    CONSTRAINT fk_reservation_slots_space FOREIGN KEY (space_id) REFERENCES spaces (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE reservations_archive (
+    id           BIGINT       NOT NULL,
+    user_id      BIGINT       NOT NULL,
+    space_id     BIGINT       NOT NULL,
+    series_id    BIGINT,
+    start_time   DATETIME(6)  NOT NULL,
+    end_time     DATETIME(6)  NOT NULL,
+    people_count INTEGER      NOT NULL,
+    total_price  INTEGER      NOT NULL,
+    purpose      VARCHAR(255),
+    status       ENUM ('HOLD','CONFIRMED','CANCELLED') NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    updated_at   DATETIME(6),
+    archived_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_reservations_archive_user_start (user_id, start_time),
+    CONSTRAINT fk_reservations_archive_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_reservations_archive_space FOREIGN KEY (space_id) REFERENCES spaces (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE waitlist_entries (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id        BIGINT       NOT NULL,
+    space_id       BIGINT       NOT NULL,
+    start_time     DATETIME(6)  NOT NULL,
+    end_time       DATETIME(6)  NOT NULL,
+    people_count   INTEGER      NOT NULL,
+    purpose        VARCHAR(255),
+    status         ENUM ('WAITING','PROMOTED','CANCELLED') NOT NULL,
+    reservation_id BIGINT,
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_waitlist_entries_space_status_start (space_id, status, start_time),
+    CONSTRAINT uk_waitlist_entries_reservation UNIQUE (reservation_id),
+    CONSTRAINT fk_waitlist_entries_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_waitlist_entries_space FOREIGN KEY (space_id) REFERENCES spaces (id),
+    CONSTRAINT fk_waitlist_entries_reservation FOREIGN KEY (reservation_id) REFERENCES reservations (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE idempotency_keys (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT       NOT NULL,
+    operation       ENUM ('CREATE_RESERVATION','CANCEL_RESERVATION') NOT NULL,
+    idempotency_key VARCHAR(100) NOT NULL,
+    reservation_id  BIGINT,
+    created_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_idempotency_keys_user_operation_key UNIQUE (user_id, operation, idempotency_key),
+    INDEX idx_idempotency_keys_created_at (created_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE email_outbox (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    type            ENUM ('RESERVATION_CONFIRM','RESERVATION_CANCEL','WAITLIST_PROMOTED',
+                          'RESERVATION_SERIES_CONFIRM','RESERVATION_SERIES_CANCEL') NOT NULL,
+    recipient       VARCHAR(255) NOT NULL,
+    reservation_id  BIGINT,
+    series_id       BIGINT,
+    status          ENUM ('PENDING','SENT','FAILED') NOT NULL,
+    attempts        INTEGER      NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6)  NOT NULL,
+    sent_at         DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_email_outbox_status_next_attempt (status, next_attempt_at)
+) ENGINE = InnoDB;
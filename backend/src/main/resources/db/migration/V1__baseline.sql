@@ -0,0 +1,60 @@
+-- ddl-auto: update 시절 엔티티가 만들던 스키마. 기존 DB는 이 버전으로 baseline 처리된다.
+
+CREATE TABLE users (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    role         ENUM ('USER','ADMIN') NOT NULL,
+    username     VARCHAR(30)  NOT NULL,
+    email        VARCHAR(50)  NOT NULL,
+    password     VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(15)  NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    deleted_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE refresh_tokens (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT       NOT NULL,
+    token      VARCHAR(500) NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token UNIQUE (token),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE spaces (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    space_name     VARCHAR(100) NOT NULL,
+    description    TEXT         NOT NULL,
+    image_url      VARCHAR(255) NOT NULL,
+    space_type     ENUM ('STUDY','PARTY','MEETING') NOT NULL,
+    price_per_hour INTEGER      NOT NULL,
+    location       VARCHAR(100) NOT NULL,
+    capacity       INTEGER      NOT NULL,
+    space_status   ENUM ('OPEN','CLOSED') NOT NULL,
+    owner_id       BIGINT       NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6),
+    deleted_at     DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_spaces_owner FOREIGN KEY (owner_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE reservations (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT       NOT NULL,
+    space_id     BIGINT       NOT NULL,
+    start_time   DATETIME(6)  NOT NULL,
+    end_time     DATETIME(6)  NOT NULL,
+    people_count INTEGER      NOT NULL,
+    total_price  INTEGER      NOT NULL,
+    purpose      VARCHAR(255),
+    status       ENUM ('CONFIRMED','CANCELLED') NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reservations_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_reservations_space FOREIGN KEY (space_id) REFERENCES spaces (id)
+) ENGINE = InnoDB;
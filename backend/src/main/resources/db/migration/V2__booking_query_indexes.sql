@@ -0,0 +1,13 @@
+-- 예약 조회 경로별 인덱스
+
+-- findReservedTimes: 공간 · 상태로 좁힌 뒤 시간 범위를 인덱스에서 바로 거른다.
+CREATE INDEX idx_reservations_space_status_time ON reservations (space_id, status, start_time, end_time);
+
+-- 내 예약 목록: 사용자별 최신 일정 순 정렬을 인덱스 순서로 처리한다.
+CREATE INDEX idx_reservations_user_start ON reservations (user_id, start_time);
+
+-- 가용성 인덱스 적재 · 지난 예약 보관: 종료 시각 범위 조회
+CREATE INDEX idx_reservations_status_end ON reservations (status, end_time);
+
+-- searchSpaces: 운영 중 · 삭제되지 않은 공간을 유형과 가격 범위로 거른다.
+CREATE INDEX idx_spaces_search ON spaces (space_status, deleted_at, space_type, price_per_hour);
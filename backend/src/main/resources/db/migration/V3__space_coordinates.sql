@@ -0,0 +1,4 @@
+-- 내 주변 공간 검색용 좌표 (WGS84). 기존 공간은 좌표를 입력하기 전까지 주변 검색에 나오지 않는다.
+ALTER TABLE spaces
+    ADD COLUMN latitude  DOUBLE NULL,
+    ADD COLUMN longitude DOUBLE NULL;
@@ -0,0 +1,3 @@
+-- scrollSpaces: 운영 중 · 삭제되지 않은 공간을 (created_at, id) 역순으로 커서 위치부터 읽는다.
+-- InnoDB 보조 인덱스는 끝에 기본 키를 포함하므로 id 동순위 비교까지 인덱스에서 처리된다.
+CREATE INDEX idx_spaces_open_created ON spaces (space_status, deleted_at, created_at);
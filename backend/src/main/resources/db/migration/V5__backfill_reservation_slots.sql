@@ -0,0 +1,21 @@
+-- 슬롯 테이블 도입 전에 확정된 예약의 1시간 단위 슬롯을 채운다.
+-- 끝나지 않은 확정 예약 중 슬롯이 없는 것만 대상으로 하며, 이후로는 유니크 제약이 이 예약들과의 중복도 막는다.
+-- 도입 전에 이미 겹쳐 있던 예약은 먼저 들어간 슬롯만 남긴다(INSERT IGNORE).
+
+SET SESSION cte_max_recursion_depth = 100000;
+
+INSERT IGNORE INTO reservation_slots (reservation_id, space_id, slot_start)
+WITH RECURSIVE slots (reservation_id, space_id, slot_start, end_time) AS (
+    SELECT r.id, r.space_id, r.start_time, r.end_time
+    FROM reservations r
+    WHERE r.status = 'CONFIRMED'
+    AND r.end_time > NOW()
+    AND NOT EXISTS (SELECT 1 FROM reservation_slots rs WHERE rs.reservation_id = r.id)
+    UNION ALL
+    SELECT reservation_id, space_id, slot_start + INTERVAL 1 HOUR, end_time
+    FROM slots
+    WHERE slot_start + INTERVAL 1 HOUR < end_time
+)
+SELECT reservation_id, space_id, slot_start
+FROM slots
+ORDER BY slot_start, reservation_id;
@@ -0,0 +1,3 @@
+-- Idempotency-Key를 처음 쓴 요청 본문의 해시. 기존 키는 비교 없이 그대로 재사용된다.
+ALTER TABLE idempotency_keys
+    ADD COLUMN request_hash VARCHAR(64) NULL AFTER idempotency_key;
@@ -0,0 +1,3 @@
+-- 디스패처가 발송 중으로 가져간 메일. next_attempt_at이 lease 만료 시각이 된다.
+ALTER TABLE email_outbox
+    MODIFY status ENUM ('PENDING','SENDING','SENT','FAILED') NOT NULL;
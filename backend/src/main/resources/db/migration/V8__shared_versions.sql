@@ -0,0 +1,20 @@
+-- 조건부 요청(ETag)에 쓰는 버전을 인스턴스 메모리 대신 DB에 둔다. 변경과 같은 트랜잭션에서 올린다.
+
+-- 공간 목록 버전: 공간 등록 · 수정 · 삭제마다 1씩 올린다.
+CREATE TABLE space_catalog_version (
+    id      TINYINT NOT NULL,
+    version BIGINT  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+INSERT INTO space_catalog_version (id, version) VALUES (1, 0);
+
+-- 공간별 · 날짜별 예약 현황 버전: 예약 생성 · 취소 · 보관마다 걸친 날짜의 행을 1씩 올린다.
+-- 행이 없으면 0으로 본다. 행을 지우지 않으므로 한 번 발급한 버전이 다시 나오지 않는다.
+CREATE TABLE availability_stamps (
+    space_id   BIGINT NOT NULL,
+    stamp_date DATE   NOT NULL,
+    version    BIGINT NOT NULL,
+    PRIMARY KEY (space_id, stamp_date),
+    INDEX idx_availability_stamps_date (stamp_date, version)
+) ENGINE = InnoDB;
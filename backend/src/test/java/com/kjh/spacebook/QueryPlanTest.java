@@ -0,0 +1,291 @@
+package com.kjh.spacebook;
+
+import com.kjh.spacebook.common.email.EmailOutboxRepository;
+import com.kjh.spacebook.domain.reservation.enums.IdempotentOperation;
+import com.kjh.spacebook.domain.reservation.enums.ReservationStatus;
+import com.kjh.spacebook.domain.reservation.enums.WaitlistStatus;
+import com.kjh.spacebook.domain.reservation.repository.AvailabilityStampRepository;
+import com.kjh.spacebook.domain.reservation.repository.IdempotencyRecordRepository;
+import com.kjh.spacebook.domain.reservation.repository.ReservationRepository;
+import com.kjh.spacebook.domain.reservation.repository.WaitlistEntryRepository;
+import com.kjh.spacebook.domain.reservation.service.AvailabilityIndex;
+import com.kjh.spacebook.domain.space.enums.SpaceType;
+import com.kjh.spacebook.domain.space.repository.SpaceRepository;
+import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.Query;
+import com.mysql.cj.interceptors.QueryInterceptor;
+import com.mysql.cj.log.Log;
+import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.ServerSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Flyway 마이그레이션을 실제 MySQL에 적용해 엔티티와 스키마가 맞는지(ddl-auto: validate) 확인하고,
+// 예약 · 공간 조회 쿼리를 저장소로 실행해 Hibernate가 만든 SQL의 실행 계획에 전체 테이블 스캔이 없는지 검사한다.
+// Docker가 없으면 건너뛴다.
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withUrlParam("queryInterceptors", SqlCapture.class.getName());
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired ReservationRepository reservationRepository;
+    @Autowired SpaceRepository spaceRepository;
+    @Autowired WaitlistEntryRepository waitlistEntryRepository;
+    @Autowired EmailOutboxRepository emailOutboxRepository;
+    @Autowired IdempotencyRecordRepository idempotencyRecordRepository;
+    @Autowired AvailabilityStampRepository availabilityStampRepository;
+
+    private Long userId;
+
+    // 테이블이 작으면 옵티마이저가 인덱스 대신 전체 스캔을 고르므로 실제와 비슷한 분포로 채운다.
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (role, username, email, password, phone_number, created_at) " +
+                "VALUES ('USER', 'owner', 'owner@test.com', 'pw', '01000000000', NOW())");
+        Long ownerId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+        userId = ownerId + 10;
+
+        insert("INSERT INTO users (role, username, email, password, phone_number, created_at) " +
+                        "VALUES ('USER', ?, ?, 'pw', '01000000000', NOW())",
+                200, i -> new Object[]{"user" + i, "user" + i + "@test.com"});
+        insert("INSERT INTO spaces (space_name, description, image_url, space_type, price_per_hour, location, " +
+                        "capacity, space_status, owner_id, created_at, deleted_at) " +
+                        "VALUES (?, '설명', 'https://image', ?, ?, '강남', 4, ?, ?, NOW(), ?)",
+                2000, i -> new Object[]{
+                        "공간" + i,
+                        List.of("STUDY", "PARTY", "MEETING").get(i % 3),
+                        5000 + (i % 50) * 1000,
+                        i % 4 == 0 ? "CLOSED" : "OPEN",
+                        ownerId,
+                        i % 5 == 0 ? Timestamp.valueOf("2025-01-01 00:00:00") : null
+                });
+        insert("INSERT INTO reservations (user_id, space_id, start_time, end_time, people_count, total_price, " +
+                        "status, created_at) " +
+                        "VALUES (?, ?, DATE_ADD('2026-01-01', INTERVAL ? HOUR), DATE_ADD('2026-01-01', INTERVAL ? HOUR), " +
+                        "2, 10000, ?, NOW())",
+                20000, i -> new Object[]{
+                        ownerId + 1 + i % 200,
+                        1 + i % 2000,
+                        i, i + 1,
+                        i % 10 == 0 ? "CANCELLED" : "CONFIRMED"
+                });
+        insert("INSERT INTO waitlist_entries (user_id, space_id, start_time, end_time, people_count, status, created_at) " +
+                        "VALUES (?, ?, DATE_ADD('2026-01-01', INTERVAL ? HOUR), DATE_ADD('2026-01-01', INTERVAL ? HOUR), " +
+                        "2, ?, NOW())",
+                5000, i -> new Object[]{
+                        ownerId + 1 + i % 200,
+                        1 + i % 2000,
+                        i, i + 1,
+                        i % 3 == 0 ? "WAITING" : "PROMOTED"
+                });
+        insert("INSERT INTO email_outbox (type, recipient, status, attempts, next_attempt_at, created_at) " +
+                        "VALUES ('RESERVATION_CONFIRM', 'user@test.com', ?, 1, NOW(), NOW())",
+                5000, i -> new Object[]{i % 100 == 0 ? "PENDING" : "SENT"});
+
+        insert("INSERT INTO idempotency_keys (user_id, operation, idempotency_key, reservation_id, created_at) " +
+                        "VALUES (?, 'CREATE_RESERVATION', ?, ?, NOW())",
+                2000, i -> new Object[]{ownerId + 1 + i % 200, "key" + i, i + 1});
+        jdbcTemplate.update("INSERT INTO reservations_archive (id, user_id, space_id, start_time, end_time, " +
+                "people_count, total_price, status, created_at, archived_at) " +
+                "SELECT id + 1000000, user_id, space_id, start_time, end_time, people_count, total_price, status, " +
+                "created_at, NOW() FROM reservations WHERE id % 4 = 0");
+
+        insert("INSERT INTO availability_stamps (space_id, stamp_date, version) " +
+                        "VALUES (?, DATE_ADD('2026-01-01', INTERVAL ? DAY), ?)",
+                20000, i -> new Object[]{1 + i % 2000, i / 2000, 1 + i % 7});
+
+        jdbcTemplate.execute("ANALYZE TABLE users, spaces, reservations, reservations_archive, " +
+                "waitlist_entries, email_outbox, idempotency_keys, availability_stamps");
+    }
+
+    private void insert(String sql, int count, IntFunction<Object[]> row) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(row.apply(i));
+        }
+        jdbcTemplate.batchUpdate(sql, rows);
+    }
+
+    // 파생 테이블(<union1,2> 등)을 제외한 모든 테이블 접근이 인덱스를 타는지 검사한다.
+    private void assertNoFullScan(String sql) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+
+        assertThat(plan)
+                .filteredOn(row -> row.get("table") != null && !row.get("table").toString().startsWith("<"))
+                .as("실행 계획: %s", plan)
+                .isNotEmpty()
+                .allSatisfy(row -> assertThat(row.get("type")).isNotEqualTo("ALL"));
+    }
+
+    // 저장소 메서드를 실제로 실행해 드라이버가 보낸 SELECT 문(파라미터 값 포함)을 모두 검사한다.
+    private void assertNoFullScan(Runnable query) {
+        List<String> statements = SqlCapture.record(query);
+
+        assertThat(statements).as("실행된 SELECT 문").isNotEmpty();
+        statements.forEach(this::assertNoFullScan);
+    }
+
+    @Test
+    @DisplayName("조건부 요청 버전 조회 (availability_stamps, space_catalog_version, 공간 수정 시각)")
+    void versions() {
+        LocalDate date = DAY.toLocalDate();
+        assertNoFullScan(() -> availabilityStampRepository.findVersion(7L, date));
+        assertNoFullScan(() -> availabilityStampRepository.findAllBySpaceIdAndDateBetween(7L, date, date.plusDays(61)));
+        assertNoFullScan(() -> availabilityStampRepository.findAllByDateBetween(date, date));
+        assertNoFullScan(() -> availabilityStampRepository.sumVersions(date, date.plusDays(1)));
+        assertNoFullScan(() -> spaceRepository.findOpenUpdatedAtById(7L));
+        assertNoFullScan(() -> spaceRepository.findCatalogVersion());
+    }
+
+    @Test
+    @DisplayName("공간별 예약 시간 조회 (findReservedTimes)")
+    void findReservedTimes() {
+        assertNoFullScan(() -> reservationRepository.findReservedTimes(
+                7L, AvailabilityIndex.OCCUPYING_STATUSES, DAY, DAY.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("보관분을 포함한 내 예약 목록 (findSummariesIncludingArchive, countIncludingArchive)")
+    void findSummariesIncludingArchive() {
+        assertNoFullScan(() -> reservationRepository.findSummariesIncludingArchive(userId, 10, 0));
+        assertNoFullScan(() -> reservationRepository.countIncludingArchive(userId));
+    }
+
+    @Test
+    @DisplayName("보관분을 포함한 내 예약 커서 조회 (scrollSummariesIncludingArchive)")
+    void scrollSummariesIncludingArchive() {
+        assertNoFullScan(() -> reservationRepository.scrollSummariesIncludingArchive(
+                userId, DAY.plusHours(10), 100L, 11));
+    }
+
+    @Test
+    @DisplayName("공간 커서 조회 (scrollSpaces)")
+    void scrollSpaces() {
+        assertNoFullScan(() -> spaceRepository.scrollSpaces(
+                null, DAY.plusHours(10), 100L, null, null, null, PageRequest.ofSize(11)));
+    }
+
+    @Test
+    @DisplayName("보관 대상 예약 id 조회 (findArchivableIds)")
+    void findArchivableIds() {
+        assertNoFullScan(() -> reservationRepository.findArchivableIds(
+                100L, DAY.plusDays(2), ReservationStatus.HOLD, PageRequest.ofSize(500)));
+    }
+
+    @Test
+    @DisplayName("공간 검색 (searchSpaces, searchSpacesByIdIn)")
+    void searchSpaces() {
+        assertNoFullScan(() -> spaceRepository.searchSpaces(
+                null, SpaceType.MEETING, 10000, 20000, null, null, PageRequest.ofSize(20)));
+        assertNoFullScan(() -> spaceRepository.searchSpacesByIdIn(
+                List.of(3L, 17L, 42L), SpaceType.MEETING, null, null, null, null, PageRequest.ofSize(20)));
+    }
+
+    @Test
+    @DisplayName("이용 가능 시간 공간 검색 (searchSpaces NOT EXISTS)")
+    void searchAvailableSpaces() {
+        assertNoFullScan(() -> spaceRepository.searchSpaces(
+                null, SpaceType.MEETING, null, null, DAY.plusDays(1).plusHours(19), DAY.plusDays(1).plusHours(21),
+                PageRequest.ofSize(20)));
+    }
+
+    @Test
+    @DisplayName("대기 전환 후보 조회 (findCandidates)")
+    void findCandidates() {
+        assertNoFullScan(() -> waitlistEntryRepository.findCandidates(
+                7L, WaitlistStatus.WAITING, DAY, DAY, DAY.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("발송할 메일 조회 (findDispatchable)")
+    void findDispatchable() {
+        assertNoFullScan(() -> emailOutboxRepository.findDispatchable(DAY, 500));
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 조회 (findByUserIdAndOperationAndIdempotencyKey)")
+    void findIdempotencyRecord() {
+        assertNoFullScan(() -> idempotencyRecordRepository.findByUserIdAndOperationAndIdempotencyKey(
+                userId, IdempotentOperation.CREATE_RESERVATION, "key7"));
+    }
+
+    // 드라이버가 서버로 보내는 SQL을 가로챈다. 클라이언트 측 PreparedStatement는 값이 채워진 SQL을 보낸다.
+    public static class SqlCapture implements QueryInterceptor {
+
+        private static final List<String> statements = new CopyOnWriteArrayList<>();
+        private static volatile boolean recording;
+
+        static List<String> record(Runnable query) {
+            statements.clear();
+            recording = true;
+            try {
+                query.run();
+            } finally {
+                recording = false;
+            }
+            return List.copyOf(statements);
+        }
+
+        @Override
+        public QueryInterceptor init(MysqlConnection conn, Properties props, Log log) {
+            return this;
+        }
+
+        @Override
+        public <T extends Resultset> T preProcess(Supplier<String> sql, Query interceptedQuery) {
+            if (recording) {
+                String statement = sql.get();
+                if (statement != null && statement.stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+                    statements.add(statement);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean executeTopLevelOnly() {
+            return true;
+        }
+
+        @Override
+        public void destroy() {
+        }
+
+        @Override
+        public <T extends Resultset> T postProcess(Supplier<String> sql, Query interceptedQuery,
+                                                   T originalResultSet, ServerSession serverSession) {
+            return null;
+        }
+    }
+}
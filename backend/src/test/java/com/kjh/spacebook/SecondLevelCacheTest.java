@@ -0,0 +1,140 @@
+package com.kjh.spacebook;
+
+import com.kjh.spacebook.common.config.SecondLevelCacheConfig;
+import com.kjh.spacebook.common.config.SecondLevelCacheProperties;
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.space.enums.SpaceStatus;
+import com.kjh.spacebook.domain.space.repository.SpaceRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 공간 상세 조회(findOpenById)가 2차 캐시를 거치는지, 엔티티 변경이 커밋 후 캐시에 반영되는지 확인한다.
+// 캐시가 반영된 상태로 보려면 커밋이 필요하므로 테스트 트랜잭션 없이 실행한다. Docker가 없으면 건너뛴다.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(SecondLevelCacheConfig.class)
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+    private static final Logger log = LoggerFactory.getLogger(SecondLevelCacheTest.class);
+    private static final int READS = 500;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired SpaceRepository spaceRepository;
+
+    private Statistics statistics;
+    private Long spaceId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        jdbcTemplate.update("INSERT INTO users (role, username, email, password, phone_number, created_at) " +
+                "VALUES ('USER', 'owner', 'owner@test.com', 'pw', '01000000000', NOW())");
+        Long ownerId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+        jdbcTemplate.update("INSERT INTO spaces (space_name, description, image_url, space_type, price_per_hour, " +
+                "location, capacity, space_status, owner_id, created_at) " +
+                "VALUES ('공간', '설명', 'https://image', 'STUDY', 10000, '강남', 4, 'OPEN', ?, NOW())", ownerId);
+        spaceId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM spaces", Long.class);
+
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM spaces");
+        jdbcTemplate.update("DELETE FROM users");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    // 매 조회 전에 캐시를 비운 경우(캐시 도입 전)와 캐시를 그대로 둔 경우의 DB 조회 수와 처리량을 비교한다.
+    @Test
+    @DisplayName("공간 상세 조회 반복 - 캐시가 있으면 첫 조회만 DB를 읽는다")
+    void detailReads() {
+        long uncachedStart = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            entityManagerFactory.getCache().evict(Space.class);
+            assertThat(spaceRepository.findOpenById(spaceId)).isPresent();
+        }
+        long uncachedNanos = System.nanoTime() - uncachedStart;
+        long uncachedStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        long cachedStart = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            assertThat(spaceRepository.findOpenById(spaceId)).isPresent();
+        }
+        long cachedNanos = System.nanoTime() - cachedStart;
+        long cachedStatements = statistics.getPrepareStatementCount();
+
+        log.info("공간 상세 {}회 조회 - 캐시 없음: DB 조회 {}회, {}회/초 / 캐시: DB 조회 {}회, {}회/초",
+                READS,
+                uncachedStatements, READS * 1_000_000_000L / uncachedNanos,
+                cachedStatements, READS * 1_000_000_000L / cachedNanos);
+
+        assertThat(uncachedStatements).isEqualTo(READS);
+        assertThat(cachedStatements).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(READS - 1);
+    }
+
+    @Test
+    @DisplayName("소프트 삭제가 커밋되면 캐시된 상태로 걸러져 조회되지 않는다")
+    void softDelete() {
+        // given
+        assertThat(spaceRepository.findOpenById(spaceId)).isPresent();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> spaceRepository.findById(spaceId).orElseThrow().delete());
+        statistics.clear();
+
+        // then
+        assertThat(spaceRepository.findOpenById(spaceId)).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("상태 변경이 커밋되면 캐시된 공간에도 바로 반영된다")
+    void statusChange() {
+        // given
+        assertThat(spaceRepository.findOpenById(spaceId)).isPresent();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> spaceRepository.findById(spaceId).orElseThrow()
+                .update(null, null, null, null, null, null, null, null, null, SpaceStatus.CLOSED));
+        statistics.clear();
+
+        // then
+        assertThat(spaceRepository.findOpenById(spaceId)).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
@@ -0,0 +1,133 @@
+package com.kjh.spacebook;
+
+import com.kjh.spacebook.domain.reservation.dto.response.ReservationListResponse;
+import com.kjh.spacebook.domain.reservation.dto.response.ReservationResponse;
+import com.kjh.spacebook.domain.reservation.repository.ReservationRepository;
+import com.kjh.spacebook.domain.space.dto.response.SpaceListResponse;
+import com.kjh.spacebook.domain.space.repository.SpaceRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 목록 · 상세 조회가 서비스와 같은 저장소 호출과 DTO 변환으로 실행하는 SQL 문 수를 센다.
+// 페이지 크기가 달라져도 문 수가 같아야 지연 로딩(N+1)이 없는 것이다. Docker가 없으면 건너뛴다.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class StatementCountTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManager entityManager;
+    @Autowired SpaceRepository spaceRepository;
+    @Autowired ReservationRepository reservationRepository;
+
+    private Statistics statistics;
+    private Long ownerId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        ownerId = insertUser("owner");
+        userId = insertUser("user");
+        for (int i = 0; i < 40; i++) {
+            jdbcTemplate.update("INSERT INTO spaces (space_name, description, image_url, space_type, price_per_hour, " +
+                    "location, capacity, space_status, owner_id, created_at) " +
+                    "VALUES (?, '설명', 'https://image', 'STUDY', 10000, '강남', 4, 'OPEN', ?, NOW())",
+                    "공간" + i, ownerId);
+            Long spaceId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM spaces", Long.class);
+            jdbcTemplate.update("INSERT INTO reservations (user_id, space_id, start_time, end_time, people_count, " +
+                    "total_price, status, created_at) " +
+                    "VALUES (?, ?, DATE_ADD('2026-01-01', INTERVAL ? HOUR), DATE_ADD('2026-01-01', INTERVAL ? HOUR), " +
+                    "2, 10000, 'CONFIRMED', NOW())",
+                    userId, spaceId, i, i + 1);
+        }
+    }
+
+    private Long insertUser(String username) {
+        jdbcTemplate.update("INSERT INTO users (role, username, email, password, phone_number, created_at) " +
+                "VALUES ('USER', ?, ?, 'pw', '01000000000', NOW())", username, username + "@test.com");
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+    }
+
+    // 영속성 컨텍스트를 비운 뒤 실행해 1차 캐시가 지연 로딩을 가리지 않게 한다.
+    private long countStatements(int pageSize, IntConsumer read) {
+        entityManager.clear();
+        statistics.clear();
+        read.accept(pageSize);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void assertConstant(IntConsumer read, long expected) {
+        assertThat(countStatements(5, read)).isEqualTo(expected);
+        assertThat(countStatements(20, read)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("공간 검색 목록 - 목록과 개수 조회 2회")
+    void searchSpaces() {
+        assertConstant(size -> {
+            List<SpaceListResponse> content = spaceRepository.searchSpaces(
+                    null, null, null, null, null, null, PageRequest.ofSize(size)).getContent();
+            assertThat(content).hasSize(size);
+        }, 2);
+    }
+
+    @Test
+    @DisplayName("내 공간 목록 - 목록과 개수 조회 2회")
+    void findListByOwnerId() {
+        assertConstant(size -> {
+            List<SpaceListResponse> content = spaceRepository.findListByOwnerId(ownerId, PageRequest.ofSize(size))
+                    .getContent();
+            assertThat(content).hasSize(size);
+        }, 2);
+    }
+
+    @Test
+    @DisplayName("내 예약 목록 - 목록과 개수 조회 2회")
+    void getMyReservations() {
+        assertConstant(size -> {
+            List<ReservationListResponse> content = reservationRepository.findSummariesIncludingArchive(userId, size, 0)
+                    .stream()
+                    .map(ReservationListResponse::from)
+                    .toList();
+            reservationRepository.countIncludingArchive(userId);
+            assertThat(content).hasSize(size);
+        }, 2);
+    }
+
+    @Test
+    @DisplayName("내 예약 상세 - 공간을 함께 읽어 1회")
+    void getMyReservationDetail() {
+        Long reservationId = jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM reservations WHERE user_id = ?", Long.class, userId);
+
+        assertConstant(size -> {
+            ReservationResponse response = ReservationResponse.from(
+                    reservationRepository.findWithSpaceById(reservationId).orElseThrow());
+            assertThat(response.userId()).isEqualTo(userId);
+        }, 1);
+    }
+}
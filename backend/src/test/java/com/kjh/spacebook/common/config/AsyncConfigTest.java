@@ -0,0 +1,152 @@
+package com.kjh.spacebook.common.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncConfigTest {
+
+    private static final AsyncProperties.Pool SINGLE = new AsyncProperties.Pool(1, 1, 1, Duration.ofSeconds(5));
+
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncConfig asyncConfig;
+    private final List<ThreadPoolTaskExecutor> executors = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        asyncConfig = new AsyncConfig(new AsyncProperties(SINGLE, SINGLE), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executors.forEach(ThreadPoolTaskExecutor::shutdown);
+    }
+
+    private ThreadPoolTaskExecutor start(ThreadPoolTaskExecutor executor) {
+        executor.initialize();
+        executors.add(executor);
+        return executor;
+    }
+
+    // 스레드 하나를 점유하고 큐 한 칸을 채워 풀을 가득 찬 상태로 만든다.
+    private CountDownLatch saturate(ThreadPoolTaskExecutor executor) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        started.await(5, TimeUnit.SECONDS);
+        executor.execute(() -> await(release));
+        return release;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("작업의 대기 시간과 실행 시간을 풀 이름으로 기록")
+    void executor_recordsLatency() throws Exception {
+        // given
+        ThreadPoolTaskExecutor executor = start(asyncConfig.maintenanceExecutor());
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        executor.execute(done::countDown);
+        done.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(meterRegistry.get("executor.idle").tag("name", AsyncConfig.MAINTENANCE_EXECUTOR).timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("executor").tag("name", AsyncConfig.MAINTENANCE_EXECUTOR).timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("llm 풀이 가득 차면 거절 예외와 거절 횟수 기록")
+    void llmExecutor_abortWhenFull() throws Exception {
+        // given
+        ThreadPoolTaskExecutor executor = start(asyncConfig.llmExecutor());
+        CountDownLatch release = saturate(executor);
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> executor.execute(() -> { }))
+                    .isInstanceOf(TaskRejectedException.class);
+            assertThat(meterRegistry.get("executor.rejected").tag("name", AsyncConfig.LLM_EXECUTOR).counter().count())
+                    .isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("maintenance 풀이 가득 차면 호출 스레드에서 실행")
+    void maintenanceExecutor_callerRunsWhenFull() throws Exception {
+        // given
+        ThreadPoolTaskExecutor executor = start(asyncConfig.maintenanceExecutor());
+        CountDownLatch release = saturate(executor);
+        List<String> threads = new ArrayList<>();
+
+        // when
+        try {
+            executor.execute(() -> threads.add(Thread.currentThread().getName()));
+        } finally {
+            release.countDown();
+        }
+
+        // then
+        assertThat(threads).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 작업까지 마친 뒤 종료")
+    void shutdown_drainsQueuedTasks() throws Exception {
+        // given
+        ThreadPoolTaskExecutor executor = start(asyncConfig.maintenanceExecutor());
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger finished = new AtomicInteger();
+        executor.execute(() -> {
+            started.countDown();
+            sleep(200);
+        });
+        started.await(5, TimeUnit.SECONDS);
+        executor.execute(finished::incrementAndGet);
+
+        // when
+        executor.shutdown();
+
+        // then
+        assertThat(executor.getThreadPoolExecutor().isTerminated()).isTrue();
+        assertThat(finished).hasValue(1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.kjh.spacebook.common.email;
+
+import com.kjh.spacebook.common.service.EmailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxDispatcherTest {
+
+    @Mock EmailOutboxRepository emailOutboxRepository;
+    @Mock EmailService emailService;
+    @Mock SendGridClient sendGridClient;
+    @Mock TransactionTemplate transactionTemplate;
+
+    private EmailOutboxDispatcher dispatcher;
+
+    private final EmailMessage template = new EmailMessage("제목", "본문 -space-");
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new EmailOutboxDispatcher(
+                emailOutboxRepository,
+                emailService,
+                sendGridClient,
+                transactionTemplate,
+                new EmailOutboxProperties(Duration.ofSeconds(5), 50, 3, Duration.ofSeconds(30), Duration.ofMinutes(5),
+                        Duration.ofMinutes(5))
+        );
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doCallRealMethod().when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    // 결과를 남기는 트랜잭션에서 다시 읽는 행은 가져간 행과 같은 객체로 돌려준다.
+    private void givenOutboxes(EmailOutbox... outboxes) {
+        given(emailOutboxRepository.findDispatchable(any(), anyInt())).willReturn(List.of(outboxes));
+        lenient().when(emailOutboxRepository.findAllById(any())).thenReturn(List.of(outboxes));
+    }
+
+    private EmailOutbox outbox(Long id, EmailType type) {
+        EmailOutbox outbox = EmailOutbox.of(type, "user" + id + "@test.com", id, null);
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+
+    // SendGrid 스텁: failedEmail로 가는 메일만 실패로 응답한다.
+    private void givenSendGridFailsFor(String failedEmail) {
+        given(sendGridClient.send(any(), anyList())).willAnswer(invocation -> {
+            List<EmailRecipient> recipients = invocation.getArgument(1);
+            return recipients.stream()
+                    .map(recipient -> new EmailDelivery(
+                            recipient, recipient.email().equals(failedEmail) ? "503" : null))
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("같은 종류의 메일은 요청 하나로 묶어 발송 후 SENT로 변경")
+    void dispatchBatch_groupByType() {
+        // given
+        EmailOutbox first = outbox(1L, EmailType.RESERVATION_CONFIRM);
+        EmailOutbox second = outbox(2L, EmailType.RESERVATION_CONFIRM);
+        EmailOutbox cancel = outbox(3L, EmailType.RESERVATION_CANCEL);
+        givenOutboxes(first, cancel, second);
+        given(emailService.template(any())).willReturn(template);
+        given(emailService.substitutions(any())).willReturn(Map.of("-space-", "강남 스터디룸"));
+        givenSendGridFailsFor(null);
+
+        // when
+        int dispatched = dispatcher.dispatchBatch();
+
+        // then
+        assertThat(dispatched).isEqualTo(3);
+        then(sendGridClient).should(times(2)).send(eq(template), anyList());
+        then(sendGridClient).should().send(eq(template), argThat(recipients -> recipients.size() == 2));
+        assertThat(List.of(first, second, cancel))
+                .allSatisfy(outbox -> assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.SENT));
+    }
+
+    @Test
+    @DisplayName("실패한 수신자만 백오프 후 재시도하도록 대기")
+    void dispatchBatch_retryFailedRecipientOnly() {
+        // given
+        EmailOutbox sent = outbox(1L, EmailType.RESERVATION_CONFIRM);
+        EmailOutbox failed = outbox(2L, EmailType.RESERVATION_CONFIRM);
+        givenOutboxes(sent, failed);
+        given(emailService.template(any())).willReturn(template);
+        given(emailService.substitutions(any())).willReturn(Map.of("-space-", "강남 스터디룸"));
+        givenSendGridFailsFor("user2@test.com");
+
+        // when
+        dispatcher.dispatchBatch();
+
+        // then
+        assertThat(sent.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(failed.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).isEqualTo("503");
+        assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(20));
+    }
+
+    @Test
+    @DisplayName("예약 정보를 읽지 못한 메일은 발송하지 않고 실패 처리")
+    void dispatchBatch_substitutionFailure() {
+        // given
+        EmailOutbox outbox = outbox(1L, EmailType.RESERVATION_CONFIRM);
+        givenOutboxes(outbox);
+        given(emailService.substitutions(outbox)).willThrow(new IllegalStateException("예약을 찾을 수 없습니다: 1"));
+
+        // when
+        dispatcher.dispatchBatch();
+
+        // then
+        then(sendGridClient).shouldHaveNoInteractions();
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getLastError()).isEqualTo("예약을 찾을 수 없습니다: 1");
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 FAILED로 변경")
+    void dispatchBatch_failedAfterMaxAttempts() {
+        // given
+        EmailOutbox outbox = outbox(1L, EmailType.RESERVATION_CONFIRM);
+        givenOutboxes(outbox);
+        given(emailService.template(any())).willReturn(template);
+        given(emailService.substitutions(outbox)).willReturn(Map.of("-space-", "강남 스터디룸"));
+        givenSendGridFailsFor("user1@test.com");
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            dispatcher.dispatchBatch();
+        }
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        assertThat(outbox.getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("SENDING으로 가져간 트랜잭션을 끝낸 뒤 발송하고, 결과는 별도 트랜잭션으로 남김")
+    void dispatchBatch_sendOutsideTransaction() {
+        // given
+        EmailOutbox outbox = outbox(1L, EmailType.RESERVATION_CONFIRM);
+        givenOutboxes(outbox);
+        given(emailService.template(any())).willReturn(template);
+        given(emailService.substitutions(outbox)).willReturn(Map.of("-space-", "강남 스터디룸"));
+        List<EmailOutboxStatus> statusWhileSending = new ArrayList<>();
+        given(sendGridClient.send(any(), anyList())).willAnswer(invocation -> {
+            statusWhileSending.add(outbox.getStatus());
+            List<EmailRecipient> recipients = invocation.getArgument(1);
+            return recipients.stream().map(recipient -> new EmailDelivery(recipient, null)).toList();
+        });
+
+        // when
+        dispatcher.dispatchBatch();
+
+        // then
+        assertThat(statusWhileSending).containsExactly(EmailOutboxStatus.SENDING);
+        assertThat(outbox.getNextAttemptAt()).isAfter(LocalDateTime.now().plusMinutes(4));
+        assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        then(transactionTemplate).should(times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("백오프는 시도마다 두 배로 늘고 최대값을 넘지 않음")
+    void backoff() {
+        assertThat(dispatcher.backoff(0)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(dispatcher.backoff(2)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(dispatcher.backoff(10)).isEqualTo(Duration.ofMinutes(5));
+    }
+}
@@ -0,0 +1,115 @@
+package com.kjh.spacebook.common.email;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+
+class SendGridClientTest {
+
+    private static final String URL = "http://localhost:8025/v3/mail/send";
+
+    private MockRestServiceServer server;
+    private SendGridClient sendGridClient;
+
+    private final EmailMessage template = new EmailMessage("제목", "공간: -space-");
+
+    @BeforeEach
+    void setUp() {
+        MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
+        sendGridClient = new SendGridClient(
+                new RestTemplateBuilder(customizer),
+                new SendGridProperties("test-key", "noreply@spacebook.com", URL, 2,
+                        Duration.ofSeconds(1), Duration.ofSeconds(1))
+        );
+        server = customizer.getServer();
+    }
+
+    private EmailRecipient recipient(long id) {
+        return new EmailRecipient(id, "user" + id + "@test.com", Map.of("-space-", "공간" + id));
+    }
+
+    @Test
+    @DisplayName("수신자를 personalizations로 묶어 한 번에 발송")
+    void send_batched() {
+        // given
+        server.expect(once(), requestTo(URL))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header("Authorization", "Bearer test-key"))
+                .andExpect(jsonPath("$.personalizations.length()").value(2))
+                .andExpect(jsonPath("$.personalizations[0].to[0].email").value("user1@test.com"))
+                .andExpect(jsonPath("$.personalizations[1].substitutions['-space-']").value("공간2"))
+                .andExpect(jsonPath("$.personalizations[1].custom_args.outbox_id").value("2"))
+                .andExpect(jsonPath("$.content[0].value").value("공간: -space-"))
+                .andRespond(withStatus(HttpStatus.ACCEPTED));
+
+        // when
+        List<EmailDelivery> deliveries = sendGridClient.send(template, List.of(recipient(1), recipient(2)));
+
+        // then
+        server.verify();
+        assertThat(deliveries).hasSize(2).allMatch(EmailDelivery::isSent);
+    }
+
+    @Test
+    @DisplayName("최대 personalizations 수를 넘으면 요청을 나눠 발송")
+    void send_splitByLimit() {
+        // given
+        server.expect(once(), requestTo(URL))
+                .andExpect(jsonPath("$.personalizations.length()").value(2))
+                .andRespond(withStatus(HttpStatus.ACCEPTED));
+        server.expect(once(), requestTo(URL))
+                .andExpect(jsonPath("$.personalizations.length()").value(1))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        // when
+        List<EmailDelivery> deliveries = sendGridClient.send(
+                template, List.of(recipient(1), recipient(2), recipient(3)));
+
+        // then
+        server.verify();
+        assertThat(deliveries).extracting(delivery -> delivery.recipient().outboxId())
+                .containsExactly(1L, 2L, 3L);
+        assertThat(deliveries).extracting(EmailDelivery::isSent)
+                .containsExactly(true, true, false);
+    }
+
+    @Test
+    @DisplayName("묶음 요청이 거절되면 수신자별로 재발송해 실패한 수신자만 구분")
+    void send_badRequestFallback() {
+        // given
+        server.expect(once(), requestTo(URL))
+                .andExpect(jsonPath("$.personalizations.length()").value(2))
+                .andRespond(withStatus(HttpStatus.BAD_REQUEST));
+        server.expect(once(), requestTo(URL))
+                .andExpect(jsonPath("$.personalizations[0].to[0].email").value("user1@test.com"))
+                .andRespond(withStatus(HttpStatus.ACCEPTED));
+        server.expect(once(), requestTo(URL))
+                .andExpect(jsonPath("$.personalizations[0].to[0].email").value("user2@test.com"))
+                .andRespond(withStatus(HttpStatus.BAD_REQUEST));
+
+        // when
+        List<EmailDelivery> deliveries = sendGridClient.send(template, List.of(recipient(1), recipient(2)));
+
+        // then
+        server.verify();
+        assertThat(deliveries).extracting(EmailDelivery::isSent).containsExactly(true, false);
+        assertThat(deliveries.get(1).error()).contains("400");
+    }
+}
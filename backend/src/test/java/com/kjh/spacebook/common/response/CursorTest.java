@@ -0,0 +1,46 @@
+package com.kjh.spacebook.common.response;
+
+import com.kjh.spacebook.common.exception.BusinessException;
+import com.kjh.spacebook.common.exception.CommonErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 그대로 복원")
+    void decode_roundTrip() {
+        // given
+        Cursor cursor = new Cursor(LocalDateTime.of(2026, 3, 1, 10, 0, 0, 123_456_000), 42L);
+
+        // when
+        Cursor decoded = Cursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 모든 행보다 앞선 위치")
+    void decode_first() {
+        Cursor first = Cursor.decode(null);
+
+        assertThat(first.key()).isAfter(LocalDateTime.of(9000, 1, 1, 0, 0));
+        assertThat(first.id()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않으면 예외")
+    void decode_invalid() {
+        assertThatThrownBy(() -> Cursor.decode("not-a-cursor!"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(CommonErrorCode.INVALID_CURSOR.getMessage());
+        assertThatThrownBy(() -> Cursor.decode("bm8tc2VwYXJhdG9y"))
+                .isInstanceOf(BusinessException.class);
+    }
+}
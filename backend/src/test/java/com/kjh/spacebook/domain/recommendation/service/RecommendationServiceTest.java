@@ -1,22 +1,26 @@
 package com.kjh.spacebook.domain.recommendation.service;
 
-import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.common.exception.BusinessException;
+import com.kjh.spacebook.domain.recommendation.exception.RecommendationErrorCode;
+import com.kjh.spacebook.domain.space.dto.response.SpaceListResponse;
 import com.kjh.spacebook.domain.space.enums.SpaceType;
 import com.kjh.spacebook.domain.space.repository.SpaceRepository;
+import com.kjh.spacebook.domain.space.service.SpaceLocationIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +32,9 @@ class RecommendationServiceTest {
     @Mock
     private SpaceRepository spaceRepository;
 
+    @Mock
+    private SpaceLocationIndex spaceLocationIndex;
+
     @InjectMocks
     private RecommendationService recommendationService;
 
@@ -38,28 +45,44 @@ class RecommendationServiceTest {
         GroqService.SearchCondition condition =
                 new GroqService.SearchCondition("강남", 4, SpaceType.MEETING);
 
-        given(groqService.extractCondition("강남에서 회의"))
-                .willReturn(condition);
-        given(spaceRepository.searchByConditions("강남", 4, SpaceType.MEETING))
-                .willReturn(List.of(mock(Space.class)));
+        given(groqService.extractConditionAsync("강남에서 회의"))
+                .willReturn(CompletableFuture.completedFuture(condition));
+        given(spaceLocationIndex.search("강남")).willReturn(List.of(1L));
+        given(spaceRepository.searchByConditionsByIdIn(List.of(1L), 4, SpaceType.MEETING))
+                .willReturn(List.of(new SpaceListResponse(
+                        1L, "강남 회의실", SpaceType.MEETING, 6, "서울시 강남구", 20000, null)));
 
         // when
         var result = recommendationService.recommend("강남에서 회의");
 
         // then
         assertThat(result).hasSize(1);
-        verify(spaceRepository).searchByConditions("강남", 4, SpaceType.MEETING);
+        verify(spaceRepository).searchByConditionsByIdIn(List.of(1L), 4, SpaceType.MEETING);
     }
 
     @Test
     @DisplayName("GroqService 예외 발생 시 그대로 전파")
     void recommend_groqException() {
         // given
-        given(groqService.extractCondition(any()))
-                .willThrow(new RuntimeException("AI 실패"));
+        given(groqService.extractConditionAsync(any()))
+                .willReturn(CompletableFuture.failedFuture(new BusinessException(RecommendationErrorCode.AI_API_FAILED)));
+
+        // when & then
+        assertThatThrownBy(() -> recommendationService.recommend("테스트"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(RecommendationErrorCode.AI_API_FAILED.getMessage());
+    }
+
+    @Test
+    @DisplayName("AI 호출 풀이 가득 차면 AI_BUSY 예외")
+    void recommend_rejected() {
+        // given
+        given(groqService.extractConditionAsync(any()))
+                .willThrow(new TaskRejectedException("llmExecutor"));
 
         // when & then
         assertThatThrownBy(() -> recommendationService.recommend("테스트"))
-                .isInstanceOf(RuntimeException.class);
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(RecommendationErrorCode.AI_BUSY.getMessage());
     }
 }
@@ -0,0 +1,141 @@
+package com.kjh.spacebook.domain.reservation.archive;
+
+import com.kjh.spacebook.domain.reservation.entity.Reservation;
+import com.kjh.spacebook.domain.reservation.enums.ReservationStatus;
+import com.kjh.spacebook.domain.reservation.event.ReservationArchivedEvent;
+import com.kjh.spacebook.domain.reservation.repository.ArchivedReservationRepository;
+import com.kjh.spacebook.domain.reservation.repository.ReservationRepository;
+import com.kjh.spacebook.domain.reservation.repository.ReservationSlotRepository;
+import com.kjh.spacebook.domain.reservation.repository.WaitlistEntryRepository;
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationArchiverTest {
+
+    @Mock ReservationRepository reservationRepository;
+    @Mock ArchivedReservationRepository archivedReservationRepository;
+    @Mock ReservationSlotRepository reservationSlotRepository;
+    @Mock WaitlistEntryRepository waitlistEntryRepository;
+    @Mock TransactionTemplate transactionTemplate;
+    @Mock ApplicationEventPublisher eventPublisher;
+
+    private ReservationArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        archiver = new ReservationArchiver(
+                reservationRepository,
+                archivedReservationRepository,
+                reservationSlotRepository,
+                waitlistEntryRepository,
+                transactionTemplate,
+                eventPublisher,
+                new ArchiveProperties(Duration.ofDays(90), 2, "0 0 4 * * *")
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenTransactionRuns() {
+        willAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("마지막 id 이후로 이어서 묶음 단위로 보관")
+    void archive_keysetBatches() {
+        // given
+        givenTransactionRuns();
+        given(reservationRepository.findArchivableIds(eq(0L), any(), eq(ReservationStatus.HOLD), any()))
+                .willReturn(List.of(3L, 7L));
+        given(reservationRepository.findArchivableIds(eq(7L), any(), eq(ReservationStatus.HOLD), any()))
+                .willReturn(List.of(9L));
+
+        // when
+        archiver.archive();
+
+        // then
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        verify(archivedReservationRepository).copyFromReservations(eq(List.of(3L, 7L)), any());
+        verify(archivedReservationRepository).copyFromReservations(eq(List.of(9L)), any());
+        verify(reservationRepository, never()).findArchivableIds(eq(9L), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("보관할 예약이 없으면 트랜잭션을 열지 않음")
+    void archive_nothingToArchive() {
+        // given
+        given(reservationRepository.findArchivableIds(anyLong(), any(), any(), any())).willReturn(List.of());
+
+        // when
+        archiver.archive();
+
+        // then
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("보관 테이블에 복사한 뒤 슬롯과 대기 연결을 정리하고 원본 삭제")
+    void archiveBatch_copyThenDelete() {
+        // given
+        List<Long> ids = List.of(1L, 2L);
+
+        // when
+        archiver.archiveBatch(ids);
+
+        // then
+        InOrder inOrder = inOrder(
+                archivedReservationRepository, reservationSlotRepository, waitlistEntryRepository, reservationRepository);
+        inOrder.verify(archivedReservationRepository).copyFromReservations(eq(ids), any());
+        inOrder.verify(reservationSlotRepository).deleteAllByReservationIdIn(ids);
+        inOrder.verify(waitlistEntryRepository).detachReservations(ids);
+        inOrder.verify(reservationRepository).deleteAllByIdIn(ids);
+    }
+
+    @Test
+    @DisplayName("시간대를 점유하던 예약만 보관 이벤트 발행")
+    void archiveBatch_publishesArchivedEvents() {
+        // given
+        Space space = mock(Space.class);
+        given(space.getId()).willReturn(5L);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        Reservation confirmed = Reservation.of(mock(User.class), space, start, start.plusHours(2), 2, 20000, null);
+        Reservation cancelled = Reservation.of(mock(User.class), space, start, start.plusHours(1), 2, 10000, null);
+        cancelled.cancel();
+        given(reservationRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(confirmed, cancelled));
+
+        // when
+        archiver.archiveBatch(List.of(1L, 2L));
+
+        // then
+        verify(eventPublisher).publishEvent(new ReservationArchivedEvent(5L, start, start.plusHours(2)));
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,62 @@
+package com.kjh.spacebook.domain.reservation.hold;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HoldTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("만료 시각이 지난 임시 점유만 꺼냄")
+    void advance_expiredOnly() {
+        // given
+        HoldTimingWheel wheel = new HoldTimingWheel(Duration.ofSeconds(1), 8, START);
+        wheel.add(1L, 10L, START + 2_000);
+        wheel.add(2L, 10L, START + 5_000);
+
+        // when
+        List<HoldTimingWheel.Entry> expired = wheel.advance(START + 3_000);
+
+        // then
+        assertThat(expired).extracting(HoldTimingWheel.Entry::reservationId).containsExactly(1L);
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 먼 만료는 다음 바퀴에 꺼냄")
+    void advance_nextRound() {
+        // given
+        HoldTimingWheel wheel = new HoldTimingWheel(Duration.ofSeconds(1), 4, START);
+        wheel.add(1L, 10L, START + 6_000);
+
+        // when
+        List<HoldTimingWheel.Entry> firstRound = wheel.advance(START + 4_000);
+        List<HoldTimingWheel.Entry> secondRound = wheel.advance(START + 6_000);
+
+        // then
+        assertThat(firstRound).isEmpty();
+        assertThat(secondRound).extracting(HoldTimingWheel.Entry::reservationId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("오래 멈춘 뒤에도 밀린 만료를 한 번에 꺼냄")
+    void advance_afterLongPause() {
+        // given
+        HoldTimingWheel wheel = new HoldTimingWheel(Duration.ofSeconds(1), 4, START);
+        wheel.add(1L, 10L, START + 1_000);
+        wheel.add(2L, 20L, START + 3_000);
+
+        // when
+        List<HoldTimingWheel.Entry> expired = wheel.advance(START + 60_000);
+
+        // then
+        assertThat(expired).extracting(HoldTimingWheel.Entry::reservationId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(wheel.size()).isZero();
+    }
+}
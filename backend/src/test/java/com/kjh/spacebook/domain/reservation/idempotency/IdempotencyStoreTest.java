@@ -0,0 +1,151 @@
+package com.kjh.spacebook.domain.reservation.idempotency;
+
+import com.kjh.spacebook.common.exception.BusinessException;
+import com.kjh.spacebook.domain.reservation.entity.IdempotencyRecord;
+import com.kjh.spacebook.domain.reservation.enums.IdempotentOperation;
+import com.kjh.spacebook.domain.reservation.exception.ReservationErrorCode;
+import com.kjh.spacebook.domain.reservation.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+    private static final IdempotentOperation CREATE = IdempotentOperation.CREATE_RESERVATION;
+    private static final String HASH = IdempotencyStore.requestHash(1L, "2026-03-01T10:00", 2);
+
+    @Mock IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private IdempotencyStore idempotencyStore;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyStore = new IdempotencyStore(
+                idempotencyRecordRepository,
+                mock(PlatformTransactionManager.class),
+                new IdempotencyProperties(100, Duration.ofHours(24), Duration.ofMinutes(1))
+        );
+    }
+
+    @Test
+    @DisplayName("처음 보는 키는 claim을 남기고 null 반환")
+    void claim_firstRequest() {
+        // when
+        Long result = idempotencyStore.claim(1L, CREATE, "key-1", HASH);
+
+        // then
+        assertThat(result).isNull();
+        verify(idempotencyRecordRepository).saveAndFlush(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    @DisplayName("완료된 키는 캐시에서 결과를 반환하고 DB에 다시 쓰지 않음")
+    void claim_completedFromCache() {
+        // given
+        IdempotencyRecord record = mock(IdempotencyRecord.class);
+        given(record.getId()).willReturn(1L);
+        given(idempotencyRecordRepository.findByUserIdAndOperationAndIdempotencyKey(1L, CREATE, "key-1"))
+                .willReturn(Optional.of(record));
+        idempotencyStore.complete(1L, CREATE, "key-1", 10L);
+
+        // when
+        Long result = idempotencyStore.claim(1L, CREATE, "key-1", HASH);
+
+        // then
+        assertThat(result).isEqualTo(10L);
+        verify(idempotencyRecordRepository).complete(1L, 10L);
+        verify(idempotencyRecordRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 완료된 키는 DB에 기록된 결과를 반환")
+    void claim_completedInDatabase() {
+        // given
+        IdempotencyRecord record = mock(IdempotencyRecord.class);
+        given(record.isCompleted()).willReturn(true);
+        given(record.getReservationId()).willReturn(10L);
+        given(record.getRequestHash()).willReturn(HASH);
+        given(idempotencyRecordRepository.saveAndFlush(any()))
+                .willThrow(new DataIntegrityViolationException("Duplicate entry"));
+        given(idempotencyRecordRepository.findByUserIdAndOperationAndIdempotencyKey(1L, CREATE, "key-1"))
+                .willReturn(Optional.of(record));
+
+        // when
+        Long result = idempotencyStore.claim(1L, CREATE, "key-1", HASH);
+
+        // then
+        assertThat(result).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("같은 키가 처리 중이면 예외")
+    void claim_inProgress() {
+        // given
+        IdempotencyRecord record = mock(IdempotencyRecord.class);
+        given(record.getId()).willReturn(1L);
+        given(record.isCompleted()).willReturn(false);
+        given(idempotencyRecordRepository.saveAndFlush(any()))
+                .willThrow(new DataIntegrityViolationException("Duplicate entry"));
+        given(idempotencyRecordRepository.findByUserIdAndOperationAndIdempotencyKey(1L, CREATE, "key-1"))
+                .willReturn(Optional.of(record));
+        given(idempotencyRecordRepository.deleteStaleClaim(any(), any())).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyStore.claim(1L, CREATE, "key-1", HASH))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ReservationErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS.getMessage());
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 요청 본문에 쓰면 예외")
+    void claim_differentRequest() {
+        // given
+        IdempotencyRecord record = mock(IdempotencyRecord.class);
+        given(record.getRequestHash()).willReturn(HASH);
+        given(idempotencyRecordRepository.saveAndFlush(any()))
+                .willThrow(new DataIntegrityViolationException("Duplicate entry"));
+        given(idempotencyRecordRepository.findByUserIdAndOperationAndIdempotencyKey(1L, CREATE, "key-1"))
+                .willReturn(Optional.of(record));
+        String otherHash = IdempotencyStore.requestHash(1L, "2026-03-01T10:00", 3);
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyStore.claim(1L, CREATE, "key-1", otherHash))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ReservationErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage());
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 완료 키도 다른 요청 본문이면 예외")
+    void claim_differentRequestFromCache() {
+        // given
+        IdempotencyRecord record = mock(IdempotencyRecord.class);
+        given(record.getId()).willReturn(1L);
+        given(record.getRequestHash()).willReturn(HASH);
+        given(idempotencyRecordRepository.findByUserIdAndOperationAndIdempotencyKey(1L, CREATE, "key-1"))
+                .willReturn(Optional.of(record));
+        idempotencyStore.complete(1L, CREATE, "key-1", 10L);
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyStore.claim(1L, CREATE, "key-1", "other"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ReservationErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage());
+        verify(idempotencyRecordRepository, never()).saveAndFlush(any());
+    }
+}
@@ -0,0 +1,73 @@
+package com.kjh.spacebook.domain.reservation.lock;
+
+import com.kjh.spacebook.common.exception.BusinessException;
+import com.kjh.spacebook.domain.reservation.exception.ReservationErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedBookingLockManagerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StripedBookingLockManager lockManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lockManager = new StripedBookingLockManager(
+                new BookingLockProperties("striped", 16, Duration.ofMillis(100)),
+                meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("락 획득 후 작업 결과 반환")
+    void executeWithLock_success() {
+        // when
+        String result = lockManager.executeWithLock(1L, () -> "ok");
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(meterRegistry.timer("booking.lock.wait").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 공간의 락을 다른 스레드가 점유 중이면 시간 초과 예외")
+    void executeWithLock_timeout() throws Exception {
+        // given
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> lockManager.executeWithLock(1L, () -> {
+            locked.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        locked.await(5, TimeUnit.SECONDS);
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> lockManager.executeWithLock(1L, () -> "ok"))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining(ReservationErrorCode.RESERVATION_LOCK_TIMEOUT.getMessage());
+            assertThat(meterRegistry.counter("booking.lock.timeouts").count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.kjh.spacebook.domain.reservation.service;
+
+import com.kjh.spacebook.domain.reservation.entity.AvailabilityStamp;
+import com.kjh.spacebook.domain.reservation.entity.Reservation;
+import com.kjh.spacebook.domain.reservation.repository.AvailabilityStampRepository;
+import com.kjh.spacebook.domain.reservation.repository.ReservationRepository;
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityIndexTest {
+
+    @Mock ReservationRepository reservationRepository;
+    @Mock AvailabilityStampRepository availabilityStampRepository;
+
+    private AvailabilityIndex availabilityIndex;
+
+    private final LocalDate date = LocalDate.of(2026, 3, 1);
+
+    @BeforeEach
+    void setUp() {
+        availabilityIndex = new AvailabilityIndex(reservationRepository, availabilityStampRepository);
+        availabilityIndex.load(date);
+    }
+
+    @Test
+    @DisplayName("겹치지 않는 시간대는 점유 성공")
+    void tryReserve_success() {
+        // when
+        boolean first = availabilityIndex.tryReserve(1L, date.atTime(10, 0), date.atTime(12, 0));
+        boolean second = availabilityIndex.tryReserve(1L, date.atTime(12, 0), date.atTime(13, 0));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(availabilityIndex.getReservedMask(1L, date)).isEqualTo(0b1_1100_0000_0000);
+    }
+
+    @Test
+    @DisplayName("겹치는 시간대는 점유 실패")
+    void tryReserve_conflict() {
+        // given
+        availabilityIndex.tryReserve(1L, date.atTime(10, 0), date.atTime(12, 0));
+
+        // when
+        boolean result = availabilityIndex.tryReserve(1L, date.atTime(11, 0), date.atTime(13, 0));
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(availabilityIndex.tryReserve(2L, date.atTime(11, 0), date.atTime(13, 0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("자정을 넘기는 예약은 다음 날까지 점유")
+    void tryReserve_overMidnight() {
+        // given
+        LocalDateTime start = date.atTime(22, 0);
+        LocalDateTime end = date.plusDays(1).atTime(2, 0);
+
+        // when
+        availabilityIndex.tryReserve(1L, start, end);
+
+        // then
+        assertThat(availabilityIndex.getReservedMask(1L, date)).isEqualTo(0b1100 << 20);
+        assertThat(availabilityIndex.getReservedMask(1L, date.plusDays(1))).isEqualTo(0b11);
+        assertThat(availabilityIndex.tryReserve(1L, date.plusDays(1).atTime(1, 0), date.plusDays(1).atTime(3, 0)))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("해제 후 같은 시간대 재점유 가능")
+    void release_success() {
+        // given
+        availabilityIndex.tryReserve(1L, date.atTime(10, 0), date.atTime(12, 0));
+
+        // when
+        availabilityIndex.release(1L, date.atTime(10, 0), date.atTime(12, 0));
+
+        // then
+        assertThat(availabilityIndex.getReservedMask(1L, date)).isZero();
+        assertThat(availabilityIndex.tryReserve(1L, date.atTime(10, 0), date.atTime(12, 0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("지난 날짜는 인덱스 범위에서 제외")
+    void evictBefore_success() {
+        // given
+        availabilityIndex.tryReserve(1L, date.atTime(10, 0), date.atTime(12, 0));
+
+        // when
+        availabilityIndex.evictBefore(date.plusDays(1));
+
+        // then
+        assertThat(availabilityIndex.covers(date)).isFalse();
+        assertThat(availabilityIndex.covers(date.plusDays(1))).isTrue();
+        assertThat(availabilityIndex.getReservedMask(1L, date)).isZero();
+    }
+
+    private AvailabilityStamp stamp(LocalDate date, long version) {
+        AvailabilityStamp stamp = mock(AvailabilityStamp.class);
+        given(stamp.getDate()).willReturn(date);
+        given(stamp.getVersion()).willReturn(version);
+        return stamp;
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 바뀐 날짜는 DB에서 다시 읽음")
+    void sync_reloadsChangedDate() {
+        // given
+        availabilityIndex.tryReserve(1L, date.atTime(10, 0), date.atTime(12, 0));
+        Reservation other = Reservation.of(
+                mock(User.class), mock(Space.class), date.atTime(14, 0), date.atTime(15, 0), 2, 10000, null);
+        AvailabilityStamp stamp = stamp(date, 3);
+        given(availabilityStampRepository.findAllBySpaceIdAndDateBetween(1L, date, date.plusDays(1)))
+                .willReturn(List.of(stamp));
+        given(reservationRepository.findReservedTimes(
+                1L, AvailabilityIndex.OCCUPYING_STATUSES, date.atStartOfDay(), date.plusDays(1).atStartOfDay()))
+                .willReturn(List.of(other));
+
+        // when
+        availabilityIndex.sync(1L, date, date.plusDays(1));
+
+        // then
+        assertThat(availabilityIndex.getReservedMask(1L, date)).isEqualTo(1 << 14);
+        assertThat(availabilityIndex.tryReserve(1L, date.atTime(10, 0), date.atTime(12, 0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("DB 버전이 같으면 다시 읽지 않음")
+    void sync_unchanged() {
+        // given
+        availabilityIndex.tryReserve(1L, date.atTime(10, 0), date.atTime(12, 0));
+
+        // when
+        availabilityIndex.sync(1L, date, date);
+
+        // then
+        assertThat(availabilityIndex.getReservedMask(1L, date)).isEqualTo(0b1100_0000_0000);
+        verify(reservationRepository, never()).findReservedTimes(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("인덱스에 남은 점유가 DB에서 취소되었으면 다시 읽은 뒤 점유 성공")
+    void tryReserve_staleConflict() {
+        // given
+        availabilityIndex.tryReserve(1L, date.atTime(10, 0), date.atTime(12, 0));
+        AvailabilityStamp stamp = stamp(date, 2);
+        given(availabilityStampRepository.findAllBySpaceIdAndDateBetween(1L, date, date))
+                .willReturn(List.of(stamp));
+        given(reservationRepository.findReservedTimes(
+                1L, AvailabilityIndex.OCCUPYING_STATUSES, date.atStartOfDay(), date.plusDays(1).atStartOfDay()))
+                .willReturn(List.of());
+
+        // when
+        boolean result = availabilityIndex.tryReserve(1L, date.atTime(11, 0), date.atTime(13, 0));
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(availabilityIndex.getReservedMask(1L, date)).isEqualTo(0b1_1000_0000_0000);
+    }
+
+    @Test
+    @DisplayName("커밋 전인 점유는 DB에서 다시 읽어도 유지")
+    void sync_keepsUncommittedClaim() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            availabilityIndex.tryReserve(1L, date.atTime(10, 0), date.atTime(12, 0));
+            AvailabilityStamp stamp = stamp(date, 2);
+            given(availabilityStampRepository.findAllBySpaceIdAndDateBetween(1L, date, date))
+                    .willReturn(List.of(stamp));
+            given(reservationRepository.findReservedTimes(
+                    1L, AvailabilityIndex.OCCUPYING_STATUSES, date.atStartOfDay(), date.plusDays(1).atStartOfDay()))
+                    .willReturn(List.of());
+
+            // when
+            availabilityIndex.sync(1L, date, date);
+
+            // then
+            assertThat(availabilityIndex.getReservedMask(1L, date)).isEqualTo(0b1100_0000_0000);
+            assertThat(availabilityIndex.tryReserve(1L, date.atTime(11, 0), date.atTime(13, 0))).isFalse();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.kjh.spacebook.domain.reservation.service;
+
+import com.kjh.spacebook.domain.reservation.repository.AvailabilityStampRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityVersionsTest {
+
+    @Mock AvailabilityStampRepository availabilityStampRepository;
+
+    private AvailabilityVersions availabilityVersions;
+
+    private final LocalDate date = LocalDate.of(2026, 3, 1);
+
+    @BeforeEach
+    void setUp() {
+        availabilityVersions = new AvailabilityVersions(availabilityStampRepository);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.unbindResourceIfPossible(availabilityVersions);
+    }
+
+    @Test
+    @DisplayName("버전 행이 없는 날짜는 0")
+    void version_noStamp() {
+        // given
+        given(availabilityStampRepository.findVersion(1L, date)).willReturn(Optional.empty());
+
+        // when & then
+        assertThat(availabilityVersions.version(1L, date)).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("예약이 걸친 날짜만 커밋 직전에 (공간, 날짜) 순서로 한 번씩 올림")
+    void stamp_beforeCommitInOrder() {
+        // given
+        availabilityVersions.stamp(2L, date.atTime(10, 0), date.atTime(12, 0));
+        availabilityVersions.stamp(1L, date.atTime(22, 0), date.plusDays(1).atStartOfDay());
+        availabilityVersions.stamp(1L, date.atTime(9, 0), date.atTime(10, 0));
+        verify(availabilityStampRepository, never()).increment(any(), any());
+
+        // when
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+        // then
+        InOrder order = inOrder(availabilityStampRepository);
+        order.verify(availabilityStampRepository).increment(1L, date);
+        order.verify(availabilityStampRepository).increment(2L, date);
+        verify(availabilityStampRepository, times(2)).increment(any(), any());
+    }
+
+    @Test
+    @DisplayName("이용 시간대 버전은 자정에 끝나면 그 전날까지의 합")
+    void windowVersion_endsAtMidnight() {
+        // given
+        given(availabilityStampRepository.sumVersions(date, date)).willReturn(7L);
+
+        // when
+        String version = availabilityVersions.windowVersion(
+                date.atTime(22, 0), date.plusDays(1).atStartOfDay());
+
+        // then
+        assertThat(version).isEqualTo("7");
+    }
+}
@@ -0,0 +1,259 @@
+package com.kjh.spacebook.domain.reservation.service;
+
+import com.kjh.spacebook.common.email.EmailType;
+import com.kjh.spacebook.common.exception.BusinessException;
+import com.kjh.spacebook.common.service.EmailService;
+import com.kjh.spacebook.domain.reservation.entity.Reservation;
+import com.kjh.spacebook.domain.reservation.entity.WaitlistEntry;
+import com.kjh.spacebook.domain.reservation.enums.WaitlistStatus;
+import com.kjh.spacebook.domain.reservation.exception.ReservationErrorCode;
+import com.kjh.spacebook.domain.reservation.lock.BookingLockManager;
+import com.kjh.spacebook.domain.reservation.repository.ReservationRepository;
+import com.kjh.spacebook.domain.reservation.repository.ReservationSlotRepository;
+import com.kjh.spacebook.domain.reservation.repository.WaitlistEntryRepository;
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookingCoordinatorTest {
+
+    @Mock ReservationRepository reservationRepository;
+    @Mock ReservationSlotRepository reservationSlotRepository;
+    @Mock WaitlistEntryRepository waitlistEntryRepository;
+    @Mock AvailabilityIndex availabilityIndex;
+    @Mock BookingLockManager bookingLockManager;
+    @Mock TransactionTemplate transactionTemplate;
+    @Mock EmailService emailService;
+    @Mock ApplicationEventPublisher eventPublisher;
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private BookingCoordinator bookingCoordinator;
+
+    private final Space space = mock(Space.class);
+    private final LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+
+    @BeforeEach
+    void setUp() {
+        bookingCoordinator = new BookingCoordinator(
+                reservationRepository,
+                reservationSlotRepository,
+                waitlistEntryRepository,
+                availabilityIndex,
+                bookingLockManager,
+                transactionTemplate,
+                emailService,
+                eventPublisher,
+                new BookingBatchProperties(50, 1, 100, Duration.ofSeconds(1)),
+                tasks::add
+        );
+        given(space.getId()).willReturn(1L);
+    }
+
+    private void givenLockAndTransaction() {
+        given(bookingLockManager.executeWithLock(eq(1L), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private BookingCommand command(LocalDateTime startTime, LocalDateTime endTime) {
+        return new BookingCommand(mock(User.class), space, startTime, endTime, 2, 20000, "미팅");
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 공간의 요청은 한 번의 트랜잭션으로 묶여 저장")
+    void book_batched() {
+        // given
+        givenLockAndTransaction();
+        given(availabilityIndex.tryReserve(eq(1L), any(), any())).willReturn(true);
+
+        CompletableFuture<Reservation> first =
+                bookingCoordinator.enqueue(command(start, start.plusHours(2))).result();
+        CompletableFuture<Reservation> second =
+                bookingCoordinator.enqueue(command(start.plusHours(2), start.plusHours(3))).result();
+
+        // when
+        runTasks();
+
+        // then
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(reservationRepository).saveAll(anyList());
+        verify(reservationSlotRepository).saveAllAndFlush(anyList());
+        verify(emailService, times(2)).enqueue(eq(EmailType.RESERVATION_CONFIRM), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("배치 안에서 충돌한 요청만 실패")
+    void book_conflictInBatch() {
+        // given
+        givenLockAndTransaction();
+        given(availabilityIndex.tryReserve(1L, start, start.plusHours(2))).willReturn(true);
+        given(availabilityIndex.tryReserve(1L, start.plusHours(1), start.plusHours(3))).willReturn(false);
+
+        CompletableFuture<Reservation> first =
+                bookingCoordinator.enqueue(command(start, start.plusHours(2))).result();
+        CompletableFuture<Reservation> second =
+                bookingCoordinator.enqueue(command(start.plusHours(1), start.plusHours(3))).result();
+
+        // when
+        runTasks();
+
+        // then
+        assertThat(first).isCompleted();
+        assertThat(second).isCompletedExceptionally();
+        assertThatThrownBy(second::join)
+                .hasCauseInstanceOf(BusinessException.class)
+                .hasMessageContaining(ReservationErrorCode.RESERVATION_TIME_CONFLICT.getMessage());
+    }
+
+    @Test
+    @DisplayName("슬롯 유니크 제약 위반 시 건별로 재시도")
+    void book_slotConflictRetriedIndividually() {
+        // given
+        givenLockAndTransaction();
+        given(availabilityIndex.tryReserve(eq(1L), any(), any())).willReturn(true);
+        given(reservationSlotRepository.saveAllAndFlush(anyList()))
+                .willThrow(new DataIntegrityViolationException("Duplicate entry"))
+                .willReturn(List.of())
+                .willThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+        CompletableFuture<Reservation> first =
+                bookingCoordinator.enqueue(command(start, start.plusHours(1))).result();
+        CompletableFuture<Reservation> second =
+                bookingCoordinator.enqueue(command(start.plusHours(1), start.plusHours(2))).result();
+
+        // when
+        runTasks();
+
+        // then
+        assertThat(first).isCompleted();
+        assertThat(second).isCompletedExceptionally();
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    @Test
+    @DisplayName("함께 예약 시 하나라도 겹치면 전체 실패")
+    void bookTogether_conflict() {
+        // given
+        givenLockAndTransaction();
+        given(availabilityIndex.tryReserve(1L, start, start.plusHours(2))).willReturn(true);
+        given(availabilityIndex.tryReserve(1L, start.plusWeeks(1), start.plusWeeks(1).plusHours(2))).willReturn(false);
+
+        List<BookingCommand> commands = List.of(
+                command(start, start.plusHours(2)),
+                command(start.plusWeeks(1), start.plusWeeks(1).plusHours(2))
+        );
+
+        // when & then
+        assertThatThrownBy(() -> bookingCoordinator.bookTogether(1L, commands))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ReservationErrorCode.RESERVATION_TIME_CONFLICT.getMessage());
+        verify(reservationRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("대기 예약 전환은 예약 저장과 같은 트랜잭션에서 대기를 전환 처리")
+    void book_promotesWaitlistEntry() {
+        // given
+        givenLockAndTransaction();
+        WaitlistEntry entry = WaitlistEntry.of(mock(User.class), space, start, start.plusHours(1), 2, "미팅");
+        given(waitlistEntryRepository.findByIdAndStatusForUpdate(10L, WaitlistStatus.WAITING))
+                .willReturn(Optional.of(entry));
+        given(availabilityIndex.tryReserve(1L, start, start.plusHours(1))).willReturn(true);
+
+        CompletableFuture<Reservation> result =
+                bookingCoordinator.enqueue(command(start, start.plusHours(1)).forWaitlist(10L)).result();
+
+        // when
+        runTasks();
+
+        // then
+        assertThat(result).isCompleted();
+        assertThat(entry.getStatus()).isEqualTo(WaitlistStatus.PROMOTED);
+        assertThat(entry.getReservation()).isSameAs(result.join());
+    }
+
+    @Test
+    @DisplayName("이미 전환된 대기는 다시 예약하지 않음")
+    void book_waitlistEntryAlreadyPromoted() {
+        // given
+        givenLockAndTransaction();
+        given(waitlistEntryRepository.findByIdAndStatusForUpdate(10L, WaitlistStatus.WAITING))
+                .willReturn(Optional.empty());
+
+        CompletableFuture<Reservation> result =
+                bookingCoordinator.enqueue(command(start, start.plusHours(1)).forWaitlist(10L)).result();
+
+        // when
+        runTasks();
+
+        // then
+        assertThatThrownBy(result::join)
+                .hasCauseInstanceOf(BusinessException.class)
+                .hasMessageContaining(ReservationErrorCode.WAITLIST_ALREADY_PROCESSED.getMessage());
+        verify(availabilityIndex, never()).tryReserve(any(), any(), any());
+        verify(reservationRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("예약 저장이 실패하면 대기도 전환되지 않음")
+    void book_saveFailureKeepsWaitlistEntryWaiting() {
+        // given
+        givenLockAndTransaction();
+        WaitlistEntry entry = WaitlistEntry.of(mock(User.class), space, start, start.plusHours(1), 2, "미팅");
+        given(waitlistEntryRepository.findByIdAndStatusForUpdate(10L, WaitlistStatus.WAITING))
+                .willReturn(Optional.of(entry));
+        given(availabilityIndex.tryReserve(1L, start, start.plusHours(1))).willReturn(true);
+        given(reservationSlotRepository.saveAllAndFlush(anyList()))
+                .willThrow(new IllegalStateException("connection lost"));
+
+        CompletableFuture<Reservation> result =
+                bookingCoordinator.enqueue(command(start, start.plusHours(1)).forWaitlist(10L)).result();
+
+        // when
+        runTasks();
+
+        // then
+        assertThat(result).isCompletedExceptionally();
+        assertThat(entry.getStatus()).isEqualTo(WaitlistStatus.WAITING);
+        assertThat(entry.getReservation()).isNull();
+    }
+}
@@ -1,12 +1,38 @@
 package com.kjh.spacebook.domain.reservation.service;
 
+import com.kjh.spacebook.common.email.EmailType;
 import com.kjh.spacebook.common.exception.BusinessException;
+import com.kjh.spacebook.common.response.Cursor;
+import com.kjh.spacebook.common.response.CursorResponse;
+import com.kjh.spacebook.common.service.EmailService;
+import com.kjh.spacebook.domain.reservation.dto.request.BulkReservationRequest;
 import com.kjh.spacebook.domain.reservation.dto.request.CreateReservationRequest;
+import com.kjh.spacebook.domain.reservation.dto.request.CreateReservationSeriesRequest;
+import com.kjh.spacebook.domain.reservation.dto.response.AvailabilityCalendarResponse;
+import com.kjh.spacebook.domain.reservation.dto.response.BulkReservationResponse;
+import com.kjh.spacebook.domain.reservation.dto.response.ReservationListResponse;
+import com.kjh.spacebook.domain.reservation.dto.response.ReservationResponse;
+import com.kjh.spacebook.domain.reservation.dto.response.ReservationSeriesResponse;
+import com.kjh.spacebook.domain.reservation.entity.ArchivedReservation;
 import com.kjh.spacebook.domain.reservation.entity.Reservation;
+import com.kjh.spacebook.domain.reservation.entity.ReservationSeries;
+import com.kjh.spacebook.domain.reservation.enums.RecurrenceType;
 import com.kjh.spacebook.domain.reservation.enums.ReservationStatus;
+import com.kjh.spacebook.domain.reservation.exception.ReservationErrorCode;
+import com.kjh.spacebook.domain.reservation.enums.IdempotentOperation;
+import com.kjh.spacebook.domain.reservation.event.ReservationBookedEvent;
+import com.kjh.spacebook.domain.reservation.hold.ReservationHoldReaper;
+import com.kjh.spacebook.domain.reservation.idempotency.IdempotencyStore;
+import com.kjh.spacebook.domain.reservation.repository.ArchivedReservationRepository;
 import com.kjh.spacebook.domain.reservation.repository.ReservationRepository;
+import com.kjh.spacebook.domain.reservation.repository.ReservationSeriesRepository;
+import com.kjh.spacebook.domain.reservation.repository.ReservationSlotRepository;
+import com.kjh.spacebook.domain.reservation.repository.ReservationSummary;
+import com.kjh.spacebook.domain.reservation.repository.WaitlistEntryRepository;
 import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.reservation.service.BookingCoordinator.BookingResult;
 import com.kjh.spacebook.domain.space.enums.SpaceStatus;
+import com.kjh.spacebook.domain.space.exception.SpaceErrorCode;
 import com.kjh.spacebook.domain.space.repository.SpaceRepository;
 import com.kjh.spacebook.domain.user.entity.User;
 import com.kjh.spacebook.domain.user.repository.UserRepository;
@@ -16,24 +42,46 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class ReservationServiceTest {
 
     @Mock ReservationRepository reservationRepository;
+    @Mock ReservationSlotRepository reservationSlotRepository;
+    @Mock ArchivedReservationRepository archivedReservationRepository;
+    @Mock ReservationSeriesRepository reservationSeriesRepository;
+    @Mock WaitlistEntryRepository waitlistEntryRepository;
     @Mock SpaceRepository spaceRepository;
     @Mock UserRepository userRepository;
+    @Mock EmailService emailService;
+    @Mock AvailabilityIndex availabilityIndex;
+    @Mock AvailabilityVersions availabilityVersions;
+    @Mock BookingCoordinator bookingCoordinator;
+    @Mock ReservationHoldReaper reservationHoldReaper;
+    @Mock ApplicationEventPublisher eventPublisher;
+    @Mock IdempotencyStore idempotencyStore;
 
     @InjectMocks ReservationService reservationService;
 
@@ -89,7 +137,7 @@ class ReservationServiceTest {
         Space space = mock(Space.class);
 
         given(userRepository.findById(1L)).willReturn(Optional.of(user));
-        given(spaceRepository.findByIdForReservation(1L, SpaceStatus.OPEN))
+        given(spaceRepository.findOpenById(1L))
                 .willReturn(Optional.of(space));
         given(space.getCapacity()).willReturn(4);
 
@@ -112,12 +160,11 @@ class ReservationServiceTest {
         Space space = mock(Space.class);
 
         given(userRepository.findById(1L)).willReturn(Optional.of(user));
-        given(spaceRepository.findByIdForReservation(1L, SpaceStatus.OPEN))
+        given(spaceRepository.findOpenById(1L))
                 .willReturn(Optional.of(space));
         given(space.getCapacity()).willReturn(10);
-        given(reservationRepository.existsOverlapping(
-                any(), eq(ReservationStatus.CONFIRMED), any(), any()
-        )).willReturn(true);
+        given(bookingCoordinator.book(any(BookingCommand.class)))
+                .willThrow(new BusinessException(ReservationErrorCode.RESERVATION_TIME_CONFLICT));
 
         // when & then
         assertThatThrownBy(() -> reservationService.createReservation(1L, request))
@@ -138,18 +185,491 @@ class ReservationServiceTest {
         Space space = mock(Space.class);
 
         given(userRepository.findById(1L)).willReturn(Optional.of(user));
-        given(spaceRepository.findByIdForReservation(1L, SpaceStatus.OPEN))
+        given(spaceRepository.findOpenById(1L))
                 .willReturn(Optional.of(space));
         given(space.getCapacity()).willReturn(10);
         given(space.getPricePerHour()).willReturn(10000);
-        given(reservationRepository.existsOverlapping(
-                any(), eq(ReservationStatus.CONFIRMED), any(), any()
-        )).willReturn(false);
+        given(bookingCoordinator.book(any(BookingCommand.class)))
+                .willAnswer(invocation -> invocation.<BookingCommand>getArgument(0).toReservation());
 
         // when
         reservationService.createReservation(1L, request);
 
         // then
-        verify(reservationRepository).save(any(Reservation.class));
+        verify(bookingCoordinator).book(argThat(command ->
+                command.confirmation() == EmailType.RESERVATION_CONFIRM));
+    }
+
+    @Test
+    @DisplayName("일괄 예약 - 실패한 건만 건별 오류로 반환")
+    void createReservations_partialSuccess() {
+        // given
+        LocalDateTime start = futureHour(2);
+        LocalDateTime end = futureHour(4);
+
+        BulkReservationRequest request = new BulkReservationRequest(List.of(
+                new CreateReservationRequest(1L, start, end, 2, "미팅"),
+                new CreateReservationRequest(1L, end, start, 2, "미팅"),
+                new CreateReservationRequest(2L, start, end, 2, "미팅"),
+                new CreateReservationRequest(1L, start, end, 2, "미팅")
+        ));
+
+        User user = mock(User.class);
+        Space space = mock(Space.class);
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(space.getId()).willReturn(1L);
+        given(space.getCapacity()).willReturn(10);
+        given(space.getPricePerHour()).willReturn(10000);
+        given(spaceRepository.findAllByIdInAndDeletedAtIsNullAndSpaceStatus(any(), eq(SpaceStatus.OPEN)))
+                .willReturn(List.of(space));
+        given(bookingCoordinator.bookAll(anyList())).willAnswer(invocation -> {
+            List<BookingCommand> commands = invocation.getArgument(0);
+            return List.of(
+                    new BookingResult(commands.get(0).toReservation(), null),
+                    new BookingResult(null, new BusinessException(ReservationErrorCode.RESERVATION_TIME_CONFLICT))
+            );
+        });
+
+        // when
+        BulkReservationResponse response = reservationService.createReservations(1L, request);
+
+        // then
+        assertThat(response.successCount()).isEqualTo(1);
+        assertThat(response.failureCount()).isEqualTo(3);
+        assertThat(response.results().get(0).success()).isTrue();
+        assertThat(response.results().get(1).message())
+                .isEqualTo(ReservationErrorCode.RESERVATION_INVALID_TIME.getMessage());
+        assertThat(response.results().get(2).message())
+                .isEqualTo(SpaceErrorCode.SPACE_NOT_FOUND.getMessage());
+        assertThat(response.results().get(3).message())
+                .isEqualTo(ReservationErrorCode.RESERVATION_TIME_CONFLICT.getMessage());
+    }
+
+    @Test
+    @DisplayName("반복 예약 - 주기에 맞춰 모든 일정을 한 번에 예약")
+    void createReservationSeries_success() {
+        // given
+        LocalDateTime start = futureHour(2);
+        LocalDateTime end = futureHour(4);
+
+        CreateReservationSeriesRequest request = new CreateReservationSeriesRequest(
+                1L, start, end, RecurrenceType.WEEKLY, 3, 2, "스터디"
+        );
+
+        User user = mock(User.class);
+        Space space = mock(Space.class);
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(spaceRepository.findOpenById(1L))
+                .willReturn(Optional.of(space));
+        given(space.getId()).willReturn(1L);
+        given(space.getCapacity()).willReturn(10);
+        given(space.getPricePerHour()).willReturn(10000);
+        given(bookingCoordinator.bookTogether(eq(1L), anyList())).willAnswer(invocation ->
+                invocation.<List<BookingCommand>>getArgument(1).stream()
+                        .map(BookingCommand::toReservation)
+                        .toList());
+
+        // when
+        ReservationSeriesResponse response = reservationService.createReservationSeries(1L, request);
+
+        // then
+        assertThat(response.reservations()).hasSize(3);
+        assertThat(response.reservations().get(2).startTime()).isEqualTo(start.plusWeeks(2));
+        assertThat(response.reservations().get(2).endTime()).isEqualTo(end.plusWeeks(2));
+        verify(bookingCoordinator).bookTogether(eq(1L), argThat(commands ->
+                commands.get(0).confirmation() == EmailType.RESERVATION_SERIES_CONFIRM
+                        && commands.stream().skip(1).allMatch(command -> command.confirmation() == null)));
+    }
+
+    @Test
+    @DisplayName("반복 예약 취소 - 취소 기한 내 일정을 일괄 취소")
+    void cancelReservationSeries_success() {
+        // given
+        User user = mock(User.class);
+        Space space = mock(Space.class);
+        ReservationSeries series = ReservationSeries.of(
+                user, space, RecurrenceType.DAILY, futureHour(48), futureHour(50), 2
+        );
+        Reservation first = mock(Reservation.class);
+        Reservation second = mock(Reservation.class);
+
+        given(user.getId()).willReturn(1L);
+        given(space.getId()).willReturn(1L);
+        given(first.getId()).willReturn(10L);
+        given(second.getId()).willReturn(11L);
+        given(reservationSeriesRepository.findById(anyLong())).willReturn(Optional.of(series));
+        given(reservationRepository.findAllBySeriesAndStatusAndStartTimeAfter(eq(series), eq(ReservationStatus.CONFIRMED), any()))
+                .willReturn(List.of(first, second));
+
+        // when
+        int cancelledCount = reservationService.cancelReservationSeries(1L, 1L);
+
+        // then
+        assertThat(cancelledCount).isEqualTo(2);
+        assertThat(series.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        verify(reservationSlotRepository).deleteAllByReservationIdIn(List.of(10L, 11L));
+        verify(reservationRepository).updateStatusByIdIn(eq(List.of(10L, 11L)), eq(ReservationStatus.CANCELLED), any());
+    }
+
+    @Test
+    @DisplayName("임시 예약 - 만료 시각을 정해 점유하고 만료 대상으로 등록")
+    void createHold_success() {
+        // given
+        LocalDateTime start = futureHour(2);
+        LocalDateTime end = futureHour(4);
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(5);
+
+        CreateReservationRequest request =
+                new CreateReservationRequest(1L, start, end, 2, "미팅");
+
+        User user = mock(User.class);
+        Space space = mock(Space.class);
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(spaceRepository.findOpenById(1L))
+                .willReturn(Optional.of(space));
+        given(space.getCapacity()).willReturn(10);
+        given(space.getPricePerHour()).willReturn(10000);
+        given(reservationHoldReaper.expiresAt(any())).willReturn(expiresAt);
+        given(bookingCoordinator.book(any(BookingCommand.class)))
+                .willAnswer(invocation -> invocation.<BookingCommand>getArgument(0).toReservation());
+
+        // when
+        reservationService.createHold(1L, request);
+
+        // then
+        verify(reservationHoldReaper).register(argThat(reservation ->
+                reservation.getStatus() == ReservationStatus.HOLD
+                        && reservation.getHoldExpiresAt().equals(expiresAt)));
+        verify(emailService, never()).sendReservationConfirm(any(), any());
+    }
+
+    @Test
+    @DisplayName("임시 예약 확정 - 만료되었으면 예외")
+    void confirmHold_expired() {
+        // given
+        User user = mock(User.class);
+        Reservation hold = Reservation.hold(
+                user, mock(Space.class), futureHour(2), futureHour(4), 2, 20000, "미팅",
+                LocalDateTime.now().minusSeconds(1)
+        );
+
+        given(user.getId()).willReturn(1L);
+        given(reservationRepository.findByIdForUpdate(1L)).willReturn(Optional.of(hold));
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.confirmHold(1L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ReservationErrorCode.RESERVATION_HOLD_EXPIRED.getMessage());
+    }
+
+    @Test
+    @DisplayName("임시 예약 확정 - 만료 처리로 취소되었으면 만료 예외")
+    void confirmHold_reaped() {
+        // given
+        User user = mock(User.class);
+        Reservation hold = Reservation.hold(
+                user, mock(Space.class), futureHour(2), futureHour(4), 2, 20000, "미팅",
+                LocalDateTime.now().minusSeconds(1)
+        );
+        hold.cancel();
+
+        given(user.getId()).willReturn(1L);
+        given(reservationRepository.findByIdForUpdate(1L)).willReturn(Optional.of(hold));
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.confirmHold(1L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ReservationErrorCode.RESERVATION_HOLD_EXPIRED.getMessage());
+    }
+
+    @Test
+    @DisplayName("임시 예약 확정 - 만료 전에 취소되었으면 취소 예외")
+    void confirmHold_cancelledBeforeExpiry() {
+        // given
+        User user = mock(User.class);
+        Reservation hold = Reservation.hold(
+                user, mock(Space.class), futureHour(2), futureHour(4), 2, 20000, "미팅",
+                LocalDateTime.now().plusMinutes(5)
+        );
+        hold.cancel();
+
+        given(user.getId()).willReturn(1L);
+        given(reservationRepository.findByIdForUpdate(1L)).willReturn(Optional.of(hold));
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.confirmHold(1L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ReservationErrorCode.RESERVATION_ALREADY_CANCELLED.getMessage());
+    }
+
+    @Test
+    @DisplayName("임시 예약 확정 성공")
+    void confirmHold_success() {
+        // given
+        User user = mock(User.class);
+        Space space = mock(Space.class);
+        Reservation hold = Reservation.hold(
+                user, space, futureHour(2), futureHour(4), 2, 20000, "미팅",
+                LocalDateTime.now().plusMinutes(5)
+        );
+
+        given(user.getId()).willReturn(1L);
+        given(reservationRepository.findByIdForUpdate(1L)).willReturn(Optional.of(hold));
+
+        // when
+        reservationService.confirmHold(1L, 1L);
+
+        // then
+        assertThat(hold.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(hold.getHoldExpiresAt()).isNull();
+        verify(eventPublisher).publishEvent(any(ReservationBookedEvent.class));
+        verify(emailService).sendReservationConfirm(any(), eq(hold));
+    }
+
+    @Test
+    @DisplayName("예약 대기 - 바로 예약 가능한 시간대면 예외")
+    void joinWaitlist_available() {
+        // given
+        LocalDateTime start = futureHour(2);
+        LocalDateTime end = futureHour(4);
+
+        CreateReservationRequest request =
+                new CreateReservationRequest(1L, start, end, 2, "미팅");
+
+        User user = mock(User.class);
+        Space space = mock(Space.class);
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(spaceRepository.findOpenById(1L))
+                .willReturn(Optional.of(space));
+        given(space.getId()).willReturn(1L);
+        given(space.getCapacity()).willReturn(10);
+        given(availabilityIndex.isAvailable(1L, start, end)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.joinWaitlist(1L, request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ReservationErrorCode.WAITLIST_NOT_NEEDED.getMessage());
+        verify(availabilityIndex).sync(1L, start.toLocalDate(), AvailabilityVersions.lastDate(end));
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 재시도하면 예약을 다시 처리하지 않고 이전 결과 반환")
+    void createReservation_idempotentRetry() {
+        // given
+        CreateReservationRequest request =
+                new CreateReservationRequest(1L, futureHour(2), futureHour(4), 2, "미팅");
+
+        User user = mock(User.class);
+        Reservation reservation = Reservation.of(
+                user, mock(Space.class), request.startTime(), request.endTime(), 2, 20000, "미팅"
+        );
+
+        given(idempotencyStore.claim(eq(1L), eq(IdempotentOperation.CREATE_RESERVATION), eq("key-1"), anyString())).willReturn(10L);
+        given(reservationRepository.findWithSpaceById(10L)).willReturn(Optional.of(reservation));
+
+        // when
+        reservationService.createReservation(1L, request, "key-1");
+
+        // then
+        verify(bookingCoordinator, never()).book(any());
+        verify(emailService, never()).sendReservationConfirm(any(), any());
+    }
+
+    @Test
+    @DisplayName("예약 처리에 실패하면 Idempotency-Key를 해제")
+    void createReservation_idempotentFailureReleasesKey() {
+        // given
+        CreateReservationRequest request =
+                new CreateReservationRequest(1L, futureHour(2), futureHour(4), 2, "미팅");
+
+        given(idempotencyStore.claim(eq(1L), eq(IdempotentOperation.CREATE_RESERVATION), eq("key-1"), anyString())).willReturn(null);
+        given(userRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.createReservation(1L, request, "key-1"))
+                .isInstanceOf(BusinessException.class);
+        verify(idempotencyStore).release(1L, IdempotentOperation.CREATE_RESERVATION, "key-1");
+    }
+
+    @Test
+    @DisplayName("내 예약 목록은 보관된 예약까지 합쳐 조회")
+    void getMyReservations_includingArchive() {
+        // given
+        ReservationSummary summary = mock(ReservationSummary.class);
+        given(summary.getId()).willReturn(3L);
+        given(summary.getStatus()).willReturn(ReservationStatus.CONFIRMED);
+        given(userRepository.existsById(1L)).willReturn(true);
+        given(reservationRepository.findSummariesIncludingArchive(1L, 1, 0L)).willReturn(List.of(summary));
+        given(reservationRepository.countIncludingArchive(1L)).willReturn(3L);
+
+        // when
+        Page<ReservationListResponse> result = reservationService.getMyReservations(1L, PageRequest.of(0, 1));
+
+        // then
+        assertThat(result.getContent()).extracting(ReservationListResponse::id).containsExactly(3L);
+        assertThat(result.getTotalElements()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("내 예약 커서 조회 - size보다 하나 더 읽어 다음 커서를 만든다")
+    void scrollMyReservations_nextCursor() {
+        // given
+        LocalDateTime startTime = LocalDateTime.of(2026, 3, 1, 10, 0);
+        ReservationSummary first = mock(ReservationSummary.class);
+        ReservationSummary second = mock(ReservationSummary.class);
+        ReservationSummary extra = mock(ReservationSummary.class);
+        given(first.getId()).willReturn(5L);
+        given(second.getId()).willReturn(4L);
+        given(second.getStartTime()).willReturn(startTime);
+        given(userRepository.existsById(1L)).willReturn(true);
+        given(reservationRepository.scrollSummariesIncludingArchive(eq(1L), any(), eq(Long.MAX_VALUE), eq(3)))
+                .willReturn(List.of(first, second, extra));
+
+        // when
+        CursorResponse<ReservationListResponse> result = reservationService.scrollMyReservations(1L, null, 2);
+
+        // then
+        assertThat(result.content()).extracting(ReservationListResponse::id).containsExactly(5L, 4L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(Cursor.decode(result.nextCursor())).isEqualTo(new Cursor(startTime, 4L));
+    }
+
+    @Test
+    @DisplayName("기간별 예약 현황은 인덱스의 날짜별 마스크로 응답")
+    void getAvailability_fromIndex() {
+        // given
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        given(spaceRepository.findOpenById(1L)).willReturn(Optional.of(mock(Space.class)));
+        given(availabilityIndex.covers(any())).willReturn(true);
+        given(availabilityIndex.getReservedMask(1L, from)).willReturn(0b1100);
+        given(availabilityIndex.getReservedMask(1L, from.plusDays(1))).willReturn(0);
+        given(availabilityIndex.getReservedMask(1L, from.plusDays(2))).willReturn(0b1);
+
+        // when
+        AvailabilityCalendarResponse result = reservationService.getAvailability(1L, from, from.plusDays(2));
+
+        // then
+        assertThat(result.reservedMasks()).containsExactly(0b1100, 0, 0b1);
+        verify(reservationRepository, never()).findReservedTimes(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("인덱스 범위 이전 날짜는 한 번의 범위 조회로 채움")
+    void getAvailability_pastDaysFromRangeQuery() {
+        // given
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        LocalDate horizon = from.plusDays(2);
+        given(spaceRepository.findOpenById(1L)).willReturn(Optional.of(mock(Space.class)));
+        given(availabilityIndex.covers(any())).willAnswer(invocation ->
+                !invocation.<LocalDate>getArgument(0).isBefore(horizon));
+        Reservation overMidnight = Reservation.of(
+                mock(User.class), mock(Space.class),
+                from.atTime(22, 0), from.plusDays(1).atTime(2, 0),
+                2, 40000, null
+        );
+        given(reservationRepository.findReservedTimes(
+                1L, AvailabilityIndex.OCCUPYING_STATUSES, from.atStartOfDay(), horizon.atStartOfDay()
+        )).willReturn(List.of(overMidnight));
+        given(availabilityIndex.getReservedMask(1L, horizon)).willReturn(0b10);
+
+        // when
+        AvailabilityCalendarResponse result = reservationService.getAvailability(1L, from, horizon);
+
+        // then
+        assertThat(result.reservedMasks()).containsExactly(0b11 << 22, 0b11, 0b10);
+    }
+
+    @Test
+    @DisplayName("없는 공간의 예약 현황을 조회하면 예외")
+    void getAvailability_spaceNotFound() {
+        // given
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        given(spaceRepository.findOpenById(99L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.getAvailability(99L, from, from.plusDays(2)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(SpaceErrorCode.SPACE_NOT_FOUND.getMessage());
+        verify(availabilityIndex, never()).getReservedMask(any(), any());
+    }
+
+    @Test
+    @DisplayName("종료일이 시작일보다 앞서거나 기간이 너무 길면 예외")
+    void getAvailability_invalidRange() {
+        LocalDate from = LocalDate.of(2026, 3, 1);
+
+        assertThatThrownBy(() -> reservationService.getAvailability(1L, from, from.minusDays(1)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ReservationErrorCode.AVAILABILITY_INVALID_RANGE.getMessage());
+        assertThatThrownBy(() -> reservationService.getAvailability(1L, from, from.plusDays(62)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ReservationErrorCode.AVAILABILITY_INVALID_RANGE.getMessage());
+    }
+
+    private ArchivedReservation archivedReservation(Long userId) {
+        User user = mock(User.class);
+        given(user.getId()).willReturn(userId);
+        ArchivedReservation archived = mock(ArchivedReservation.class);
+        given(archived.getUser()).willReturn(user);
+        return archived;
+    }
+
+    @Test
+    @DisplayName("보관된 예약 상세는 보관 테이블에서 조회 전용으로 반환")
+    void getMyReservationDetail_archived() {
+        // given
+        ArchivedReservation archived = archivedReservation(1L);
+        Space space = mock(Space.class);
+        given(space.getId()).willReturn(3L);
+        given(space.getSpaceName()).willReturn("강남 스터디룸 A");
+        given(archived.getId()).willReturn(10L);
+        given(archived.getStatus()).willReturn(ReservationStatus.CONFIRMED);
+        given(archived.getSpace()).willReturn(space);
+
+        given(reservationRepository.findWithSpaceById(10L)).willReturn(Optional.empty());
+        given(archivedReservationRepository.findWithSpaceById(10L)).willReturn(Optional.of(archived));
+
+        // when
+        ReservationResponse response = reservationService.getMyReservationDetail(1L, 10L);
+
+        // then
+        assertThat(response.id()).isEqualTo(10L);
+        assertThat(response.spaceName()).isEqualTo("강남 스터디룸 A");
+        assertThat(response.status()).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(response.archived()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 보관된 예약 상세 조회 시 예외")
+    void getMyReservationDetail_archivedNotOwner() {
+        // given
+        ArchivedReservation archived = archivedReservation(2L);
+        given(reservationRepository.findWithSpaceById(10L)).willReturn(Optional.empty());
+        given(archivedReservationRepository.findWithSpaceById(10L)).willReturn(Optional.of(archived));
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.getMyReservationDetail(1L, 10L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ReservationErrorCode.RESERVATION_NOT_OWNER.getMessage());
+    }
+
+    @Test
+    @DisplayName("보관된 예약 취소 시 취소 기한 초과 예외")
+    void cancelReservation_archived() {
+        // given
+        ArchivedReservation archived = archivedReservation(1L);
+        given(archived.getStatus()).willReturn(ReservationStatus.CONFIRMED);
+        given(reservationRepository.findByIdForUpdate(10L)).willReturn(Optional.empty());
+        given(archivedReservationRepository.findById(10L)).willReturn(Optional.of(archived));
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.cancelReservation(1L, 10L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ReservationErrorCode.RESERVATION_CANCEL_TOO_LATE.getMessage());
+        verify(reservationSlotRepository, never()).deleteAllByReservation(any());
     }
 }
@@ -0,0 +1,99 @@
+package com.kjh.spacebook.domain.reservation.service;
+
+import com.kjh.spacebook.common.email.EmailType;
+import com.kjh.spacebook.common.exception.BusinessException;
+import com.kjh.spacebook.domain.reservation.entity.WaitlistEntry;
+import com.kjh.spacebook.domain.reservation.enums.WaitlistStatus;
+import com.kjh.spacebook.domain.reservation.exception.ReservationErrorCode;
+import com.kjh.spacebook.domain.reservation.repository.WaitlistEntryRepository;
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.space.enums.SpaceStatus;
+import com.kjh.spacebook.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WaitlistPromoterTest {
+
+    @Mock WaitlistEntryRepository waitlistEntryRepository;
+    @Mock AvailabilityIndex availabilityIndex;
+    @Mock BookingCoordinator bookingCoordinator;
+
+    @InjectMocks WaitlistPromoter waitlistPromoter;
+
+    private final Space space = mock(Space.class);
+    private final LocalDateTime start = LocalDateTime.now().plusDays(2).truncatedTo(ChronoUnit.HOURS);
+
+    @BeforeEach
+    void setUp() {
+        given(space.getSpaceStatus()).willReturn(SpaceStatus.OPEN);
+    }
+
+    private WaitlistEntry entry(LocalDateTime startTime, LocalDateTime endTime) {
+        return WaitlistEntry.of(mock(User.class), space, startTime, endTime, 2, "미팅");
+    }
+
+    @Test
+    @DisplayName("비워진 시간대에 들어가는 대기를 선착순으로 예약 전환")
+    void promote_firstComeFirstServed() {
+        // given
+        WaitlistEntry first = entry(start, start.plusHours(2));
+        WaitlistEntry second = entry(start.plusHours(1), start.plusHours(2));
+        ReflectionTestUtils.setField(first, "id", 10L);
+
+        given(waitlistEntryRepository.findCandidates(eq(1L), eq(WaitlistStatus.WAITING), any(), eq(start), eq(start.plusHours(2))))
+                .willReturn(List.of(first, second));
+        given(availabilityIndex.isAvailable(1L, start, start.plusHours(2))).willReturn(true);
+        given(availabilityIndex.isAvailable(1L, start.plusHours(1), start.plusHours(2))).willReturn(false);
+        given(bookingCoordinator.book(any(BookingCommand.class)))
+                .willAnswer(invocation -> invocation.<BookingCommand>getArgument(0).toReservation());
+
+        // when
+        waitlistPromoter.promote(1L, start, start.plusHours(2));
+
+        // then
+        verify(bookingCoordinator).book(argThat(command -> command.startTime().equals(start)
+                && command.confirmation() == EmailType.WAITLIST_PROMOTED
+                && command.waitlistEntryId().equals(10L)));
+        verify(waitlistEntryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("예약 전환 중 충돌하면 대기 유지")
+    void promote_conflictKeepsWaiting() {
+        // given
+        WaitlistEntry waiting = entry(start, start.plusHours(1));
+
+        given(waitlistEntryRepository.findCandidates(eq(1L), eq(WaitlistStatus.WAITING), any(), eq(start), eq(start.plusHours(1))))
+                .willReturn(List.of(waiting));
+        given(availabilityIndex.isAvailable(1L, start, start.plusHours(1))).willReturn(true);
+        given(bookingCoordinator.book(any(BookingCommand.class)))
+                .willThrow(new BusinessException(ReservationErrorCode.RESERVATION_TIME_CONFLICT));
+
+        // when
+        waitlistPromoter.promote(1L, start, start.plusHours(1));
+
+        // then
+        assertThat(waiting.getStatus()).isEqualTo(WaitlistStatus.WAITING);
+        verify(waitlistEntryRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,134 @@
+package com.kjh.spacebook.domain.space.service;
+
+import com.kjh.spacebook.domain.space.dto.response.SpaceFacetResponse;
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.space.enums.SpaceStatus;
+import com.kjh.spacebook.domain.space.enums.SpaceType;
+import com.kjh.spacebook.domain.space.repository.SpaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class SpaceFacetIndexTest {
+
+    @Mock SpaceRepository spaceRepository;
+
+    private SpaceFacetIndex spaceFacetIndex;
+
+    @BeforeEach
+    void setUp() {
+        spaceFacetIndex = new SpaceFacetIndex(spaceRepository);
+        List<Space> spaces = List.of(
+                space(1L, SpaceType.STUDY, 9000, "서울시 강남구 역삼동"),
+                space(2L, SpaceType.STUDY, 15000, "서울시 강남구 삼성동"),
+                space(3L, SpaceType.MEETING, 25000, "서울시 마포구"),
+                space(4L, SpaceType.PARTY, 60000, "서울시 강남구"),
+                space(5L, SpaceType.MEETING, 15000, "부산시 해운대구 우동")
+        );
+        given(spaceRepository.findAllByDeletedAtIsNullAndSpaceStatus(SpaceStatus.OPEN)).willReturn(spaces);
+        spaceFacetIndex.load();
+    }
+
+    private Space space(Long id, SpaceType spaceType, int pricePerHour, String location) {
+        Space space = mock(Space.class);
+        lenient().when(space.getId()).thenReturn(id);
+        lenient().when(space.getSpaceType()).thenReturn(spaceType);
+        lenient().when(space.getPricePerHour()).thenReturn(pricePerHour);
+        lenient().when(space.getLocation()).thenReturn(location);
+        lenient().when(space.getSpaceStatus()).thenReturn(SpaceStatus.OPEN);
+        return space;
+    }
+
+    private int typeCount(SpaceFacetResponse response, SpaceType spaceType) {
+        return response.spaceTypes().stream()
+                .filter(count -> count.spaceType() == spaceType)
+                .findFirst()
+                .orElseThrow()
+                .count();
+    }
+
+    @Test
+    @DisplayName("조건 없이 유형 · 가격 구간 · 위치별 개수")
+    void count_noConditions() {
+        // when
+        SpaceFacetResponse response = spaceFacetIndex.count(null, null, null, null, null);
+
+        // then
+        assertThat(response.total()).isEqualTo(5);
+        assertThat(typeCount(response, SpaceType.STUDY)).isEqualTo(2);
+        assertThat(typeCount(response, SpaceType.MEETING)).isEqualTo(2);
+        assertThat(response.priceRanges())
+                .extracting(SpaceFacetResponse.PriceRangeCount::count)
+                .containsExactly(1, 2, 1, 0, 1);
+        assertThat(response.priceRanges().get(1).minPrice()).isEqualTo(10000);
+        assertThat(response.priceRanges().get(1).maxPrice()).isEqualTo(19999);
+        assertThat(response.priceRanges().get(4).maxPrice()).isNull();
+        assertThat(response.locations()).containsExactly(
+                new SpaceFacetResponse.LocationCount("서울시 강남구", 3),
+                new SpaceFacetResponse.LocationCount("부산시 해운대구", 1),
+                new SpaceFacetResponse.LocationCount("서울시 마포구", 1)
+        );
+    }
+
+    @Test
+    @DisplayName("각 항목은 자기 조건만 빼고 센다")
+    void count_excludesOwnCondition() {
+        // when
+        SpaceFacetResponse response = spaceFacetIndex.count(SpaceType.STUDY, 10000, 30000, null, null);
+
+        // then
+        assertThat(response.total()).isEqualTo(1);
+        // 유형 개수에는 가격 조건만 적용된다.
+        assertThat(typeCount(response, SpaceType.STUDY)).isEqualTo(1);
+        assertThat(typeCount(response, SpaceType.MEETING)).isEqualTo(2);
+        // 가격 구간 개수에는 유형 조건만 적용된다.
+        assertThat(response.priceRanges())
+                .extracting(SpaceFacetResponse.PriceRangeCount::count)
+                .containsExactly(1, 1, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("위치 · 이용 가능 시간 조건 적용")
+    void count_locationAndAvailability() {
+        // when
+        SpaceFacetResponse response = spaceFacetIndex.count(
+                null, null, null, List.of(1L, 2L, 4L), spaceId -> spaceId != 2L);
+
+        // then
+        assertThat(response.total()).isEqualTo(2);
+        assertThat(typeCount(response, SpaceType.STUDY)).isEqualTo(1);
+        assertThat(typeCount(response, SpaceType.PARTY)).isEqualTo(1);
+        // 위치 개수에는 이용 가능 시간 조건만 적용된다.
+        assertThat(response.locations()).extracting(SpaceFacetResponse.LocationCount::count)
+                .containsExactly(2, 1, 1);
+    }
+
+    @Test
+    @DisplayName("닫힌 공간은 변경 반영 후 개수에서 빠진다")
+    void changed_closedSpaceRemoved() {
+        // given
+        Space closed = space(3L, SpaceType.MEETING, 25000, "서울시 마포구");
+        given(closed.getSpaceStatus()).willReturn(SpaceStatus.CLOSED);
+
+        // when
+        spaceFacetIndex.changed(closed);
+
+        // then
+        SpaceFacetResponse response = spaceFacetIndex.count(null, null, null, null, null);
+        assertThat(response.total()).isEqualTo(4);
+        assertThat(typeCount(response, SpaceType.MEETING)).isEqualTo(1);
+        assertThat(response.locations()).extracting(SpaceFacetResponse.LocationCount::location)
+                .doesNotContain("서울시 마포구");
+    }
+}
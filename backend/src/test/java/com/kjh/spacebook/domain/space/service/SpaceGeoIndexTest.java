@@ -0,0 +1,104 @@
+package com.kjh.spacebook.domain.space.service;
+
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.space.enums.SpaceStatus;
+import com.kjh.spacebook.domain.space.enums.SpaceType;
+import com.kjh.spacebook.domain.space.repository.SpaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class SpaceGeoIndexTest {
+
+    // 강남역
+    private static final double LATITUDE = 37.4979;
+    private static final double LONGITUDE = 127.0276;
+
+    @Mock SpaceRepository spaceRepository;
+
+    private SpaceGeoIndex spaceGeoIndex;
+
+    @BeforeEach
+    void setUp() {
+        spaceGeoIndex = new SpaceGeoIndex(spaceRepository);
+        List<Space> spaces = List.of(
+                space(1L, 37.5045, 127.0249, SpaceType.STUDY, 10000),   // 신논현 (약 800m)
+                space(2L, 37.4985, 127.0280, SpaceType.MEETING, 30000), // 바로 옆 (약 80m)
+                space(3L, 37.5133, 127.1001, SpaceType.STUDY, 15000),   // 잠실 (약 6.6km)
+                space(4L, 37.4946, 127.0276, SpaceType.STUDY, 20000),   // 남쪽 (약 370m)
+                space(5L, null, null, SpaceType.STUDY, 10000)           // 좌표 없음
+        );
+        given(spaceRepository.findAllByDeletedAtIsNullAndSpaceStatus(SpaceStatus.OPEN)).willReturn(spaces);
+        spaceGeoIndex.load();
+    }
+
+    private Space space(Long id, Double latitude, Double longitude, SpaceType spaceType, int pricePerHour) {
+        Space space = mock(Space.class);
+        lenient().when(space.getId()).thenReturn(id);
+        lenient().when(space.getLatitude()).thenReturn(latitude);
+        lenient().when(space.getLongitude()).thenReturn(longitude);
+        lenient().when(space.hasCoordinates()).thenReturn(latitude != null && longitude != null);
+        lenient().when(space.getSpaceType()).thenReturn(spaceType);
+        lenient().when(space.getPricePerHour()).thenReturn(pricePerHour);
+        lenient().when(space.getSpaceStatus()).thenReturn(SpaceStatus.OPEN);
+        return space;
+    }
+
+    private List<Long> ids(List<SpaceGeoIndex.Nearby> nearby) {
+        return nearby.stream().map(SpaceGeoIndex.Nearby::spaceId).toList();
+    }
+
+    @Test
+    @DisplayName("반경 안의 공간을 가까운 순으로 반환")
+    void nearest_orderedByDistance() {
+        // when
+        List<SpaceGeoIndex.Nearby> result = spaceGeoIndex.nearest(LATITUDE, LONGITUDE, 1000, null, null, null, 10);
+
+        // then
+        assertThat(ids(result)).containsExactly(2L, 4L, 1L);
+        assertThat(result.get(0).distanceMeters()).isCloseTo(80, within(10.0));
+    }
+
+    @Test
+    @DisplayName("상위 K개만 반환")
+    void nearest_topK() {
+        assertThat(ids(spaceGeoIndex.nearest(LATITUDE, LONGITUDE, 10000, null, null, null, 2)))
+                .containsExactly(2L, 4L);
+    }
+
+    @Test
+    @DisplayName("유형 · 가격 필터를 함께 적용")
+    void nearest_withFilters() {
+        assertThat(ids(spaceGeoIndex.nearest(LATITUDE, LONGITUDE, 10000, SpaceType.STUDY, 12000, null, 10)))
+                .containsExactly(4L, 3L);
+    }
+
+    @Test
+    @DisplayName("좌표 수정과 비공개 전환이 색인에 반영")
+    void changed_movesSpace() {
+        // given
+        Space moved = space(3L, 37.4980, 127.0277, SpaceType.STUDY, 15000);
+        Space closed = space(2L, 37.4985, 127.0280, SpaceType.MEETING, 30000);
+        given(closed.getSpaceStatus()).willReturn(SpaceStatus.CLOSED);
+
+        // when
+        spaceGeoIndex.changed(moved);
+        spaceGeoIndex.changed(closed);
+
+        // then
+        assertThat(ids(spaceGeoIndex.nearest(LATITUDE, LONGITUDE, 1000, null, null, null, 10)))
+                .containsExactly(3L, 4L, 1L);
+    }
+}
@@ -0,0 +1,77 @@
+package com.kjh.spacebook.domain.space.service;
+
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.space.enums.SpaceStatus;
+import com.kjh.spacebook.domain.space.repository.SpaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class SpaceLocationIndexTest {
+
+    @Mock SpaceRepository spaceRepository;
+
+    private SpaceLocationIndex spaceLocationIndex;
+
+    @BeforeEach
+    void setUp() {
+        spaceLocationIndex = new SpaceLocationIndex(spaceRepository);
+        List<Space> spaces = List.of(
+                space(1L, "서울시 강남구 역삼동", SpaceStatus.OPEN),
+                space(2L, "서울시 강서구", SpaceStatus.OPEN),
+                space(3L, "Gangnam Station", SpaceStatus.OPEN)
+        );
+        given(spaceRepository.findAllByDeletedAtIsNullAndSpaceStatus(SpaceStatus.OPEN)).willReturn(spaces);
+        spaceLocationIndex.load();
+    }
+
+    private Space space(Long id, String location, SpaceStatus status) {
+        Space space = mock(Space.class);
+        lenient().when(space.getId()).thenReturn(id);
+        lenient().when(space.getLocation()).thenReturn(location);
+        lenient().when(space.getSpaceStatus()).thenReturn(status);
+        return space;
+    }
+
+    @Test
+    @DisplayName("부분 문자열 검색은 LIKE '%검색어%'와 같은 결과")
+    void search_substring() {
+        assertThat(spaceLocationIndex.search("강남")).containsExactly(1L);
+        assertThat(spaceLocationIndex.search("서울시 강")).containsExactly(1L, 2L);
+        assertThat(spaceLocationIndex.search("강")).containsExactly(1L, 2L);
+        assertThat(spaceLocationIndex.search("gangnam")).containsExactly(3L);
+        assertThat(spaceLocationIndex.search("부산")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("n-gram이 모두 있어도 이어져 있지 않으면 제외")
+    void search_excludesNonContiguousGrams() {
+        // "강남구 역삼동"에는 "구 ", " 역"이 모두 있지만 "구 역삼"만 이어져 있다.
+        assertThat(spaceLocationIndex.search("남구 역")).containsExactly(1L);
+        assertThat(spaceLocationIndex.search("강서구 역")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("위치 수정과 비공개 전환이 색인에 반영")
+    void changed_reindexes() {
+        // when
+        spaceLocationIndex.changed(space(1L, "부산시 해운대구", SpaceStatus.OPEN));
+        spaceLocationIndex.changed(space(2L, "서울시 강서구", SpaceStatus.CLOSED));
+
+        // then
+        assertThat(spaceLocationIndex.search("강남")).isEmpty();
+        assertThat(spaceLocationIndex.search("해운대")).containsExactly(1L);
+        assertThat(spaceLocationIndex.search("서울")).isEmpty();
+    }
+}
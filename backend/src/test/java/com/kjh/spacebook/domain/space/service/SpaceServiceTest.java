@@ -1,31 +1,51 @@
 package com.kjh.spacebook.domain.space.service;
 
 import com.kjh.spacebook.common.exception.BusinessException;
+import com.kjh.spacebook.common.response.Cursor;
+import com.kjh.spacebook.common.response.CursorResponse;
+import com.kjh.spacebook.common.response.Versioned;
+import com.kjh.spacebook.domain.reservation.enums.ReservationStatus;
+import com.kjh.spacebook.domain.reservation.repository.ReservationRepository;
+import com.kjh.spacebook.domain.reservation.service.AvailabilityIndex;
+import com.kjh.spacebook.domain.reservation.service.AvailabilityVersions;
 import com.kjh.spacebook.domain.space.dto.request.CreateSpaceRequest;
 import com.kjh.spacebook.domain.space.dto.request.UpdateSpaceRequest;
+import com.kjh.spacebook.domain.space.dto.response.NearbySpaceResponse;
+import com.kjh.spacebook.domain.space.dto.response.SpaceFacetResponse;
+import com.kjh.spacebook.domain.space.dto.response.SpaceListResponse;
 import com.kjh.spacebook.domain.space.dto.response.SpaceResponse;
 import com.kjh.spacebook.domain.space.entity.Space;
 import com.kjh.spacebook.domain.space.enums.SpaceStatus;
 import com.kjh.spacebook.domain.space.enums.SpaceType;
 import com.kjh.spacebook.domain.space.exception.SpaceErrorCode;
 import com.kjh.spacebook.domain.space.repository.SpaceRepository;
+import com.kjh.spacebook.domain.space.repository.SpaceScrollRow;
 import com.kjh.spacebook.domain.user.entity.User;
 import com.kjh.spacebook.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.LongPredicate;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +53,13 @@ class SpaceServiceTest {
 
     @Mock SpaceRepository spaceRepository;
     @Mock UserRepository userRepository;
+    @Mock SpaceVersions spaceVersions;
+    @Mock SpaceLocationIndex spaceLocationIndex;
+    @Mock SpaceGeoIndex spaceGeoIndex;
+    @Mock SpaceFacetIndex spaceFacetIndex;
+    @Mock AvailabilityVersions availabilityVersions;
+    @Mock AvailabilityIndex availabilityIndex;
+    @Mock ReservationRepository reservationRepository;
 
     @InjectMocks SpaceService spaceService;
 
@@ -45,7 +72,7 @@ class SpaceServiceTest {
 
         CreateSpaceRequest request = new CreateSpaceRequest(
                 "강남 스터디룸", "설명", "img",
-                SpaceType.STUDY, 10000, "강남", 4
+                SpaceType.STUDY, 10000, "강남", 4, 37.4979, 127.0276
         );
 
         // when
@@ -64,7 +91,7 @@ class SpaceServiceTest {
                 .willReturn(Optional.empty());
 
         UpdateSpaceRequest request = new UpdateSpaceRequest(
-                "수정", null, null, null, null, null, null, null
+                "수정", null, null, null, null, null, null, null, null, null
         );
 
         // when & then
@@ -78,11 +105,66 @@ class SpaceServiceTest {
     void getSpaces_invalidPriceRange() {
         // when & then
         assertThatThrownBy(() ->
-                spaceService.getSpaces(null, null, 50000, 10000, PageRequest.of(0, 10))
+                spaceService.getSpaces(null, null, 50000, 10000, null, null, PageRequest.of(0, 10))
         ).isInstanceOf(BusinessException.class)
          .hasMessageContaining(SpaceErrorCode.INVALID_PRICE_RANGE.getMessage());
     }
 
+    @Test
+    @DisplayName("이용 가능 시간 조회 - 종료 시간 없이 시작 시간만 주면 예외")
+    void getSpaces_startWithoutEnd() {
+        // when & then
+        assertThatThrownBy(() -> spaceService.getSpaces(
+                null, null, null, null, LocalDateTime.of(2026, 3, 1, 19, 0), null, PageRequest.of(0, 10))
+        ).isInstanceOf(BusinessException.class)
+         .hasMessageContaining(SpaceErrorCode.INVALID_AVAILABILITY_WINDOW.getMessage());
+    }
+
+    @Test
+    @DisplayName("이용 가능 시간 조회 - 시간대를 저장소 조회에 넘기고 예약 변경 번호를 ETag에 포함")
+    void getSpaces_availabilityWindow() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2026, 3, 1, 19, 0);
+        LocalDateTime end = LocalDateTime.of(2026, 3, 1, 21, 0);
+        PageRequest pageable = PageRequest.of(0, 10);
+        given(spaceVersions.catalogVersion()).willReturn("1.3");
+        given(availabilityVersions.windowVersion(start, end)).willReturn("2.7");
+        given(spaceRepository.searchSpaces(null, null, null, null, start, end, pageable)).willReturn(Page.empty(pageable));
+
+        // when
+        Versioned<Page<SpaceListResponse>> result = spaceService.getSpaces(null, null, null, null, start, end, pageable);
+
+        // then
+        assertThat(result.version()).isEqualTo("1.3-2.7");
+        verify(spaceRepository).searchSpaces(null, null, null, null, start, end, pageable);
+    }
+
+    @Test
+    @DisplayName("패싯 조회 - 가용성 인덱스가 보관하지 않는 날짜는 DB의 점유 공간으로 거른다")
+    void getSpaceFacets_pastWindowUsesDatabase() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 19, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 1, 1, 21, 0);
+        SpaceFacetResponse facets = new SpaceFacetResponse(0, List.of(), List.of(), List.of());
+        given(spaceVersions.catalogVersion()).willReturn("1.3");
+        given(availabilityVersions.windowVersion(start, end)).willReturn("2.7");
+        given(availabilityIndex.covers(start.toLocalDate())).willReturn(false);
+        given(reservationRepository.findOccupiedSpaceIds(
+                List.of(ReservationStatus.CONFIRMED, ReservationStatus.HOLD), start, end)).willReturn(List.of(2L));
+        ArgumentCaptor<LongPredicate> available = ArgumentCaptor.forClass(LongPredicate.class);
+        given(spaceFacetIndex.count(eq(SpaceType.STUDY), isNull(), isNull(), isNull(), available.capture()))
+                .willReturn(facets);
+
+        // when
+        Versioned<SpaceFacetResponse> result = spaceService.getSpaceFacets(null, SpaceType.STUDY, null, null, start, end);
+
+        // then
+        assertThat(result.body()).isSameAs(facets);
+        assertThat(result.version()).isEqualTo("1.3-2.7");
+        assertThat(available.getValue().test(1L)).isTrue();
+        assertThat(available.getValue().test(2L)).isFalse();
+    }
+
     @Test
     @DisplayName("공간 삭제 성공")
     void deleteSpace_success() {
@@ -96,6 +178,7 @@ class SpaceServiceTest {
 
         // then
         verify(space).delete();
+        verify(spaceVersions).changed();
     }
 
     @Test
@@ -103,11 +186,90 @@ class SpaceServiceTest {
     void getSpaceDetail_notFound() {
         // given
         given(spaceRepository
-                .findByIdAndDeletedAtIsNullAndSpaceStatus(1L, SpaceStatus.OPEN))
+                .findOpenById(1L))
                 .willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> spaceService.getSpaceDetail(1L))
                 .isInstanceOf(BusinessException.class);
     }
+
+    @Test
+    @DisplayName("공간 생성 - 위도나 경도 하나만 입력하면 예외")
+    void createSpace_partialCoordinates() {
+        // given
+        CreateSpaceRequest request = new CreateSpaceRequest(
+                "강남 스터디룸", "설명", "img",
+                SpaceType.STUDY, 10000, "강남", 4, 37.4979, null
+        );
+
+        // when & then
+        assertThatThrownBy(() -> spaceService.createSpace(1L, request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(SpaceErrorCode.INVALID_COORDINATES.getMessage());
+    }
+
+    @Test
+    @DisplayName("공간 커서 조회 - 마지막 페이지면 다음 커서 없음")
+    void scrollSpaces_lastPage() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 1, 10, 0);
+        SpaceScrollRow row = new SpaceScrollRow(
+                5L, "강남 스터디룸", SpaceType.STUDY, 4, "서울시 강남구", 10000, null, createdAt.minusDays(1));
+        given(spaceLocationIndex.search("강남")).willReturn(List.of(7L));
+        given(spaceRepository.scrollSpacesByIdIn(List.of(7L), createdAt, 8L, null, null, null, PageRequest.ofSize(11)))
+                .willReturn(List.of(row));
+
+        // when
+        CursorResponse<SpaceListResponse> result = spaceService.scrollSpaces(
+                "강남", null, null, null, new Cursor(createdAt, 8L).encode(), 10);
+
+        // then
+        assertThat(result.content()).extracting(SpaceListResponse::id).containsExactly(5L);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("위치 후보가 너무 많으면 IN 목록 대신 LIKE 조회로 검색")
+    void getSpaces_tooManyLocationCandidates() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 10);
+        List<Long> spaceIds = LongStream.rangeClosed(1, SpaceLocationIndex.MAX_ID_CANDIDATES + 1).boxed().toList();
+        given(spaceVersions.catalogVersion()).willReturn("1.3");
+        given(spaceLocationIndex.search("서울")).willReturn(spaceIds);
+        given(spaceRepository.searchSpaces("서울", null, null, null, null, null, pageable))
+                .willReturn(Page.empty(pageable));
+
+        // when
+        spaceService.getSpaces("서울", null, null, null, null, null, pageable);
+
+        // then
+        verify(spaceRepository).searchSpaces("서울", null, null, null, null, null, pageable);
+        verify(spaceRepository, never()).searchSpacesByIdIn(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("주변 공간 조회 - 인덱스의 거리 순서를 유지하고 그 사이 닫힌 공간은 제외")
+    void getNearbySpaces_keepsDistanceOrder() {
+        // given
+        Space near = mock(Space.class);
+        Space far = mock(Space.class);
+        given(near.getId()).willReturn(2L);
+        given(far.getId()).willReturn(1L);
+        given(spaceGeoIndex.nearest(37.5, 127.0, 1000, null, null, null, 20)).willReturn(List.of(
+                new SpaceGeoIndex.Nearby(2L, 100),
+                new SpaceGeoIndex.Nearby(3L, 200),
+                new SpaceGeoIndex.Nearby(1L, 300)
+        ));
+        given(spaceRepository.findAllByIdInAndDeletedAtIsNullAndSpaceStatus(List.of(2L, 3L, 1L), SpaceStatus.OPEN))
+                .willReturn(List.of(far, near));
+
+        // when
+        List<NearbySpaceResponse> result = spaceService.getNearbySpaces(37.5, 127.0, 1000, null, null, null, 20);
+
+        // then
+        assertThat(result).extracting(NearbySpaceResponse::id).containsExactly(2L, 1L);
+        assertThat(result).extracting(NearbySpaceResponse::distanceMeters).containsExactly(100, 300);
+    }
 }
@@ -0,0 +1,61 @@
+package com.kjh.spacebook.domain.space.service;
+
+import com.kjh.spacebook.domain.space.entity.Space;
+import com.kjh.spacebook.domain.space.repository.SpaceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class SpaceVersionsTest {
+
+    @Mock SpaceRepository spaceRepository;
+
+    @InjectMocks SpaceVersions spaceVersions;
+
+    private final LocalDateTime updatedAt = LocalDateTime.of(2026, 3, 1, 10, 0, 0, 123_456_789);
+
+    @Test
+    @DisplayName("DB에서 확인한 버전과 읽은 공간의 버전이 같음 (마이크로초 단위)")
+    void detailVersion_matchesLoadedSpace() {
+        // given
+        Space space = mock(Space.class);
+        given(space.getId()).willReturn(1L);
+        given(space.getUpdatedAt()).willReturn(updatedAt);
+        given(spaceRepository.findOpenUpdatedAtById(1L)).willReturn(Optional.of(updatedAt.withNano(123_456_000)));
+
+        // when & then
+        assertThat(spaceVersions.detailVersion(1L)).isEqualTo(spaceVersions.of(space));
+    }
+
+    @Test
+    @DisplayName("닫혔거나 없는 공간은 버전 없음")
+    void detailVersion_notOpen() {
+        // given
+        given(spaceRepository.findOpenUpdatedAtById(1L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThat(spaceVersions.detailVersion(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 올린 목록 번호도 그대로 보임")
+    void catalogVersion_fromDatabase() {
+        // given
+        given(spaceRepository.findCatalogVersion()).willReturn(3L, 4L);
+
+        // when & then
+        assertThat(spaceVersions.catalogVersion()).isEqualTo("3");
+        assertThat(spaceVersions.catalogVersion()).isEqualTo("4");
+    }
+}